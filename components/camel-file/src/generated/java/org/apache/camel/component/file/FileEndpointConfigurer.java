@@ -59,6 +59,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "chmodDirectory": target.setChmodDirectory(property(camelContext, java.lang.String.class, value)); return true;
         case "copyanddeleteonrenamefail":
         case "copyAndDeleteOnRenameFail": target.setCopyAndDeleteOnRenameFail(property(camelContext, boolean.class, value)); return true;
+        case "copyusinghardlink":
+        case "copyUsingHardLink": target.setCopyUsingHardLink(property(camelContext, boolean.class, value)); return true;
         case "delay": target.setDelay(property(camelContext, long.class, value)); return true;
         case "delete": target.setDelete(property(camelContext, boolean.class, value)); return true;
         case "directorymustexist":
@@ -109,6 +111,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "includeHiddenDirs": target.setIncludeHiddenDirs(property(camelContext, boolean.class, value)); return true;
         case "includehiddenfiles":
         case "includeHiddenFiles": target.setIncludeHiddenFiles(property(camelContext, boolean.class, value)); return true;
+        case "incrementalscan":
+        case "incrementalScan": target.setIncrementalScan(property(camelContext, boolean.class, value)); return true;
         case "initialdelay":
         case "initialDelay": target.setInitialDelay(property(camelContext, long.class, value)); return true;
         case "jailstartingdirectory":
@@ -180,6 +184,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "repeatCount": target.setRepeatCount(property(camelContext, long.class, value)); return true;
         case "runlogginglevel":
         case "runLoggingLevel": target.setRunLoggingLevel(property(camelContext, org.apache.camel.LoggingLevel.class, value)); return true;
+        case "scanparallelism":
+        case "scanParallelism": target.setScanParallelism(property(camelContext, int.class, value)); return true;
         case "scheduledexecutorservice":
         case "scheduledExecutorService": target.setScheduledExecutorService(property(camelContext, java.util.concurrent.ScheduledExecutorService.class, value)); return true;
         case "scheduler": target.setScheduler(property(camelContext, java.lang.Object.class, value)); return true;
@@ -249,6 +255,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "chmodDirectory": return java.lang.String.class;
         case "copyanddeleteonrenamefail":
         case "copyAndDeleteOnRenameFail": return boolean.class;
+        case "copyusinghardlink":
+        case "copyUsingHardLink": return boolean.class;
         case "delay": return long.class;
         case "delete": return boolean.class;
         case "directorymustexist":
@@ -299,6 +307,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "includeHiddenDirs": return boolean.class;
         case "includehiddenfiles":
         case "includeHiddenFiles": return boolean.class;
+        case "incrementalscan":
+        case "incrementalScan": return boolean.class;
         case "initialdelay":
         case "initialDelay": return long.class;
         case "jailstartingdirectory":
@@ -370,6 +380,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "repeatCount": return long.class;
         case "runlogginglevel":
         case "runLoggingLevel": return org.apache.camel.LoggingLevel.class;
+        case "scanparallelism":
+        case "scanParallelism": return int.class;
         case "scheduledexecutorservice":
         case "scheduledExecutorService": return java.util.concurrent.ScheduledExecutorService.class;
         case "scheduler": return java.lang.Object.class;
@@ -440,6 +452,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "chmodDirectory": return target.getChmodDirectory();
         case "copyanddeleteonrenamefail":
         case "copyAndDeleteOnRenameFail": return target.isCopyAndDeleteOnRenameFail();
+        case "copyusinghardlink":
+        case "copyUsingHardLink": return target.isCopyUsingHardLink();
         case "delay": return target.getDelay();
         case "delete": return target.isDelete();
         case "directorymustexist":
@@ -490,6 +504,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "includeHiddenDirs": return target.isIncludeHiddenDirs();
         case "includehiddenfiles":
         case "includeHiddenFiles": return target.isIncludeHiddenFiles();
+        case "incrementalscan":
+        case "incrementalScan": return target.isIncrementalScan();
         case "initialdelay":
         case "initialDelay": return target.getInitialDelay();
         case "jailstartingdirectory":
@@ -561,6 +577,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "repeatCount": return target.getRepeatCount();
         case "runlogginglevel":
         case "runLoggingLevel": return target.getRunLoggingLevel();
+        case "scanparallelism":
+        case "scanParallelism": return target.getScanParallelism();
         case "scheduledexecutorservice":
         case "scheduledExecutorService": return target.getScheduledExecutorService();
         case "scheduler": return target.getScheduler();
@@ -24,7 +24,7 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> ENDPOINT_IDENTITY_PROPERTY_NAMES;
     private static final Map<String, String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(101);
+        Set<String> props = new HashSet<>(104);
         props.add("allowNullBody");
         props.add("antExclude");
         props.add("antFilterCaseSensitive");
@@ -44,6 +44,7 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("chmod");
         props.add("chmodDirectory");
         props.add("copyAndDeleteOnRenameFail");
+        props.add("copyUsingHardLink");
         props.add("delay");
         props.add("delete");
         props.add("directoryMustExist");
@@ -74,6 +75,7 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("includeExt");
         props.add("includeHiddenDirs");
         props.add("includeHiddenFiles");
+        props.add("incrementalScan");
         props.add("initialDelay");
         props.add("jailStartingDirectory");
         props.add("keepLastModified");
@@ -111,6 +113,7 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("renameUsingCopy");
         props.add("repeatCount");
         props.add("runLoggingLevel");
+        props.add("scanParallelism");
         props.add("scheduledExecutorService");
         props.add("scheduler");
         props.add("schedulerProperties");
@@ -21,6 +21,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -28,11 +29,17 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.Processor;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.component.file.consumer.DirectoryEntriesResumeAdapter;
 import org.apache.camel.component.file.consumer.FileOffsetResumeAdapter;
 import org.apache.camel.resume.ResumeAdapter;
@@ -54,6 +61,14 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
     private ResumeStrategy resumeStrategy;
     private final String endpointPath;
     private Set<String> extendedAttributes;
+    // the files not picked up on previous polls, which are skipped while unchanged
+    private final Map<String, ScannedFile> scanIndex;
+    private long scanGeneration;
+    // whether the scan index is used by the current poll, which is not the case for dynamic polls (poll enrich)
+    private boolean useScanIndex;
+    private ExecutorService scanPool;
+    // the directories listed in parallel for the current poll
+    private Map<File, File[]> scannedDirectories;
 
     public FileConsumer(FileEndpoint endpoint, Processor processor, GenericFileOperations<File> operations,
                         GenericFileProcessStrategy<File> processStrategy) {
@@ -64,6 +79,14 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
             List<String> attributes = Arrays.asList(endpoint.getExtendedAttributes().split(","));
             this.extendedAttributes = new HashSet<>(attributes);
         }
+        // the done file is checked among the files in the directory, and the fileName and filterFile expressions
+        // can evaluate differently on the next poll, so unchanged files cannot be skipped
+        if (endpoint.isIncrementalScan() && endpoint.getDoneFileName() == null && endpoint.getFileName() == null
+                && endpoint.getFilterFile() == null) {
+            this.scanIndex = new ConcurrentHashMap<>();
+        } else {
+            this.scanIndex = null;
+        }
     }
 
     @Override
@@ -166,6 +189,9 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
                     gf.get().setExtendedAttributes(allAttributes);
                 }
                 fileList.add(gf.get());
+            } else if (useScanIndex && !endpoint.getInProgressRepository().contains(file.getAbsolutePath())) {
+                // remember the file was not picked up, unless it is only being processed at the moment
+                scanIndex.put(file.getPath(), new ScannedFile(file.lastModified(), file.length(), scanGeneration));
             }
         }
     }
@@ -210,10 +236,73 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
             return true;
         }
 
-        return pollDirectory(dynamic, directory, fileList, depth);
+        scanGeneration++;
+        useScanIndex = scanIndex != null && dynamic == null;
+        if (scanPool != null) {
+            scanDirectories(directory, depth + 1);
+        }
+        try {
+            boolean answer = pollDirectory(dynamic, directory, fileList, depth);
+            if (answer && useScanIndex) {
+                // the whole directory tree has been polled, so remove the files that no longer exists
+                scanIndex.values().removeIf(scanned -> scanned.generation != scanGeneration);
+            }
+            return answer;
+        } finally {
+            scannedDirectories = null;
+        }
+    }
+
+    /**
+     * Lists the directory tree up front using the scan thread pool, one level of the tree at a time.
+     */
+    private void scanDirectories(File directory, int depth) {
+        scannedDirectories = new ConcurrentHashMap<>();
+        List<File> directories = List.of(directory);
+        while (!directories.isEmpty()) {
+            List<Callable<File[]>> tasks = new ArrayList<>(directories.size());
+            for (File dir : directories) {
+                tasks.add(() -> doListFiles(dir));
+            }
+            List<File> next = new ArrayList<>();
+            try {
+                List<Future<File[]>> futures = scanPool.invokeAll(tasks);
+                for (int i = 0; i < futures.size(); i++) {
+                    File[] files = futures.get(i).get();
+                    if (files == null || files.length == 0) {
+                        continue;
+                    }
+                    scannedDirectories.put(directories.get(i), files);
+                    if (endpoint.isRecursive() && depth < endpoint.getMaxDepth()) {
+                        for (File file : files) {
+                            if (file.isDirectory()) {
+                                next.add(file);
+                            }
+                        }
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // fallback to list the directories by the consumer thread
+                scannedDirectories = null;
+                return;
+            } catch (ExecutionException e) {
+                scannedDirectories = null;
+                throw RuntimeCamelException.wrapRuntimeException(e.getCause());
+            }
+            directories = next;
+            depth++;
+        }
     }
 
     private File[] listFiles(File directory) {
+        if (scannedDirectories != null) {
+            return scannedDirectories.get(directory);
+        }
+        return doListFiles(directory);
+    }
+
+    private File[] doListFiles(File directory) {
         if (!getEndpoint().isIncludeHiddenDirs() && directory.isHidden()) {
             return null;
         }
@@ -232,9 +321,25 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
             }
         }
 
+        if (useScanIndex) {
+            return skipUnchangedFiles(dirFiles);
+        }
         return dirFiles;
     }
 
+    private File[] skipUnchangedFiles(File[] files) {
+        List<File> answer = new ArrayList<>(files.length);
+        for (File file : files) {
+            ScannedFile scanned = scanIndex.get(file.getPath());
+            if (scanned != null && scanned.lastModified == file.lastModified() && scanned.length == file.length()) {
+                scanned.generation = scanGeneration;
+            } else {
+                answer.add(file);
+            }
+        }
+        return answer.size() == files.length ? files : answer.toArray(new File[0]);
+    }
+
     private void readAttributes(File file, Path path, Map<String, Object> allAttributes, String attribute) {
         try {
             String prefix = null;
@@ -403,6 +508,11 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
 
     @Override
     protected void doStart() throws Exception {
+        if (scanPool == null && getEndpoint().getScanParallelism() > 0) {
+            scanPool = getEndpoint().getCamelContext().getExecutorServiceManager().newFixedThreadPool(this, "FileScan",
+                    getEndpoint().getScanParallelism());
+        }
+
         if (resumeStrategy != null) {
             resumeStrategy.loadCache();
         }
@@ -431,6 +541,19 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         super.doStart();
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        if (scanPool != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(scanPool);
+            scanPool = null;
+        }
+        if (scanIndex != null) {
+            scanIndex.clear();
+        }
+    }
+
     private void tryCreateDirectory(File file) throws FileNotFoundException {
         if (getEndpoint().isAutoCreate()) {
             doCreateStartDirectory(file);
@@ -473,4 +596,16 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
     public String adapterFactoryService() {
         return "file-adapter-factory";
     }
+
+    private static final class ScannedFile {
+        private final long lastModified;
+        private final long length;
+        private volatile long generation;
+
+        private ScannedFile(long lastModified, long length, long generation) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.generation = generation;
+        }
+    }
 }
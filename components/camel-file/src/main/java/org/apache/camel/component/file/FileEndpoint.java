@@ -81,9 +81,15 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     private boolean probeContentType;
     @UriParam(label = "consumer,advanced")
     private String extendedAttributes;
+    @UriParam(label = "consumer,advanced")
+    private boolean incrementalScan;
+    @UriParam(label = "consumer,advanced")
+    private int scanParallelism;
     @UriParam(label = "producer,advanced", defaultValue = "true")
     private boolean forceWrites = true;
     @UriParam(label = "producer,advanced")
+    private boolean copyUsingHardLink;
+    @UriParam(label = "producer,advanced")
     private String chmod;
     @UriParam(label = "producer,advanced")
     private String chmodDirectory;
@@ -370,6 +376,21 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.forceWrites = forceWrites;
     }
 
+    public boolean isCopyUsingHardLink() {
+        return copyUsingHardLink;
+    }
+
+    /**
+     * Whether to write the file as a hard link to the source file, when the message body is a file on the same file
+     * system, such as from a file consumer. This avoids copying the file content, but the written file shares the
+     * content with the source file, so any later changes to the source file are also seen in the written file. Falls
+     * back to copying the file if the hard link cannot be created, and is not used when chmod is configured, as
+     * changing the permissions would also change the source file.
+     */
+    public void setCopyUsingHardLink(boolean copyUsingHardLink) {
+        this.copyUsingHardLink = copyUsingHardLink;
+    }
+
     public boolean isProbeContentType() {
         return probeContentType;
     }
@@ -395,6 +416,35 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.extendedAttributes = extendedAttributes;
     }
 
+    public boolean isIncrementalScan() {
+        return incrementalScan;
+    }
+
+    /**
+     * Whether the consumer should remember the files that were not picked up when polling, such as files excluded by
+     * the filters or already consumed by an idempotent consumer, and skip them on the following polls as long as their
+     * last modified timestamp and length are unchanged. This reduces the overhead of polling directories with many
+     * files where only a few files changes between polls. Only use this when the filters do not depend on the time or
+     * other files. Is not in use with the doneFileName, fileName or filterFile options, or when polling with a dynamic
+     * file name such as from poll enrich.
+     */
+    public void setIncrementalScan(boolean incrementalScan) {
+        this.incrementalScan = incrementalScan;
+    }
+
+    public int getScanParallelism() {
+        return scanParallelism;
+    }
+
+    /**
+     * The number of threads to use for listing the directories in parallel when polling recursively. The files are
+     * still validated and processed in the order of the directory tree by the consumer thread. Is by default 0, which
+     * lists the directories by the consumer thread.
+     */
+    public void setScanParallelism(int scanParallelism) {
+        this.scanParallelism = scanParallelism;
+    }
+
     /**
      * Chmod value must be between 000 and 777; If there is a leading digit like in 0755 we will ignore it.
      */
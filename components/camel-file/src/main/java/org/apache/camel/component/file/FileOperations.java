@@ -28,6 +28,7 @@ import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
@@ -367,7 +368,13 @@ public class FileOperations implements GenericFileOperations<File> {
     private void handleStreamAsFileSource(Exchange exchange, File file, InputStream is)
             throws InvalidPayloadException, IOException {
         if (is == null) {
-            is = exchange.getIn().getMandatoryBody(InputStream.class);
+            // a file body (such as when appending) is read using its file channel which can transfer directly to the file
+            final Object body = extractBodyFromExchange(exchange);
+            if (body instanceof File source && source.isFile()) {
+                is = new FileInputStream(source);
+            } else {
+                is = exchange.getIn().getMandatoryBody(InputStream.class);
+            }
         }
         writeFileByStream(is, file);
     }
@@ -512,7 +519,31 @@ public class FileOperations implements GenericFileOperations<File> {
         return FileUtil.renameFile(source, file, endpoint.isCopyAndDeleteOnRenameFail());
     }
 
+    private boolean writeFileByHardLink(File source, File target) {
+        try {
+            if (target.exists()) {
+                if (Files.isSameFile(source.toPath(), target.toPath())) {
+                    return false;
+                }
+                // a hard link cannot replace an existing file
+                Files.delete(target.toPath());
+            }
+            LOG.trace("writeFileByFile using hard link: {} -> {}", source, target);
+            Files.createLink(target.toPath(), source.toPath());
+            return true;
+        } catch (IOException | UnsupportedOperationException | SecurityException e) {
+            LOG.debug("Cannot create hard link: {} -> {} due to: {}. Will copy the file instead.", source, target,
+                    e.getMessage());
+            return false;
+        }
+    }
+
     private void writeFileByFile(File source, File target, Exchange exchange) throws IOException {
+        // hard links share the permissions with the source, so they cannot be used when chmod is configured
+        if (endpoint.isCopyUsingHardLink() && endpoint.getChmod() == null && writeFileByHardLink(source, target)) {
+            return;
+        }
+
         // in case we are using file locks as read-locks then we need to use
         // file channels for copying to support this
         String path = source.getAbsolutePath();
@@ -522,7 +553,7 @@ public class FileOperations implements GenericFileOperations<File> {
             try (FileOutputStream fos = new FileOutputStream(target);
                  FileChannel out = fos.getChannel()) {
                 LOG.trace("writeFileByFile using FileChannel: {} -> {}", source, target);
-                channel.transferTo(0, channel.size(), out);
+                transferFully(channel, 0, out);
             }
         } else {
             // use regular file copy
@@ -533,6 +564,15 @@ public class FileOperations implements GenericFileOperations<File> {
 
     private void writeFileByStream(InputStream in, File target) throws IOException {
         try (SeekableByteChannel out = prepareOutputFileChannel(target)) {
+            if (in instanceof FileInputStream fis) {
+                // transfer from the file channel which avoids copying the content through the heap
+                LOG.debug("Using FileChannel to write file: {}", target);
+                FileChannel channel = fis.getChannel();
+                transferFully(channel, channel.position(), out);
+                appendChars(out);
+                return;
+            }
+
             LOG.debug("Using InputStream to write file: {}", target);
             int size = endpoint.getBufferSize();
             byte[] buffer = new byte[size];
@@ -546,18 +586,36 @@ public class FileOperations implements GenericFileOperations<File> {
                 ((Buffer) byteBuffer).clear();
             }
 
-            boolean append = endpoint.getFileExist() == GenericFileExist.Append;
-            if (append && endpoint.getAppendChars() != null) {
-                byteBuffer = ByteBuffer.wrap(endpoint.getAppendChars().getBytes());
-                out.write(byteBuffer);
-                Buffer buf = byteBuffer;
-                buf.clear();
-            }
+            appendChars(out);
         } finally {
             IOHelper.close(in, target.getName(), LOG);
         }
     }
 
+    private void appendChars(WritableByteChannel out) throws IOException {
+        boolean append = endpoint.getFileExist() == GenericFileExist.Append;
+        if (append && endpoint.getAppendChars() != null) {
+            ByteBuffer byteBuffer = ByteBuffer.wrap(endpoint.getAppendChars().getBytes());
+            out.write(byteBuffer);
+        }
+    }
+
+    /**
+     * Transfers the content of the file channel from the given position to its end. A single transfer may transfer
+     * fewer bytes than requested, such as for files larger than 2GB.
+     */
+    private static void transferFully(FileChannel in, long position, WritableByteChannel out) throws IOException {
+        long size = in.size();
+        while (position < size) {
+            long transferred = in.transferTo(position, size - position, out);
+            if (transferred <= 0) {
+                // the file was truncated while transferring
+                break;
+            }
+            position += transferred;
+        }
+    }
+
     private void writeFileByReaderWithCharset(Reader in, File target, String charset) throws IOException {
         boolean append = endpoint.getFileExist() == GenericFileExist.Append;
         try (Writer out = Files.newBufferedWriter(target.toPath(), Charset.forName(charset), StandardOpenOption.WRITE,
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.netty;
 
+import java.io.File;
 import java.net.ConnectException;
 import java.net.InetSocketAddress;
 import java.net.NetworkInterface;
@@ -28,11 +29,13 @@ import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
 import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.DefaultFileRegion;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.epoll.Epoll;
 import io.netty.channel.epoll.EpollDatagramChannel;
@@ -47,6 +50,8 @@ import io.netty.channel.kqueue.KQueueSocketChannel;
 import io.netty.channel.socket.nio.NioDatagramChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.handler.codec.MessageToByteEncoder;
+import io.netty.handler.codec.MessageToMessageEncoder;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.util.AttributeKey;
 import io.netty.util.ReferenceCountUtil;
@@ -57,6 +62,7 @@ import org.apache.camel.CamelContextAware;
 import org.apache.camel.CamelExchangeException;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.WrappedFile;
 import org.apache.camel.spi.CamelLogger;
 import org.apache.camel.support.DefaultAsyncProducer;
 import org.apache.camel.support.ExchangeHelper;
@@ -87,6 +93,7 @@ public class NettyProducer extends DefaultAsyncProducer {
     private EventLoopGroup workerGroup;
     private volatile ObjectPool<ChannelFuture> pool;
     private NettyCamelStateCorrelationManager correlationManager;
+    private boolean fileRegion;
 
     public NettyProducer(NettyEndpoint nettyEndpoint, NettyConfiguration configuration) {
         super(nettyEndpoint);
@@ -184,6 +191,9 @@ public class NettyProducer extends DefaultAsyncProducer {
         }
         ServiceHelper.startService(correlationManager);
 
+        fileRegion = isFileRegionSupported();
+        LOG.debug("Sending file bodies using zero-copy file regions: {}", fileRegion);
+
         super.doStart();
     }
 
@@ -433,6 +443,17 @@ public class NettyProducer extends DefaultAsyncProducer {
      * @throws Exception is thrown if error getting the request body
      */
     protected Object getRequestBody(Exchange exchange) throws Exception {
+        if (fileRegion) {
+            File file = getFileBody(exchange);
+            if (file != null) {
+                // let netty transfer the file directly to the socket (sendfile) instead of reading it into a ByteBuf
+                DefaultFileRegion region = new DefaultFileRegion(file, 0, file.length());
+                // the channel releases the region (and closes the file) when written, and the body release callback
+                // releases it if it is not handed over to netty, as for any other reference counted body
+                return region;
+            }
+        }
+
         Object body = NettyPayloadHelper.getIn(getEndpoint(), exchange);
         if (body == null) {
             return null;
@@ -447,6 +468,48 @@ public class NettyProducer extends DefaultAsyncProducer {
         return body;
     }
 
+    private static File getFileBody(Exchange exchange) {
+        Object body = exchange.getIn().getBody();
+        if (body instanceof WrappedFile<?> wrappedFile) {
+            body = wrappedFile.getFile();
+        }
+        if (body instanceof File file && file.isFile()) {
+            return file;
+        }
+        return null;
+    }
+
+    /**
+     * Whether file bodies can be written as a {@link DefaultFileRegion}, which bypasses the encoders in the pipeline.
+     * This is only the case when the body would otherwise be sent as raw bytes, so the region must not skip any encoder
+     * that would encode the bytes, such as a length field prepender.
+     */
+    private boolean isFileRegionSupported() throws Exception {
+        if (!configuration.isUseByteBuf() || configuration.isTransferExchange() || configuration.isTextline()
+                || configuration.isSsl() || configuration.getClientInitializerFactory() != null || !isTcp()) {
+            return false;
+        }
+        for (ChannelHandler encoder : configuration.getEncodersAsList()) {
+            ChannelHandler handler = encoder;
+            if (handler instanceof ShareableChannelHandlerFactory factory) {
+                handler = factory.newChannelHandler();
+            }
+            if (handler instanceof MessageToMessageEncoder<?> messageEncoder) {
+                if (messageEncoder.acceptOutboundMessage(Unpooled.EMPTY_BUFFER)) {
+                    return false;
+                }
+            } else if (handler instanceof MessageToByteEncoder<?> byteEncoder) {
+                if (byteEncoder.acceptOutboundMessage(Unpooled.EMPTY_BUFFER)) {
+                    return false;
+                }
+            } else {
+                // unknown encoder which may encode the bytes
+                return false;
+            }
+        }
+        return true;
+    }
+
     protected EventLoopGroup getWorkerGroup() {
         // prefer using explicit configured thread pools
         EventLoopGroup wg = configuration.getWorkerGroup();
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty;
+
+import java.io.File;
+
+import io.netty.channel.DefaultFileRegion;
+import io.netty.util.ReferenceCountUtil;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+public class NettyFileRegionTcpTest extends BaseNettyTest {
+
+    @Test
+    public void testSendFileAsFileRegion() throws Exception {
+        MockEndpoint endpoint = getMockEndpoint("mock:results");
+        endpoint.expectedBodiesReceived("Hello World");
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Test
+    public void testFileRegionReleasedWhenWritten() throws Exception {
+        NettyEndpoint endpoint
+                = context.getEndpoint("netty:tcp://localhost:{{port}}?sync=false&useByteBuf=true", NettyEndpoint.class);
+        NettyProducer producer = (NettyProducer) endpoint.createProducer();
+        producer.start();
+        try {
+            Exchange exchange = new DefaultExchange(context);
+            exchange.getIn().setBody(new File("src/test/data/message1.txt"));
+
+            DefaultFileRegion region = assertInstanceOf(DefaultFileRegion.class, producer.getRequestBody(exchange));
+            assertEquals(1, region.refCnt());
+
+            // the channel releases the region once it has been written, which must close the file
+            region.open();
+            ReferenceCountUtil.release(region);
+            assertEquals(0, region.refCnt());
+            assertFalse(region.isOpen());
+        } finally {
+            producer.stop();
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("netty:tcp://localhost:{{port}}?sync=false")
+                        .to("mock:results");
+
+                // the file is transferred as raw bytes using a file region as the string encoder does not apply
+                from("file:src/test/data?noop=true&fileName=message1.txt")
+                        .to("netty:tcp://localhost:{{port}}?sync=false&useByteBuf=true");
+            }
+        };
+    }
+
+}
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.platform.http.vertx;
 
+import java.io.File;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
@@ -39,6 +40,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.NoTypeConversionAvailableException;
 import org.apache.camel.TypeConverter;
+import org.apache.camel.WrappedFile;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.support.ExceptionHelper;
 import org.apache.camel.support.MessageHelper;
@@ -80,11 +82,14 @@ public final class VertxPlatformHttpSupport {
         final Object body = getBody(message, muteExceptions, exchange);
 
         // set the content-length if it can be determined, or chunked encoding
-        final Integer length = determineContentLength(body);
-        if (length != null) {
-            response.putHeader("Content-Length", String.valueOf(length));
-        } else {
-            response.setChunked(true);
+        // (a file body is sent as a file which sets the content-length)
+        if (!(body instanceof File)) {
+            final Integer length = determineContentLength(body);
+            if (length != null) {
+                response.putHeader("Content-Length", String.valueOf(length));
+            } else {
+                response.setChunked(true);
+            }
         }
 
         // set the content type in the response.
@@ -102,7 +107,12 @@ public final class VertxPlatformHttpSupport {
         if (exception != null) {
             return handleExceptions(message, muteExceptions, exception, exchange);
         }
-        return message.getBody();
+        final Object body = message.getBody();
+        if (body instanceof WrappedFile<?> wrappedFile && wrappedFile.getFile() instanceof File file) {
+            // such as from a file consumer, which can be sent as a file
+            return file;
+        }
+        return body;
     }
 
     private static Object handleExceptions(Message message, boolean muteExceptions, Exception exception, Exchange exchange) {
@@ -196,6 +206,9 @@ public final class VertxPlatformHttpSupport {
                 promise.complete();
             } else if (body instanceof ByteBuffer bb) {
                 writeResponseAs(promise, ctx, bb);
+            } else if (body instanceof File file) {
+                // let vert.x transfer the file directly to the socket (sendfile)
+                ctx.response().sendFile(file.getPath()).onComplete(promise);
             } else {
                 writeResponseAsFallback(promise, camelExchange, body, ctx);
             }
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 
 public class VertxPlatformHttpFileResponseTest {
     @Test
@@ -48,6 +49,9 @@ public class VertxPlatformHttpFileResponseTest {
                     .get("/file")
                     .then()
                     .statusCode(200)
+                    // the file is sent as a file, which sets the content length instead of chunked encoding
+                    .header("Content-Length", is(String.valueOf(new File("src/test/resources/dummy.txt").length())))
+                    .header("Transfer-Encoding", nullValue())
                     .body(is("Hello World from this file"));
         } finally {
             context.stop();
@@ -75,6 +79,9 @@ public class VertxPlatformHttpFileResponseTest {
                     .get("/file")
                     .then()
                     .statusCode(200)
+                    // the file is sent as a file, which sets the content length instead of chunked encoding
+                    .header("Content-Length", is(String.valueOf(new File("src/test/resources/dummy.txt").length())))
+                    .header("Transfer-Encoding", nullValue())
                     .body(is("Hello World from this file"));
         } finally {
             context.stop();
@@ -41,10 +41,14 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
         case "exchangePattern": target.setExchangePattern(property(camelContext, org.apache.camel.ExchangePattern.class, value)); return true;
         case "failifnoconsumers":
         case "failIfNoConsumers": target.setFailIfNoConsumers(property(camelContext, boolean.class, value)); return true;
+        case "groupexchanges":
+        case "groupExchanges": target.setGroupExchanges(property(camelContext, boolean.class, value)); return true;
         case "lazystartproducer":
         case "lazyStartProducer": target.setLazyStartProducer(property(camelContext, boolean.class, value)); return true;
         case "limitconcurrentconsumers":
         case "limitConcurrentConsumers": target.setLimitConcurrentConsumers(property(camelContext, boolean.class, value)); return true;
+        case "maxmessagesperpoll":
+        case "maxMessagesPerPoll": target.setMaxMessagesPerPoll(property(camelContext, int.class, value)); return true;
         case "multipleconsumers":
         case "multipleConsumers": target.setMultipleConsumers(property(camelContext, boolean.class, value)); return true;
         case "offertimeout":
@@ -85,10 +89,14 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
         case "exchangePattern": return org.apache.camel.ExchangePattern.class;
         case "failifnoconsumers":
         case "failIfNoConsumers": return boolean.class;
+        case "groupexchanges":
+        case "groupExchanges": return boolean.class;
         case "lazystartproducer":
         case "lazyStartProducer": return boolean.class;
         case "limitconcurrentconsumers":
         case "limitConcurrentConsumers": return boolean.class;
+        case "maxmessagesperpoll":
+        case "maxMessagesPerPoll": return int.class;
         case "multipleconsumers":
         case "multipleConsumers": return boolean.class;
         case "offertimeout":
@@ -130,10 +138,14 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
         case "exchangePattern": return target.getExchangePattern();
         case "failifnoconsumers":
         case "failIfNoConsumers": return target.isFailIfNoConsumers();
+        case "groupexchanges":
+        case "groupExchanges": return target.isGroupExchanges();
         case "lazystartproducer":
         case "lazyStartProducer": return target.isLazyStartProducer();
         case "limitconcurrentconsumers":
         case "limitConcurrentConsumers": return target.isLimitConcurrentConsumers();
+        case "maxmessagesperpoll":
+        case "maxMessagesPerPoll": return target.getMaxMessagesPerPoll();
         case "multipleconsumers":
         case "multipleConsumers": return target.isMultipleConsumers();
         case "offertimeout":
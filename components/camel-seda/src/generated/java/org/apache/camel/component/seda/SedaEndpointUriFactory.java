@@ -24,7 +24,7 @@ public class SedaEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> ENDPOINT_IDENTITY_PROPERTY_NAMES;
     private static final Map<String, String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(21);
+        Set<String> props = new HashSet<>(23);
         props.add("blockWhenFull");
         props.add("bridgeErrorHandler");
         props.add("browseLimit");
@@ -34,8 +34,10 @@ public class SedaEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("exceptionHandler");
         props.add("exchangePattern");
         props.add("failIfNoConsumers");
+        props.add("groupExchanges");
         props.add("lazyStartProducer");
         props.add("limitConcurrentConsumers");
+        props.add("maxMessagesPerPoll");
         props.add("multipleConsumers");
         props.add("name");
         props.add("offerTimeout");
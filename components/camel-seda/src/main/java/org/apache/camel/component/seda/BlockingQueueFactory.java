@@ -40,4 +40,16 @@ public interface BlockingQueueFactory<E> {
      * @return New {@link java.util.concurrent.BlockingQueue}
      */
     BlockingQueue<E> create(int capacity);
+
+    /**
+     * Create a new {@link java.util.concurrent.BlockingQueue} with given name and capacity. Factories that keep state
+     * per queue, such as storing the queue on disk, can use the name to identify the queue.
+     *
+     * @param  name     the name of the queue
+     * @param  capacity the capacity, or <tt>0</tt> to use the default capacity
+     * @return          New {@link java.util.concurrent.BlockingQueue}
+     */
+    default BlockingQueue<E> create(String name, int capacity) {
+        return capacity > 0 ? create(capacity) : create();
+    }
 }
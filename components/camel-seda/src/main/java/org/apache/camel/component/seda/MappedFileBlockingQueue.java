@@ -0,0 +1,713 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.StreamCache;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.DefaultExchangeHolder;
+import org.apache.camel.support.DefaultExchangeHolderCodec;
+import org.apache.camel.support.UnitOfWorkHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A durable {@link BlockingQueue} of exchanges, which are stored in memory-mapped append-only segment files.
+ * <p/>
+ * The exchanges are marshalled using {@link DefaultExchangeHolder} and {@link DefaultExchangeHolderCodec}, and appended
+ * to the current segment file. The position of the next exchange to take is kept in a cursor file, so the exchanges
+ * that have not been taken are recovered when the queue is created again, such as after a restart or a crash. When all
+ * the exchanges in a segment have been taken, the segment file is recycled for writing, or deleted.
+ * <p/>
+ * As the exchanges are stored when added to the queue, the on completions of an exchange are done at that point, and
+ * the exchanges taken from the queue are new exchanges. This means the queue is meant for InOnly messaging. The message
+ * body must be serializable or supported by the codec, and stream cached bodies are stored as bytes.
+ */
+public class MappedFileBlockingQueue extends AbstractQueue<Exchange> implements BlockingQueue<Exchange>, Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MappedFileBlockingQueue.class);
+
+    private static final String SEGMENT_SUFFIX = ".segment";
+    private static final String FREE_SUFFIX = ".free";
+    private static final String CURSOR_FILE = "cursor";
+    // the number of segment files kept for reuse, when all their exchanges have been taken
+    private static final int MAX_FREE_SEGMENTS = 2;
+    // a record is the length, followed by state, exchange pattern, exchange id length, exchange id and data
+    private static final int LENGTH_SIZE = 4;
+    private static final int HEADER_SIZE = 4;
+    private static final int END_OF_SEGMENT = -1;
+    private static final byte LIVE = 0;
+    private static final byte REMOVED = 1;
+
+    private final CamelContext camelContext;
+    private final Path directory;
+    private final int capacity;
+    private final int segmentSize;
+    private final boolean sync;
+    private final boolean allowSerializedHeaders;
+    private final DefaultExchangeHolderCodec codec;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    // the first segment is read from, and the last segment is written to
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private final Deque<Path> freeSegments = new ArrayDeque<>();
+    private MappedByteBuffer cursor;
+    private long nextSegmentIndex;
+    private int readPosition;
+    private int writePosition;
+    private int count;
+    private boolean closed;
+
+    public MappedFileBlockingQueue(CamelContext camelContext, Path directory, int capacity, int segmentSize, boolean sync,
+                                   boolean allowSerializedHeaders, DefaultExchangeHolderCodec codec) throws IOException {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, was " + capacity);
+        }
+        if (segmentSize < 1024) {
+            throw new IllegalArgumentException("SegmentSize must be at least 1024 bytes, was " + segmentSize);
+        }
+        this.camelContext = camelContext;
+        this.directory = directory;
+        this.capacity = capacity;
+        this.segmentSize = segmentSize;
+        this.sync = sync;
+        this.allowSerializedHeaders = allowSerializedHeaders;
+        this.codec = codec;
+        recover();
+    }
+
+    /**
+     * The directory with the segment files of the queue
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * The capacity of the queue
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * The number of segment files in use
+     */
+    public int getSegmentCount() {
+        lock.lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(Exchange exchange) {
+        Record record = toRecord(exchange);
+        lock.lock();
+        try {
+            checkOpen();
+            if (count >= capacity) {
+                return false;
+            }
+            append(record);
+        } finally {
+            lock.unlock();
+        }
+        done(exchange);
+        return true;
+    }
+
+    @Override
+    public void put(Exchange exchange) throws InterruptedException {
+        offer(exchange, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public boolean offer(Exchange exchange, long timeout, TimeUnit unit) throws InterruptedException {
+        Record record = toRecord(exchange);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            checkOpen();
+            while (count >= capacity) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+                checkOpen();
+            }
+            append(record);
+        } finally {
+            lock.unlock();
+        }
+        done(exchange);
+        return true;
+    }
+
+    @Override
+    public Exchange poll() {
+        Record record;
+        lock.lock();
+        try {
+            if (closed || count == 0) {
+                return null;
+            }
+            record = takeRecord();
+        } finally {
+            lock.unlock();
+        }
+        return toExchange(record);
+    }
+
+    /**
+     * Takes the next exchange, waiting until one is available.
+     *
+     * @throws IllegalStateException if the queue is closed
+     * @throws InterruptedException  if interrupted, or the queue is closed while waiting
+     */
+    @Override
+    public Exchange take() throws InterruptedException {
+        Record record;
+        lock.lockInterruptibly();
+        try {
+            checkOpen();
+            while (count == 0) {
+                notEmpty.await();
+                if (closed) {
+                    throw new InterruptedException("Queue stored in directory " + directory + " closed while waiting");
+                }
+            }
+            record = takeRecord();
+        } finally {
+            lock.unlock();
+        }
+        return toExchange(record);
+    }
+
+    @Override
+    public Exchange poll(long timeout, TimeUnit unit) throws InterruptedException {
+        Record record;
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (closed || nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            if (closed) {
+                // the queue was closed while waiting, so there is nothing more to take
+                return null;
+            }
+            record = takeRecord();
+        } finally {
+            lock.unlock();
+        }
+        return toExchange(record);
+    }
+
+    @Override
+    public Exchange peek() {
+        List<Record> records = new ArrayList<>(1);
+        lock.lock();
+        try {
+            if (!closed) {
+                scan((segment, position, length) -> {
+                    records.add(readRecord(segment, position, length));
+                    return false;
+                });
+            }
+        } finally {
+            lock.unlock();
+        }
+        return records.isEmpty() ? null : toExchange(records.get(0));
+    }
+
+    @Override
+    public int drainTo(Collection<? super Exchange> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super Exchange> c, int maxElements) {
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        List<Record> records = new ArrayList<>();
+        lock.lock();
+        try {
+            while (!closed && count > 0 && records.size() < maxElements) {
+                records.add(takeRecord());
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (Record record : records) {
+            c.add(toExchange(record));
+        }
+        return records.size();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!(o instanceof Exchange exchange)) {
+            return false;
+        }
+        byte[] id = exchange.getExchangeId().getBytes(StandardCharsets.UTF_8);
+        boolean[] removed = new boolean[1];
+        lock.lock();
+        try {
+            if (!closed) {
+                scan((segment, position, length) -> {
+                    if (matches(segment, position, id)) {
+                        segment.buffer.put(position + LENGTH_SIZE, REMOVED);
+                        removed[0] = true;
+                        return false;
+                    }
+                    return true;
+                });
+                if (removed[0]) {
+                    count--;
+                    notFull.signal();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return removed[0];
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            readPosition = 0;
+            while (segments.size() > 1) {
+                recycleFirstSegment();
+            }
+            readPosition = writePosition;
+            count = 0;
+            updateCursor();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return capacity - count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the exchanges in the queue, which does not support removal.
+     */
+    @Override
+    public Iterator<Exchange> iterator() {
+        List<Record> records = new ArrayList<>();
+        lock.lock();
+        try {
+            if (!closed) {
+                scan((segment, position, length) -> records.add(readRecord(segment, position, length)));
+            }
+        } finally {
+            lock.unlock();
+        }
+        List<Exchange> answer = new ArrayList<>(records.size());
+        for (Record record : records) {
+            answer.add(toExchange(record));
+        }
+        return Collections.unmodifiableList(answer).iterator();
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (Segment segment : segments) {
+                segment.buffer.force();
+            }
+            cursor.force();
+            segments.clear();
+            cursor = null;
+            // wake up waiting threads, which will see the queue is closed
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        LOG.debug("Closed queue stored in directory: {}", directory);
+    }
+
+    @Override
+    public String toString() {
+        return "MappedFileBlockingQueue[directory=" + directory + ", size=" + size() + ", capacity=" + capacity + "]";
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Queue stored in directory " + directory + " is closed");
+        }
+    }
+
+    private Record toRecord(Exchange exchange) {
+        Object body = exchange.getMessage().getBody();
+        if (body instanceof StreamCache) {
+            // stream caches are not serializable, so store the content of the stream
+            exchange.getMessage().setBody(exchange.getMessage().getBody(byte[].class));
+        }
+        try {
+            DefaultExchangeHolder holder = DefaultExchangeHolder.marshal(exchange, true, allowSerializedHeaders);
+            return new Record(
+                    exchange.getPattern(), exchange.getExchangeId().getBytes(StandardCharsets.UTF_8), codec.encode(holder));
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error storing exchange in queue: " + directory, e);
+        }
+    }
+
+    private Exchange toExchange(Record record) {
+        try {
+            Exchange answer = new DefaultExchange(camelContext, record.pattern);
+            DefaultExchangeHolder.unmarshal(answer, codec.decode(record.data));
+            return answer;
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error reading exchange from queue: " + directory, e);
+        }
+    }
+
+    private static void done(Exchange exchange) {
+        // the exchange is stored, so the on completions of the exchange can be done
+        UnitOfWorkHelper.doneSynchronizations(exchange, exchange.getExchangeExtension().handoverCompletions());
+    }
+
+    private void append(Record record) {
+        int length = HEADER_SIZE + record.id.length + record.data.length;
+        // there must always be room for the length of the next record (or end of segment)
+        int size = LENGTH_SIZE + length + LENGTH_SIZE;
+        Segment segment = segments.getLast();
+        if (writePosition + size > segment.size) {
+            segment.buffer.putInt(writePosition, END_OF_SEGMENT);
+            try {
+                segment = newSegment(size);
+            } catch (IOException e) {
+                throw new RuntimeCamelException("Error creating segment in queue: " + directory, e);
+            }
+            writePosition = 0;
+        }
+
+        MappedByteBuffer buffer = segment.buffer;
+        int position = writePosition + LENGTH_SIZE;
+        buffer.put(position, LIVE);
+        buffer.put(position + 1, (byte) record.pattern.ordinal());
+        buffer.putShort(position + 2, (short) record.id.length);
+        buffer.put(position + HEADER_SIZE, record.id);
+        buffer.put(position + HEADER_SIZE + record.id.length, record.data);
+        int next = position + length;
+        buffer.putInt(next, 0);
+        // write the length last, so a record is only read when it has been written completely
+        buffer.putInt(writePosition, length);
+        if (sync) {
+            buffer.force(writePosition, next + LENGTH_SIZE - writePosition);
+        }
+        writePosition = next;
+        count++;
+        notEmpty.signal();
+    }
+
+    private Record takeRecord() {
+        while (true) {
+            Segment segment = segments.getFirst();
+            int length = segment.buffer.getInt(readPosition);
+            if (length == END_OF_SEGMENT) {
+                readPosition = 0;
+                recycleFirstSegment();
+                continue;
+            }
+            int position = readPosition;
+            readPosition += LENGTH_SIZE + length;
+            if (segment.buffer.get(position + LENGTH_SIZE) == LIVE) {
+                updateCursor();
+                count--;
+                notFull.signal();
+                return readRecord(segment, position, length);
+            }
+        }
+    }
+
+    private void scan(RecordVisitor visitor) {
+        int position = readPosition;
+        for (Segment segment : segments) {
+            while (true) {
+                int length = segment.buffer.getInt(position);
+                if (length == END_OF_SEGMENT) {
+                    break;
+                }
+                if (length == 0) {
+                    return;
+                }
+                if (segment.buffer.get(position + LENGTH_SIZE) == LIVE && !visitor.visit(segment, position, length)) {
+                    return;
+                }
+                position += LENGTH_SIZE + length;
+            }
+            position = 0;
+        }
+    }
+
+    private static Record readRecord(Segment segment, int position, int length) {
+        MappedByteBuffer buffer = segment.buffer;
+        int start = position + LENGTH_SIZE;
+        ExchangePattern pattern = ExchangePattern.values()[buffer.get(start + 1)];
+        int idLength = buffer.getShort(start + 2) & 0xFFFF;
+        byte[] id = new byte[idLength];
+        buffer.get(start + HEADER_SIZE, id);
+        byte[] data = new byte[length - HEADER_SIZE - idLength];
+        buffer.get(start + HEADER_SIZE + idLength, data);
+        return new Record(pattern, id, data);
+    }
+
+    private static boolean matches(Segment segment, int position, byte[] id) {
+        MappedByteBuffer buffer = segment.buffer;
+        int start = position + LENGTH_SIZE;
+        if ((buffer.getShort(start + 2) & 0xFFFF) != id.length) {
+            return false;
+        }
+        for (int i = 0; i < id.length; i++) {
+            if (buffer.get(start + HEADER_SIZE + i) != id[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void updateCursor() {
+        cursor.putLong(0, segments.getFirst().index);
+        cursor.putInt(8, readPosition);
+        if (sync) {
+            cursor.force();
+        }
+    }
+
+    private Segment newSegment(int minSize) throws IOException {
+        long index = nextSegmentIndex++;
+        Path file = directory.resolve(segmentName(index, SEGMENT_SUFFIX));
+        int size = Math.max(segmentSize, minSize);
+        Path free = size == segmentSize ? freeSegments.poll() : null;
+        if (free != null) {
+            Files.move(free, file);
+        }
+        Segment segment = new Segment(index, map(file, size), size);
+        // mark the segment as empty, as a recycled segment contains old records
+        segment.buffer.putInt(0, 0);
+        segments.addLast(segment);
+        LOG.trace("Created segment: {}", file);
+        return segment;
+    }
+
+    private void recycleFirstSegment() {
+        Segment segment = segments.removeFirst();
+        // the cursor must point to the next segment before the segment is recycled
+        updateCursor();
+        Path file = directory.resolve(segmentName(segment.index, SEGMENT_SUFFIX));
+        try {
+            if (segment.size == segmentSize && freeSegments.size() < MAX_FREE_SEGMENTS) {
+                Path free = directory.resolve(segmentName(segment.index, FREE_SUFFIX));
+                Files.move(file, free);
+                freeSegments.add(free);
+            } else {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            LOG.warn("Error recycling segment: {}. This exception is ignored.", file, e);
+        }
+    }
+
+    private void recover() throws IOException {
+        Files.createDirectories(directory);
+
+        TreeMap<Long, Path> files = new TreeMap<>();
+        try (Stream<Path> stream = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) stream::iterator) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(SEGMENT_SUFFIX)) {
+                    files.put(Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())), file);
+                } else if (name.endsWith(FREE_SUFFIX)) {
+                    if (freeSegments.size() < MAX_FREE_SEGMENTS && Files.size(file) == segmentSize) {
+                        freeSegments.add(file);
+                    } else {
+                        Files.delete(file);
+                    }
+                }
+            }
+        }
+
+        cursor = map(directory.resolve(CURSOR_FILE), 12);
+        long cursorIndex = cursor.getLong(0);
+        int cursorPosition = cursor.getInt(8);
+        for (Map.Entry<Long, Path> entry : files.entrySet()) {
+            long index = entry.getKey();
+            Path file = entry.getValue();
+            if (index < cursorIndex) {
+                // all the exchanges in the segment have been taken
+                Files.delete(file);
+            } else {
+                int size = (int) Files.size(file);
+                segments.addLast(new Segment(index, map(file, size), size));
+            }
+        }
+
+        if (segments.isEmpty()) {
+            nextSegmentIndex = cursorIndex;
+            newSegment(segmentSize);
+        } else {
+            nextSegmentIndex = segments.getLast().index + 1;
+            readPosition = segments.getFirst().index == cursorIndex ? cursorPosition : 0;
+            recoverRecords();
+        }
+        updateCursor();
+        LOG.debug("Recovered queue stored in directory: {} with {} exchanges in {} segments", directory, count,
+                segments.size());
+    }
+
+    private void recoverRecords() throws IOException {
+        int position = readPosition;
+        Iterator<Segment> it = segments.iterator();
+        Segment segment = it.next();
+        while (true) {
+            int length = segment.buffer.getInt(position);
+            if (length == END_OF_SEGMENT) {
+                if (!it.hasNext()) {
+                    throw new IOException("Missing segment after segment " + segment.index + " in directory: " + directory);
+                }
+                segment = it.next();
+                position = 0;
+            } else if (length == 0) {
+                break;
+            } else if (length < HEADER_SIZE || position + LENGTH_SIZE + length + LENGTH_SIZE > segment.size) {
+                throw new IOException(
+                        "Corrupt record at position " + position + " in segment " + segment.index + " in directory: "
+                                      + directory);
+            } else {
+                if (segment.buffer.get(position + LENGTH_SIZE) == LIVE) {
+                    count++;
+                }
+                position += LENGTH_SIZE + length;
+            }
+        }
+        writePosition = position;
+        // any segments after the segment being written to are empty, as a segment is only added when full
+        while (segments.getLast() != segment) {
+            Segment empty = segments.removeLast();
+            Files.deleteIfExists(directory.resolve(segmentName(empty.index, SEGMENT_SUFFIX)));
+        }
+        nextSegmentIndex = segment.index + 1;
+    }
+
+    private static MappedByteBuffer map(Path file, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            // the mapping remains valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private static String segmentName(long index, String suffix) {
+        return String.format("%020d%s", index, suffix);
+    }
+
+    @FunctionalInterface
+    private interface RecordVisitor {
+        boolean visit(Segment segment, int position, int length);
+    }
+
+    private static final class Segment {
+        private final long index;
+        private final MappedByteBuffer buffer;
+        private final int size;
+
+        private Segment(long index, MappedByteBuffer buffer, int size) {
+            this.index = index;
+            this.buffer = buffer;
+            this.size = size;
+        }
+    }
+
+    private static final class Record {
+        private final ExchangePattern pattern;
+        private final byte[] id;
+        private final byte[] data;
+
+        private Record(ExchangePattern pattern, byte[] id, byte[] data) {
+            this.pattern = pattern;
+            this.id = id;
+            this.data = data;
+        }
+    }
+}
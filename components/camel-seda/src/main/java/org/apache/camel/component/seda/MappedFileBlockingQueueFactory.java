@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.support.DefaultExchangeHolderCodec;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.StringHelper;
+
+/**
+ * Implementation of {@link BlockingQueueFactory} producing {@link MappedFileBlockingQueue}, which stores the exchanges
+ * in memory-mapped files, so the exchanges on the queue survives a restart or crash.
+ * <p/>
+ * Each queue is stored in a sub directory of the configured directory, named after the queue.
+ */
+public class MappedFileBlockingQueueFactory implements BlockingQueueFactory<Exchange>, CamelContextAware {
+
+    public static final String DEFAULT_DESERIALIZATION_FILTER
+            = "!java.net.**;java.**;org.apache.camel.**;maxdepth=20;maxrefs=10000;maxbytes=10485760;!*";
+
+    private CamelContext camelContext;
+    private String directory;
+    private int defaultCapacity = SedaConstants.QUEUE_SIZE;
+    private int segmentSize = 32 * 1024 * 1024;
+    private boolean sync;
+    private boolean allowSerializedHeaders;
+    private String deserializationFilter = DEFAULT_DESERIALIZATION_FILTER;
+    private DefaultExchangeHolderCodec codec = new DefaultExchangeHolderCodec();
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    /**
+     * The directory to store the queues in, where each queue is stored in a sub directory named after the queue.
+     */
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public int getDefaultCapacity() {
+        return defaultCapacity;
+    }
+
+    /**
+     * Capacity used when none provided
+     */
+    public void setDefaultCapacity(int defaultCapacity) {
+        this.defaultCapacity = defaultCapacity;
+    }
+
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * The size in bytes of the segment files, which are memory-mapped. An exchange larger than the segment size is
+     * stored in a segment file of its own.
+     */
+    public void setSegmentSize(int segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    public boolean isSync() {
+        return sync;
+    }
+
+    /**
+     * Whether to force the exchanges to be written to the storage device when added to the queue. By default, the
+     * exchanges are written by the operating system, which survives the JVM crashing but not the operating system
+     * crashing.
+     */
+    public void setSync(boolean sync) {
+        this.sync = sync;
+    }
+
+    public boolean isAllowSerializedHeaders() {
+        return allowSerializedHeaders;
+    }
+
+    /**
+     * Whether to store header and exchange property values that are serializable objects, other than the common value
+     * types.
+     */
+    public void setAllowSerializedHeaders(boolean allowSerializedHeaders) {
+        this.allowSerializedHeaders = allowSerializedHeaders;
+    }
+
+    public String getDeserializationFilter() {
+        return deserializationFilter;
+    }
+
+    /**
+     * Sets a deserialization filter while reading the header and exchange property values which are stored using Java
+     * serialization. See https://docs.oracle.com/en/java/javase/17/core/serialization-filtering1.html.
+     */
+    public void setDeserializationFilter(String deserializationFilter) {
+        this.deserializationFilter = deserializationFilter;
+    }
+
+    public DefaultExchangeHolderCodec getCodec() {
+        return codec;
+    }
+
+    /**
+     * The codec to write and read the exchanges, which allows to add codecs for message bodies.
+     */
+    public void setCodec(DefaultExchangeHolderCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public MappedFileBlockingQueue create() {
+        throw new UnsupportedOperationException("The name of the queue is required to create a queue stored on disk");
+    }
+
+    @Override
+    public MappedFileBlockingQueue create(int capacity) {
+        throw new UnsupportedOperationException("The name of the queue is required to create a queue stored on disk");
+    }
+
+    @Override
+    public MappedFileBlockingQueue create(String name, int capacity) {
+        ObjectHelper.notNull(camelContext, "camelContext");
+        ObjectHelper.notNull(directory, "directory");
+        // the queue is bounded, so an unbounded queue uses the default capacity
+        if (capacity <= 0 || capacity == Integer.MAX_VALUE) {
+            capacity = defaultCapacity;
+        }
+        // use the queue name without the scheme as the directory name
+        String dir = StringHelper.after(name, "://", name).replaceAll("[^A-Za-z0-9._-]", "_");
+        codec.setDeserializationFilter(deserializationFilter);
+        try {
+            return new MappedFileBlockingQueue(
+                    camelContext, Path.of(directory, dir), capacity, segmentSize, sync, allowSerializedHeaders, codec);
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+}
@@ -16,15 +16,18 @@
  */
 package org.apache.camel.component.seda;
 
+import java.io.Closeable;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 
+import org.apache.camel.CamelContextAware;
 import org.apache.camel.Component;
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.spi.Metadata;
 import org.apache.camel.support.DefaultComponent;
+import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.StringHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -190,14 +193,15 @@ public class SedaComponent extends DefaultComponent {
             // create queue
             BlockingQueue<Exchange> queue;
             BlockingQueueFactory<Exchange> queueFactory = customQueueFactory == null ? defaultQueueFactory : customQueueFactory;
+            CamelContextAware.trySetCamelContext(queueFactory, getCamelContext());
             if (size != null && size > 0) {
-                queue = queueFactory.create(size);
+                queue = queueFactory.create(key, size);
             } else {
                 if (getQueueSize() > 0) {
                     size = getQueueSize();
-                    queue = queueFactory.create(getQueueSize());
+                    queue = queueFactory.create(key, getQueueSize());
                 } else {
-                    queue = queueFactory.create();
+                    queue = queueFactory.create(key, 0);
                 }
             }
             log.debug("Created queue {} with size {}", key, size);
@@ -312,6 +316,7 @@ public class SedaComponent extends DefaultComponent {
 
     @Override
     protected void doStop() throws Exception {
+        getQueues().values().forEach(SedaComponent::closeQueue);
         getQueues().clear();
         customSize.clear();
         super.doStop();
@@ -332,8 +337,16 @@ public class SedaComponent extends DefaultComponent {
             if (ref.getCount() <= 0) {
                 // reference no longer needed so remove from queues
                 getQueues().remove(key);
+                closeQueue(ref);
             }
         }
     }
 
+    private static void closeQueue(QueueReference ref) {
+        // queues such as those stored on disk must be closed when no longer in use
+        if (ref.getQueue() instanceof Closeable closeable) {
+            IOHelper.close(closeable);
+        }
+    }
+
 }
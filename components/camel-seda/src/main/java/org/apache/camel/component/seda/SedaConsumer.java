@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.seda;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
@@ -27,6 +28,7 @@ import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangeExtension;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.Processor;
 import org.apache.camel.ShutdownRunningTask;
 import org.apache.camel.Suspendable;
@@ -49,15 +51,20 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
     private static final Logger LOG = LoggerFactory.getLogger(SedaConsumer.class);
 
     private final AtomicInteger taskCount = new AtomicInteger();
+    private final AtomicInteger drainedCount = new AtomicInteger();
     private volatile CountDownLatch latch;
     private volatile boolean shutdownPending;
     private volatile boolean forceShutdown;
     private ExecutorService executor;
     protected final int pollTimeout;
+    protected int maxMessagesPerPoll;
+    protected boolean groupExchanges;
 
     public SedaConsumer(SedaEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
         this.pollTimeout = endpoint.getPollTimeout();
+        this.maxMessagesPerPoll = endpoint.getMaxMessagesPerPoll();
+        this.groupExchanges = endpoint.isGroupExchanges();
     }
 
     protected int getPollTimeout() {
@@ -91,7 +98,8 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         if (getEndpoint().isPurgeWhenStopping()) {
             getEndpoint().purgeQueue();
         }
-        return getEndpoint().getQueue().size();
+        // include the exchanges drained from the queue which are not yet dispatched
+        return getEndpoint().getQueue().size() + drainedCount.get();
     }
 
     @Override
@@ -204,7 +212,15 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
                     LOG.trace("Polled queue {} with timeout {} ms. -> {}", ObjectHelper.getIdentityHashCode(queue), pollTimeout,
                             exchange);
                 }
-                if (exchange != null) {
+                if (exchange != null && maxMessagesPerPoll > 1) {
+                    // take the other waiting messages in one go, to avoid handing over each message from the queue
+                    List<Exchange> exchanges = new ArrayList<>(Math.min(maxMessagesPerPoll, 64));
+                    exchanges.add(exchange);
+                    queue.drainTo(exchanges, maxMessagesPerPoll - 1);
+                    // the drained exchanges are no longer on the queue but still pending until dispatched
+                    drainedCount.addAndGet(exchanges.size());
+                    processPolledExchanges(exchanges);
+                } else if (exchange != null) {
                     try {
                         // process the exchange (subclasses can override to dispatch to another thread)
                         processPolledExchange(exchange);
@@ -270,6 +286,110 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         }
     }
 
+    /**
+     * Process the exchanges polled from the queue in one go, which are either processed one by one marked as a batch,
+     * or as a single exchange when groupExchanges is enabled.
+     *
+     * @param exchanges the exchanges to process
+     */
+    protected void processPolledExchanges(List<Exchange> exchanges) {
+        int size = exchanges.size();
+        if (groupExchanges && size > 1) {
+            drainedCount.addAndGet(-size);
+            try {
+                processGroupedExchanges(exchanges);
+            } catch (Exception e) {
+                getExceptionHandler().handleException("Error processing exchange", exchanges.get(0), e);
+            }
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            if (i > 0 && !isDispatchAllowed()) {
+                // we are stopping or suspending, so put the remaining exchanges back on the queue
+                requeueExchanges(exchanges.subList(i, size));
+                return;
+            }
+            Exchange exchange = exchanges.get(i);
+            drainedCount.decrementAndGet();
+            if (size > 1) {
+                exchange.setProperty(ExchangePropertyKey.BATCH_INDEX, i);
+                exchange.setProperty(ExchangePropertyKey.BATCH_SIZE, size);
+                exchange.setProperty(ExchangePropertyKey.BATCH_COMPLETE, i == size - 1);
+            }
+            try {
+                processPolledExchange(exchange);
+            } catch (Exception e) {
+                getExceptionHandler().handleException("Error processing exchange", exchange, e);
+            }
+        }
+    }
+
+    /**
+     * Whether the next exchange drained from the queue can be dispatched, which is not the case when the consumer is
+     * being stopped or suspended.
+     */
+    protected boolean isDispatchAllowed() {
+        return isRunAllowed() && !isSuspending() && !isSuspended();
+    }
+
+    /**
+     * Puts the exchanges drained from the queue which are not dispatched back on the queue. If the queue is full then
+     * the exchange is processed instead, so it is not lost.
+     *
+     * @param exchanges the exchanges to put back on the queue
+     */
+    protected void requeueExchanges(List<Exchange> exchanges) {
+        BlockingQueue<Exchange> queue = getEndpoint().getQueue();
+        LOG.debug("Putting {} drained exchanges back on the queue as the consumer is stopping or suspending",
+                exchanges.size());
+        for (Exchange exchange : exchanges) {
+            boolean added = queue != null && queue.offer(exchange);
+            drainedCount.decrementAndGet();
+            if (!added) {
+                LOG.warn("Cannot put drained exchange back on the queue as the queue is full, processing exchange: {}",
+                        exchange.getExchangeId());
+                processPolledExchange(exchange);
+            }
+        }
+    }
+
+    /**
+     * Process the exchanges as a single exchange with the exchanges in a {@link List} as the message body. The
+     * exchanges are done when the grouped exchange is done.
+     *
+     * @param exchanges the exchanges to process
+     */
+    protected void processGroupedExchanges(List<Exchange> exchanges) throws Exception {
+        int size = exchanges.size();
+        List<Exchange> prepared = new ArrayList<>(size);
+        List<List<Synchronization>> completions = new ArrayList<>(size);
+        for (Exchange exchange : exchanges) {
+            Exchange answer = prepareExchange(exchange);
+            prepared.add(answer);
+            // handover completions, as we need to done this when the grouped exchange is done
+            completions.add(answer.getExchangeExtension().handoverCompletions());
+        }
+
+        Exchange grouped = getEndpoint().createExchange();
+        grouped.setProperty(ExchangePropertyKey.BATCH_SIZE, size);
+        grouped.getMessage().setBody(prepared);
+        prepareExchange(grouped);
+
+        sendToConsumers(grouped, doneSync -> {
+            for (int i = 0; i < size; i++) {
+                Exchange answer = prepared.get(i);
+                if (grouped.getException() != null && answer.getException() == null) {
+                    answer.setException(grouped.getException());
+                }
+                try {
+                    UnitOfWorkHelper.doneSynchronizations(answer, completions.get(i));
+                } finally {
+                    onProcessingDone(exchanges.get(i), answer);
+                }
+            }
+        });
+    }
+
     /**
      * Strategy to invoke when the exchange is done being processed.
      * <p/>
@@ -46,6 +46,7 @@ import org.apache.camel.spi.UriPath;
 import org.apache.camel.support.DefaultEndpoint;
 import org.apache.camel.support.PluginHelper;
 import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.util.StringHelper;
 import org.apache.camel.util.URISupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -107,6 +108,17 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
                             + "The concurrentConsumers option becomes a limit on max concurrent tasks (0 = unlimited). "
                             + "Requires virtual threads to be enabled via camel.threads.virtual.enabled=true.")
     private boolean virtualThreadPerTask;
+    @UriParam(label = "consumer,advanced", defaultValue = "1",
+              description = "The maximum number of messages a consumer thread takes from the queue per poll. Setting a higher value"
+                            + " allows the consumer thread to take the messages waiting on the queue in one go, which reduces the"
+                            + " overhead of handing over messages between threads at high rates. The messages are marked with the"
+                            + " batch index and size exchange properties. Is not in use when virtualThreadPerTask is enabled.")
+    private int maxMessagesPerPoll = 1;
+    @UriParam(label = "consumer,advanced",
+              description = "Whether to deliver the messages taken from the queue in the same poll as a single exchange, with the"
+                            + " exchanges in a java.util.List as the message body. This requires maxMessagesPerPoll to be higher"
+                            + " than 1, and should only be used for InOnly messages, as the caller does not receive a reply.")
+    private boolean groupExchanges;
 
     @UriParam(label = "producer", defaultValue = "IfReplyExpected",
               description = "Option to specify whether the caller should wait for the async task to complete or not before continuing. The"
@@ -256,11 +268,10 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
     }
 
     protected BlockingQueue<Exchange> createQueue() {
-        if (size > 0) {
-            return queueFactory.create(size);
-        } else {
-            return queueFactory.create();
-        }
+        // name the queue after the endpoint uri without options (same as the queue key used by the component)
+        // so factories that need a name, such as the mapped file factory, can be used without a component
+        String name = StringHelper.before(getEndpointUri(), "?", getEndpointUri());
+        return queueFactory.create(name, size);
     }
 
     /**
@@ -553,6 +564,35 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
         this.virtualThreadPerTask = virtualThreadPerTask;
     }
 
+    @ManagedAttribute
+    public int getMaxMessagesPerPoll() {
+        return maxMessagesPerPoll;
+    }
+
+    /**
+     * The maximum number of messages a consumer thread takes from the queue per poll. Setting a higher value allows the
+     * consumer thread to take the messages waiting on the queue in one go, which reduces the overhead of handing over
+     * messages between threads at high rates. The messages are marked with the batch index and size exchange
+     * properties. Is not in use when virtualThreadPerTask is enabled.
+     */
+    public void setMaxMessagesPerPoll(int maxMessagesPerPoll) {
+        this.maxMessagesPerPoll = maxMessagesPerPoll;
+    }
+
+    @ManagedAttribute
+    public boolean isGroupExchanges() {
+        return groupExchanges;
+    }
+
+    /**
+     * Whether to deliver the messages taken from the queue in the same poll as a single exchange, with the exchanges in
+     * a java.util.List as the message body. This requires maxMessagesPerPoll to be higher than 1, and should only be
+     * used for InOnly messages, as the caller does not receive a reply.
+     */
+    public void setGroupExchanges(boolean groupExchanges) {
+        this.groupExchanges = groupExchanges;
+    }
+
     @ManagedAttribute
     public boolean isPurgeWhenStopping() {
         return purgeWhenStopping;
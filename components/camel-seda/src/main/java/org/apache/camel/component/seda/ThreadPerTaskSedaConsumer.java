@@ -58,6 +58,8 @@ public class ThreadPerTaskSedaConsumer extends SedaConsumer {
         // Use concurrentConsumers as the max concurrent tasks limit
         // 0 means unlimited (the most common case for virtual threads)
         this.maxConcurrentTasks = endpoint.getConcurrentConsumers();
+        // a permit is acquired per message, so take one message at a time
+        this.maxMessagesPerPoll = 1;
     }
 
     @Override
@@ -18,6 +18,7 @@ package org.apache.camel.processor.aggregate.zipfile;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.FileSystem;
@@ -36,6 +37,7 @@ import org.apache.camel.component.file.FileConsumer;
 import org.apache.camel.component.file.GenericFile;
 import org.apache.camel.component.file.GenericFileMessage;
 import org.apache.camel.component.file.GenericFileOperationFailedException;
+import org.apache.camel.converter.stream.MappedFileRegion;
 import org.apache.camel.spi.Configurer;
 import org.apache.camel.spi.Metadata;
 import org.apache.camel.spi.Synchronization;
@@ -235,6 +237,8 @@ public class ZipAggregationStrategy implements AggregationStrategy {
 
         if (body instanceof File appendFile) {
             appendFileToZip(newExchange, appendFile, zipFile);
+        } else if (body instanceof MappedFileRegion region) {
+            appendRegionToZip(newExchange, region, zipFile, charset);
         } else {
             appendIncomingBodyAsBytesToZip(newExchange, zipFile, charset);
         }
@@ -262,6 +266,23 @@ public class ZipAggregationStrategy implements AggregationStrategy {
         }
     }
 
+    private void appendRegionToZip(Exchange newExchange, MappedFileRegion region, File zipFile, String charset) {
+        try {
+            // try to append empty data only when explicit set
+            if (this.allowEmptyFiles || region.getLength() > 0) {
+                String entryName = useFilenameHeader
+                        ? newExchange.getIn().getHeader(Exchange.FILE_NAME, String.class)
+                        : newExchange.getIn().getMessageId();
+                // stream the region into the zip instead of loading it into memory
+                try (InputStream is = region.newInputStream()) {
+                    addEntryToZip(zipFile, entryName, is, charset);
+                }
+            }
+        } catch (Exception e) {
+            throw new GenericFileOperationFailedException(e.getMessage(), e);
+        }
+    }
+
     private void appendFileToZip(Exchange newExchange, File appendFile, File zipFile) {
         try {
             // try to append empty data only when explicit set
@@ -336,6 +357,21 @@ public class ZipAggregationStrategy implements AggregationStrategy {
         }
     }
 
+    private void addEntryToZip(File zipFile, String entryName, InputStream is, String charset)
+            throws IOException, URISyntaxException {
+        Map<String, Object> env = new HashMap<>();
+        env.put("encoding", charset);
+        env.put("useTempFile", this.useTempFile); //Intentionally boolean, it is implemented this way in ZipFileSystem
+        try (FileSystem fs = FileSystems.newFileSystem(getZipURI(zipFile), env)) {
+            Path dest = fs.getPath("/", entryName);
+            Path parent = dest.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+                Files.copy(is, dest, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
     private static URI getZipURI(File zipFile) throws URISyntaxException {
         return new URI("jar", zipFile.toURI().toString(), null);
     }
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate.zipfile;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.converter.stream.MappedFileRegion;
+import org.apache.camel.test.junit6.CamelTestSupport;
+import org.apache.camel.util.IOHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.test.junit6.TestSupport.deleteDirectory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AggregationStrategyWithMappedFileRegionTest extends CamelTestSupport {
+
+    private static final String TEST_DIR = "target/out_AggregationStrategyWithMappedFileRegionTest";
+    private static final String SOURCE_DIR = "target/in_AggregationStrategyWithMappedFileRegionTest";
+
+    @BeforeEach
+    public void deleteTestDirs() {
+        deleteDirectory(TEST_DIR);
+        deleteDirectory(SOURCE_DIR);
+    }
+
+    @Test
+    public void testMappedFileRegion() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:aggregateToZipEntry");
+        mock.expectedMessageCount(1);
+
+        Path source = Path.of(SOURCE_DIR, "source.txt");
+        Files.createDirectories(source.getParent());
+        Files.writeString(source, "Hello World");
+
+        // only the first word of the file
+        template.sendBodyAndHeader("direct:start", new MappedFileRegion(source, 0, 5), Exchange.FILE_NAME, "hello");
+        MockEndpoint.assertIsSatisfied(context);
+
+        File[] files = new File(TEST_DIR).listFiles();
+        assertNotNull(files);
+        assertTrue(files.length > 0, "Should be a file in " + TEST_DIR + " directory");
+
+        final ZipFile file = new ZipFile(files[0]);
+        try {
+            ZipEntry entry = file.getEntry("hello");
+            assertNotNull(entry, "Zip file should contain the entry hello");
+            String content = new String(file.getInputStream(entry).readAllBytes(), StandardCharsets.UTF_8);
+            assertEquals("Hello", content);
+        } finally {
+            IOHelper.close(file);
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .aggregate(new ZipAggregationStrategy(false, true))
+                        .constant(true)
+                        .completionTimeout(50)
+                        .to("file:" + TEST_DIR)
+                        .to("mock:aggregateToZipEntry");
+            }
+        };
+
+    }
+}
@@ -91,6 +91,40 @@ public interface AggregationStrategy {
         return aggregate(oldExchange, newExchange);
     }
 
+    /**
+     * Indicates if this aggregation strategy is associative, which allows the Multicast and Splitter EIPs to aggregate
+     * the exchanges processed in parallel as partial aggregates in the worker threads, which are then combined using
+     * {@link #combine(Exchange, Exchange)}, instead of aggregating the exchanges one by one.
+     * <p/>
+     * The strategy must be thread-safe and combining the partial aggregates must give the same result as aggregating
+     * the exchanges one by one in order.
+     *
+     * @return <tt>true</tt> if this strategy is associative and implements {@link #combine(Exchange, Exchange)}, or
+     *         <tt>false</tt> otherwise.
+     * @since  4.21
+     */
+    default boolean isAssociative() {
+        return false;
+    }
+
+    /**
+     * Combines a partial aggregate with an aggregated exchange. This callback will only be called if
+     * {@link #isAssociative()} returns <tt>true</tt>.
+     * <p/>
+     * The <tt>partialExchange</tt> has been used as the <tt>oldExchange</tt> when aggregating the exchanges that
+     * follows it, and has just been aggregated itself as the <tt>newExchange</tt> into the given <tt>exchange</tt>.
+     * This method must move the data aggregated on the <tt>partialExchange</tt> to the end of the data aggregated on
+     * the <tt>exchange</tt>.
+     *
+     * @param  exchange        the aggregated exchange
+     * @param  partialExchange the partial aggregate to append to the aggregated exchange
+     * @return                 the combined exchange, favor returning the given <tt>exchange</tt>
+     * @since                  4.21
+     */
+    default Exchange combine(Exchange exchange, Exchange partialExchange) {
+        throw new UnsupportedOperationException("AggregationStrategy " + this + " is not associative");
+    }
+
     /**
      * Indicates if this aggregation strategy uses pre-completion mode.
      *
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A specialized {@link AggregationRepository} which is given the incoming exchange (delta) that has been aggregated
+ * into the correlation group, which allows to store the deltas instead of storing the full aggregated exchange on every
+ * aggregation.
+ * <p/>
+ * The aggregator will use the {@link #add(CamelContext, String, Exchange, Exchange)} method instead of
+ * {@link #add(CamelContext, String, Exchange)}, and configure the {@link AggregationStrategy} in use, which the
+ * repository can use for aggregating the stored deltas, such as when recovering.
+ *
+ * @since 4.21
+ */
+public interface DeltaAggregationRepository extends AggregationRepository {
+
+    /**
+     * Sets the aggregation strategy used by the aggregator, which is called by the aggregator when it starts.
+     *
+     * @param aggregationStrategy the aggregation strategy
+     */
+    void setAggregationStrategy(AggregationStrategy aggregationStrategy);
+
+    /**
+     * Add the given {@link Exchange} under the correlation key, which is the result of aggregating the delta into the
+     * correlation group.
+     *
+     * @param  camelContext the current CamelContext
+     * @param  key          the correlation key
+     * @param  exchange     the aggregated exchange
+     * @param  delta        the incoming exchange that was aggregated into the existing correlation group, or
+     *                      <tt>null</tt> if the aggregated exchange must be stored as-is, such as for a new correlation
+     *                      group
+     * @return              the old exchange if any existed
+     */
+    @Nullable
+    Exchange add(CamelContext camelContext, String key, Exchange exchange, @Nullable Exchange delta);
+
+}
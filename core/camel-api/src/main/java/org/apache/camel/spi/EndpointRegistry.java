@@ -54,6 +54,27 @@ public interface EndpointRegistry extends Map<NormalizedEndpointUri, Endpoint>,
      */
     int getMaximumCacheSize();
 
+    /**
+     * Number of lookups that found the endpoint in the dynamic registry
+     */
+    default long getHits() {
+        return 0;
+    }
+
+    /**
+     * Number of lookups that did not find the endpoint in the dynamic registry
+     */
+    default long getMisses() {
+        return 0;
+    }
+
+    /**
+     * Number of endpoints evicted from the dynamic registry
+     */
+    default long getEvicted() {
+        return 0;
+    }
+
     /**
      * Purges the cache (removes endpoints from the dynamic cache)
      */
@@ -52,6 +52,29 @@ public interface PooledObjectFactory<T> extends Service, CamelContextAware {
          */
         long getDiscardedCounter();
 
+        /**
+         * Number of exchanges currently in use (created or acquired, but not yet released or discarded).
+         * <p/>
+         * This number should not keep growing while the load is stable, as that indicates a leak where exchanges are
+         * not released back to the pool.
+         */
+        default long getInUseCounter() {
+            long answer = getCreatedCounter() + getAcquiredCounter() - getReleasedCounter() - getDiscardedCounter();
+            return Math.max(0, answer);
+        }
+
+        /**
+         * Percentage (0-100) of the exchanges that have been reused from the pool instead of being created new.
+         */
+        default double getReuseRate() {
+            long acquired = getAcquiredCounter();
+            long total = getCreatedCounter() + acquired;
+            if (total == 0) {
+                return 0;
+            }
+            return acquired * 100d / total;
+        }
+
         /**
          * Reset the counters
          */
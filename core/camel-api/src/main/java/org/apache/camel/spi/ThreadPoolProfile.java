@@ -43,6 +43,7 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
     private @Nullable Integer maxQueueSize;
     private @Nullable Boolean allowCoreThreadTimeOut;
     private @Nullable ThreadPoolRejectedPolicy rejectedPolicy;
+    private @Nullable Boolean virtualThreadsBoundedByMaxPoolSize;
 
     /**
      * Creates a new thread pool profile, with no id set.
@@ -237,6 +238,27 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
         this.rejectedPolicy = rejectedPolicy;
     }
 
+    /**
+     * Gets whether a thread pool using virtual threads without a work queue is bounded by the maximum pool size
+     *
+     * @return whether bounded by the maximum pool size
+     */
+    public @Nullable Boolean getVirtualThreadsBoundedByMaxPoolSize() {
+        return virtualThreadsBoundedByMaxPoolSize;
+    }
+
+    /**
+     * Sets whether a thread pool using virtual threads without a work queue (max queue size is 0 or negative) should
+     * limit the number of concurrent tasks to the maximum pool size, like a thread pool with platform threads does.
+     * <p/>
+     * Is by default <tt>false</tt>, as pool sizes do not apply to virtual threads, and such a thread pool is unbounded.
+     *
+     * @param virtualThreadsBoundedByMaxPoolSize <tt>true</tt> to bound by the maximum pool size
+     */
+    public void setVirtualThreadsBoundedByMaxPoolSize(@Nullable Boolean virtualThreadsBoundedByMaxPoolSize) {
+        this.virtualThreadsBoundedByMaxPoolSize = virtualThreadsBoundedByMaxPoolSize;
+    }
+
     /**
      * Overwrites each attribute that is null with the attribute from defaultProfile
      *
@@ -267,11 +289,15 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
         if (rejectedPolicy == null) {
             rejectedPolicy = defaultProfile.getRejectedPolicy();
         }
+        if (virtualThreadsBoundedByMaxPoolSize == null) {
+            virtualThreadsBoundedByMaxPoolSize = defaultProfile.getVirtualThreadsBoundedByMaxPoolSize();
+        }
     }
 
     public boolean isEmpty() {
         return poolSize == null && maxPoolSize == null && keepAliveTime == null && timeUnit == null
-                && maxQueueSize == null && allowCoreThreadTimeOut == null && rejectedPolicy == null;
+                && maxQueueSize == null && allowCoreThreadTimeOut == null && rejectedPolicy == null
+                && virtualThreadsBoundedByMaxPoolSize == null;
     }
 
     @Override
@@ -286,6 +312,7 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
         cloned.setAllowCoreThreadTimeOut(allowCoreThreadTimeOut);
         cloned.setRejectedPolicy(rejectedPolicy);
         cloned.setTimeUnit(timeUnit);
+        cloned.setVirtualThreadsBoundedByMaxPoolSize(virtualThreadsBoundedByMaxPoolSize);
         return cloned;
     }
 
@@ -293,7 +320,8 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
     public String toString() {
         return "ThreadPoolProfile[" + id + " (" + defaultProfile + ") size:" + poolSize + "-" + maxPoolSize
                + ", keepAlive:" + keepAliveTime + " " + timeUnit + ", maxQueue:" + maxQueueSize
-               + ", allowCoreThreadTimeOut:" + allowCoreThreadTimeOut + ", rejectedPolicy:" + rejectedPolicy + "]";
+               + ", allowCoreThreadTimeOut:" + allowCoreThreadTimeOut + ", rejectedPolicy:" + rejectedPolicy
+               + ", virtualThreadsBoundedByMaxPoolSize:" + virtualThreadsBoundedByMaxPoolSize + "]";
     }
 
 }
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+/**
+ * Repository for the state of the <a href="https://camel.apache.org/components/next/eips/throttle-eip.html">Throttle
+ * EIP</a>, which allows several Camel applications (such as a route scaled out to many pods) to share the same rate
+ * limit.
+ * <p/>
+ * The repository counts the permits that have been granted in fixed time windows of the throttling time period, which
+ * are aligned to the epoch (the window number is {@code System.currentTimeMillis() / timePeriodMillis}), so all nodes
+ * agree on when a window starts without having to coordinate. The throttler acquires permits in batches (leases) so it
+ * does not need to call the repository for every exchange.
+ * <p/>
+ * If the repository is a {@link org.apache.camel.Service} then the throttler will start and stop it.
+ *
+ * @since 4.21
+ */
+public interface ThrottlingStateRepository {
+
+    /**
+     * Acquires up to the given number of permits from the current time window of the throttling state with the given
+     * key.
+     *
+     * @param  key              the key of the throttling state, such as the correlation key
+     * @param  maxRequests      the maximum number of requests allowed per time window
+     * @param  timePeriodMillis the length of the time window in millis
+     * @param  permits          the number of permits wanted
+     * @return                  the number of permits granted, between 0 and the wanted number of permits
+     */
+    int acquirePermits(String key, int maxRequests, long timePeriodMillis, int permits);
+
+    /**
+     * The number of permits the throttler should acquire in a single call to
+     * {@link #acquirePermits(String, int, long, int)}. Remote repositories should use a higher number to avoid a remote
+     * call per exchange, at the cost of permits leased to a node which are not used within the time window being lost.
+     */
+    default int getPermitsBatchSize() {
+        return 1;
+    }
+
+}
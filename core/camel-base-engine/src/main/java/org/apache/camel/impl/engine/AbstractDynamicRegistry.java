@@ -171,6 +171,18 @@ public class AbstractDynamicRegistry<K, V> extends AbstractMap<K, V> implements
         return maxCacheSize;
     }
 
+    public long getHits() {
+        return dynamicMap instanceof LRUCache<K, V> cache ? cache.getHits() : 0;
+    }
+
+    public long getMisses() {
+        return dynamicMap instanceof LRUCache<K, V> cache ? cache.getMisses() : 0;
+    }
+
+    public long getEvicted() {
+        return dynamicMap instanceof LRUCache<K, V> cache ? cache.getEvicted() : 0;
+    }
+
     public void purge() {
         // only purge the dynamic part
         dynamicMap.clear();
@@ -20,6 +20,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.LongAdder;
@@ -43,7 +44,9 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
     private static final Logger LOG = LoggerFactory.getLogger(DefaultInflightRepository.class);
 
     private final LongAdder size = new LongAdder();
-    private final ConcurrentMap<String, Exchange> inflight = new ConcurrentHashMap<>();
+    // keyed by the exchange instance (identity) so we do not need to generate the exchange id on the hot path,
+    // and exchange copies with the same id are tracked individually
+    private final Set<Exchange> inflight = ConcurrentHashMap.newKeySet();
     private final ConcurrentMap<String, LongAdder> routeCount = new ConcurrentHashMap<>();
     private boolean inflightExchangeEnabled;
 
@@ -52,7 +55,7 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
         size.increment();
 
         if (inflightExchangeEnabled) {
-            inflight.put(exchange.getExchangeId(), exchange);
+            inflight.add(exchange);
         }
     }
 
@@ -61,7 +64,7 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
         size.decrement();
 
         if (inflightExchangeEnabled) {
-            inflight.remove(exchange.getExchangeId());
+            inflight.remove(exchange);
         }
     }
 
@@ -136,10 +139,10 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
         Stream<Exchange> values;
         if (fromRouteId == null) {
             // all values
-            values = inflight.values().stream();
+            values = inflight.stream();
         } else {
             // only if route match
-            values = inflight.values().stream()
+            values = inflight.stream()
                     .filter(e -> fromRouteId.equals(e.getFromRouteId()));
         }
 
@@ -169,30 +172,20 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
             return null;
         }
 
-        Stream<Exchange> values;
-
-        if (fromRouteId == null) {
-            // all values
-            values = inflight.values().stream();
-        } else {
-            // only if route match
-            values = inflight.values().stream()
-                    .filter(e -> fromRouteId.equals(e.getFromRouteId()));
+        // single pass to find the exchange with the longest duration (no need to sort all the inflight exchanges)
+        Exchange oldest = null;
+        long max = Long.MIN_VALUE;
+        for (Exchange exchange : inflight) {
+            if (fromRouteId == null || fromRouteId.equals(exchange.getFromRouteId())) {
+                long duration = getExchangeDuration(exchange);
+                if (oldest == null || duration > max) {
+                    oldest = exchange;
+                    max = duration;
+                }
+            }
         }
 
-        // sort by duration and grab the first
-        Exchange first = values.sorted((e1, e2) -> {
-            long d1 = getExchangeDuration(e1);
-            long d2 = getExchangeDuration(e2);
-            // need the biggest number first
-            return -1 * Long.compare(d1, d2);
-        }).findFirst().orElse(null);
-
-        if (first != null) {
-            return new InflightExchangeEntry(first);
-        } else {
-            return null;
-        }
+        return oldest != null ? new InflightExchangeEntry(oldest) : null;
     }
 
     @Override
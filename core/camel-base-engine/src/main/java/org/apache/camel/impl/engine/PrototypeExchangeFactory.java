@@ -146,15 +146,15 @@ public class PrototypeExchangeFactory extends PooledObjectFactorySupport<Exchang
                 uri = URISupport.sanitizeUri(uri);
 
                 // are there any leaks?
-                boolean leak = created + acquired > released + discarded;
-                if (leak) {
-                    long leaks = (created + acquired) - (released + discarded);
+                long leaks = statistics.getInUseCounter();
+                if (leaks > 0) {
                     log.warn(
                             "{}{} ({}) usage (leaks detected: {}) [pooled: {}, created: {}, acquired: {}, released: {}, discarded: {}]",
                             name, id, uri, leaks, pooled, created, acquired, released, discarded);
-                } else {
-                    log.info("{}{} ({}) usage [pooled: {}, created: {}, acquired: {}, released: {}, discarded: {}]",
-                            name, id, uri, pooled, created, acquired, released, discarded);
+                } else if (log.isInfoEnabled()) {
+                    log.info("{}{} ({}) usage [pooled: {}, created: {}, acquired: {}, released: {}, discarded: {}, reuse: {}%]",
+                            name, id, uri, pooled, created, acquired, released, discarded,
+                            String.format("%.1f", statistics.getReuseRate()));
                 }
             }
         }
@@ -132,15 +132,15 @@ public class PrototypeProcessorExchangeFactory extends PooledObjectFactorySuppor
                 String pid = getId();
 
                 // are there any leaks?
-                boolean leak = created + acquired > released + discarded;
-                if (leak) {
-                    long leaks = (created + acquired) - (released + discarded);
+                long leaks = statistics.getInUseCounter();
+                if (leaks > 0) {
                     log.warn(
                             "{} {} ({}) usage (leaks detected: {}) [pooled: {}, created: {}, acquired: {} released: {}, discarded: {}]",
                             name, rid, pid, leaks, pooled, created, acquired, released, discarded);
-                } else {
-                    log.info("{} {} ({}) usage [pooled: {}, created: {}, acquired: {} released: {}, discarded: {}]",
-                            name, rid, pid, pooled, created, acquired, released, discarded);
+                } else if (log.isInfoEnabled()) {
+                    log.info("{} {} ({}) usage [pooled: {}, created: {}, acquired: {} released: {}, discarded: {}, reuse: {}%]",
+                            name, rid, pid, pooled, created, acquired, released, discarded,
+                            String.format("%.1f", statistics.getReuseRate()));
                 }
             }
         }
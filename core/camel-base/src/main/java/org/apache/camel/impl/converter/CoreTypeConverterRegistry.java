@@ -16,6 +16,8 @@
  */
 package org.apache.camel.impl.converter;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,16 +30,20 @@ import org.apache.camel.CamelExecutionException;
 import org.apache.camel.Exchange;
 import org.apache.camel.LoggingLevel;
 import org.apache.camel.NoTypeConversionAvailableException;
+import org.apache.camel.StreamCache;
 import org.apache.camel.TypeConversionException;
 import org.apache.camel.TypeConverter;
 import org.apache.camel.TypeConverterExists;
 import org.apache.camel.TypeConverterExistsException;
+import org.apache.camel.converter.CamelBaseBulkConverterLoader;
+import org.apache.camel.converter.IOConverter;
 import org.apache.camel.converter.ObjectConverter;
 import org.apache.camel.spi.BulkTypeConverters;
 import org.apache.camel.spi.CamelLogger;
 import org.apache.camel.spi.Injector;
 import org.apache.camel.spi.TypeConverterRegistry;
 import org.apache.camel.spi.TypeConvertible;
+import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.MessageHelper;
 import org.apache.camel.support.TypeConverterSupport;
 import org.apache.camel.support.service.ServiceSupport;
@@ -58,6 +64,9 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
 
     private static final Logger LOG = LoggerFactory.getLogger(CoreTypeConverterRegistry.class);
 
+    // marker when a fallback converter failed while trying to convert
+    private static final Object FALLBACK_FAILED = new Object();
+
     // fallback converters
     protected final List<FallbackTypeConverter> fallbackConverters = new CopyOnWriteArrayList<>();
     // special enum converter for optional performance
@@ -71,6 +80,8 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     // Why 256: as of Camel 4, we have about 230 type converters. Therefore, set the capacity to a few more to provide
     // space for others added during runtime
     private final Map<TypeConvertible<?, ?>, TypeConverter> converters = new ConcurrentHashMap<>(256);
+    // the fast conversions of common types are only in use while the core type converters for those types are used
+    private volatile boolean fastConvertCommon = true;
 
     protected CoreTypeConverterRegistry(boolean statisticsEnabled) {
         if (statisticsEnabled) {
@@ -110,6 +121,21 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
             return (T) value;
         }
 
+        if (fastConvertCommon) {
+            try {
+                Object answer = fastConvertCommon(type, exchange, value);
+                if (answer != null) {
+                    statistics.incrementAttempt();
+                    statistics.incrementHit();
+                    return (T) answer;
+                }
+            } catch (Exception e) {
+                statistics.incrementAttempt();
+                statistics.incrementFailed();
+                throw createTypeConversionException(exchange, type, value, e);
+            }
+        }
+
         if (type == boolean.class) {
             // primitive boolean which must return a value so throw exception if not possible
             Object answer = ObjectConverter.toBoolean(value);
@@ -172,6 +198,88 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         return (T) answer;
     }
 
+    /**
+     * Fast conversions of the most common header and body types, which avoids looking up the type converter (and
+     * allocating a key for the lookup) for every conversion. These are the same conversions as the core type converters
+     * do, so this is turned off when another type converter is added for any of these types.
+     *
+     * @return the converted value, or <tt>null</tt> if the value is not eligible for a fast conversion
+     */
+    private static Object fastConvertCommon(Class<?> type, Exchange exchange, Object value) throws IOException {
+        if (value instanceof String str) {
+            if (type == Integer.class || type == int.class) {
+                return customParseInteger(str);
+            } else if (type == Long.class || type == long.class) {
+                return customParseLong(str);
+            } else if (type == byte[].class) {
+                return str.getBytes(ExchangeHelper.getCharset(exchange));
+            }
+        } else if (value instanceof byte[] data) {
+            if (type == String.class) {
+                return new String(data, ExchangeHelper.getCharset(exchange));
+            }
+        } else if (type == byte[].class && value instanceof InputStream is && !(value instanceof StreamCache)) {
+            // stream caches have their own converter that keeps the cache re-readable
+            return IOConverter.toBytes(is);
+        }
+        return null;
+    }
+
+    private static boolean isFastConvertCommon(Class<?> from, Class<?> to) {
+        if (from == String.class) {
+            return to == Integer.class || to == int.class || to == Long.class || to == long.class || to == byte[].class;
+        } else if (from == byte[].class) {
+            return to == String.class;
+        }
+        return to == byte[].class && InputStream.class.isAssignableFrom(from);
+    }
+
+    private void onAddConverter(TypeConvertible<?, ?> typeConvertible, TypeConverter typeConverter) {
+        if (fastConvertCommon && !(typeConverter instanceof CamelBaseBulkConverterLoader)
+                && isFastConvertCommon(typeConvertible.getFrom(), typeConvertible.getTo())) {
+            // a custom type converter must be used instead of the fast conversions
+            LOG.debug("Fast conversion of common types turned off due to type converter added from: {} to: {}",
+                    typeConvertible.getFrom(), typeConvertible.getTo());
+            fastConvertCommon = false;
+        }
+    }
+
+    private static Integer customParseInteger(String str) {
+        // only plain decimal numbers which cannot overflow, anything else is left to the type converters
+        int len = str.length();
+        int start = len > 0 && str.charAt(0) == '-' ? 1 : 0;
+        if (len == start || len - start > 9) {
+            return null;
+        }
+        int answer = 0;
+        for (int i = start; i < len; i++) {
+            char ch = str.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return null;
+            }
+            answer = answer * 10 + (ch - '0');
+        }
+        return start == 1 ? -answer : answer;
+    }
+
+    private static Long customParseLong(String str) {
+        // only plain decimal numbers which cannot overflow, anything else is left to the type converters
+        int len = str.length();
+        int start = len > 0 && str.charAt(0) == '-' ? 1 : 0;
+        if (len == start || len - start > 18) {
+            return null;
+        }
+        long answer = 0;
+        for (int i = start; i < len; i++) {
+            char ch = str.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return null;
+            }
+            answer = answer * 10 + (ch - '0');
+        }
+        return start == 1 ? -answer : answer;
+    }
+
     private static Boolean customParseBoolean(String str) {
         if ("true".equalsIgnoreCase(str)) {
             return Boolean.TRUE;
@@ -221,6 +329,17 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
                 // same instance
                 return (T) value;
             }
+            if (fastConvertCommon) {
+                try {
+                    Object answer = fastConvertCommon(type, exchange, value);
+                    if (answer != null) {
+                        return (T) answer;
+                    }
+                } catch (Exception e) {
+                    // we are only trying so ignore exceptions
+                    return null;
+                }
+            }
             if (type == boolean.class) {
                 // primitive boolean which must return a value so throw exception if not possible
                 Object answer = ObjectConverter.toBoolean(value);
@@ -393,7 +512,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
 
         // fallback converters
         final Object fallBackRet = tryFallback(type, exchange, value, tryConvert, typeConvertible);
-        if (fallBackRet != null) {
+        if (fallBackRet != null && fallBackRet != FALLBACK_FAILED) {
             return fallBackRet;
         }
 
@@ -410,7 +529,9 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
             return objConverter.convertTo(type, exchange, value);
         }
 
-        if (!tryConvert) {
+        // remember the miss so the fallback converters are not scanned again for this pair of types, unless
+        // a fallback converter failed (when trying) as then the miss may depend on the value and not the types
+        if (fallBackRet != FALLBACK_FAILED) {
             converters.put(typeConvertible, MISS_CONVERTER);
         }
 
@@ -442,10 +563,22 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     private Object tryFallback(
             final Class<?> type, final Exchange exchange, final Object value, boolean tryConvert,
             TypeConvertible<?, ?> typeConvertible) {
+        boolean failed = false;
         for (FallbackTypeConverter fallback : fallbackConverters) {
             TypeConverter tc = fallback.getFallbackTypeConverter();
 
-            Object rc = doConvert(type, exchange, value, tryConvert, tc);
+            Object rc;
+            if (tryConvert) {
+                try {
+                    rc = tc.convertTo(type, exchange, value);
+                } catch (Exception e) {
+                    // we are only trying so ignore exceptions
+                    failed = true;
+                    rc = null;
+                }
+            } else {
+                rc = tc.convertTo(type, exchange, value);
+            }
             if (rc == null && tc.allowNull()) {
                 return null;
             }
@@ -467,17 +600,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
             }
         }
 
-        return null;
-    }
-
-    private static Object doConvert(
-            Class<?> type, Exchange exchange, Object value, boolean tryConvert, TypeConverter converter) {
-
-        if (tryConvert) {
-            return converter.tryConvertTo(type, exchange, value);
-        } else {
-            return converter.convertTo(type, exchange, value);
-        }
+        return failed ? FALLBACK_FAILED : null;
     }
 
     public TypeConverter getTypeConverter(Class<?> toType, Class<?> fromType) {
@@ -486,6 +609,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
 
     @Override
     public void addConverter(TypeConvertible<?, ?> typeConvertible, TypeConverter typeConverter) {
+        onAddConverter(typeConvertible, typeConverter);
         converters.put(typeConvertible, typeConverter);
     }
 
@@ -506,6 +630,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
 
         if (converter == MISS_CONVERTER) {
             // we have previously attempted to convert but missed, so add this converter
+            onAddConverter(typeConvertible, typeConverter);
             converters.put(typeConvertible, typeConverter);
             return;
         }
@@ -523,6 +648,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
             }
 
             if (add) {
+                onAddConverter(typeConvertible, typeConverter);
                 converters.put(typeConvertible, typeConverter);
             }
         }
@@ -562,6 +688,8 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         // add in top of fallback as the toString() fallback will nearly always be able to convert
         // the last one which is add to the FallbackTypeConverter will be called at the first place
         fallbackConverters.add(0, new FallbackTypeConverter(typeConverter, canPromote));
+        // the new fallback may be able to convert what previously missed
+        converters.values().removeIf(tc -> tc == MISS_CONVERTER);
     }
 
     public TypeConverter lookup(Class<?> toType, Class<?> fromType) {
@@ -21,6 +21,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
@@ -142,10 +143,23 @@ public class BinaryExpression extends BaseSimpleNode {
 
     private Expression createIsExpression(
             final CamelContext camelContext, final String expression, final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
-            @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
+        // the class type is often a literal, which we can then resolve once
+        String constant = constantText(right);
+        Class<?> constantType = null;
+        if (constant != null && !"null".equals(constant) && camelContext != null) {
+            constantType = camelContext.getClassResolver().resolveClass(constant);
+        }
+        if (constantType != null) {
+            Predicate predicate = PredicateBuilder.isInstanceOf(leftExp, constantType);
+            if (operator == BinaryOperatorType.NOT_IS) {
+                predicate = PredicateBuilder.not(predicate);
+            }
+            return createExpression(camelContext, leftExp, rightExp, predicate);
+        }
 
+        return new PredicateExpression() {
+            @Override
+            public boolean matches(Exchange exchange) {
                 String name = rightExp.evaluate(exchange, String.class);
                 if (name == null || "null".equals(name)) {
                     throwMissingClass();
@@ -159,9 +173,7 @@ public class BinaryExpression extends BaseSimpleNode {
                 if (operator == BinaryOperatorType.NOT_IS) {
                     predicate = PredicateBuilder.not(predicate);
                 }
-                boolean answer = predicate.matches(exchange);
-
-                return camelContext.getTypeConverter().convertTo(type, answer);
+                return predicate.matches(exchange);
             }
 
             private void throwClassNotFound(String name) {
@@ -185,16 +197,33 @@ public class BinaryExpression extends BaseSimpleNode {
 
     private Expression createRegexExpression(
             final CamelContext camelContext, final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
+        // the pattern is often a literal, which we can then compile once (if invalid then fail when evaluating as usual)
+        Pattern pattern = null;
+        String constant = constantText(right);
+        if (constant != null) {
+            try {
+                pattern = Pattern.compile(constant);
+            } catch (PatternSyntaxException e) {
+                // ignore
+            }
+        }
+        if (pattern != null) {
+            Predicate predicate = PredicateBuilder.regex(leftExp, pattern);
+            if (operator == BinaryOperatorType.NOT_REGEX) {
+                predicate = PredicateBuilder.not(predicate);
+            }
+            return createExpression(camelContext, leftExp, rightExp, predicate);
+        }
+
+        return new PredicateExpression() {
             @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
+            public boolean matches(Exchange exchange) {
                 // reg ex should use String pattern, so we evaluate the right hand side as a String
                 Predicate predicate = PredicateBuilder.regex(leftExp, rightExp.evaluate(exchange, String.class));
                 if (operator == BinaryOperatorType.NOT_REGEX) {
                     predicate = PredicateBuilder.not(predicate);
                 }
-                boolean answer = predicate.matches(exchange);
-                return camelContext.getTypeConverter().convertTo(type, answer);
+                return predicate.matches(exchange);
             }
 
             @Override
@@ -206,25 +235,16 @@ public class BinaryExpression extends BaseSimpleNode {
 
     private Expression createInExpression(
             final CamelContext camelContext, final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
+        // the values are often a literal, which we can then split once
+        String constant = constantText(right);
+        if (constant != null) {
+            return createExpression(camelContext, leftExp, rightExp, createInPredicate(leftExp, constant));
+        }
+
+        return new PredicateExpression() {
             @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                // okay the in operator is a bit more complex as we need to build a list of values
-                // from the right hand side expression.
-                // each element on the right hand side must be separated by comma (default for create iterator)
-                Iterator<?> it = ObjectHelper.createIterator(rightExp.evaluate(exchange, Object.class));
-                List<Object> values = new ArrayList<>();
-                while (it.hasNext()) {
-                    values.add(it.next());
-                }
-                // then reuse value builder to create the in predicate with the list of values
-                ValueBuilder vb = new ValueBuilder(leftExp);
-                Predicate predicate = vb.in(values.toArray());
-                if (operator == BinaryOperatorType.NOT_IN) {
-                    predicate = PredicateBuilder.not(predicate);
-                }
-                boolean answer = predicate.matches(exchange);
-                return camelContext.getTypeConverter().convertTo(type, answer);
+            public boolean matches(Exchange exchange) {
+                return createInPredicate(leftExp, rightExp.evaluate(exchange, Object.class)).matches(exchange);
             }
 
             @Override
@@ -234,34 +254,46 @@ public class BinaryExpression extends BaseSimpleNode {
         };
     }
 
+    private Predicate createInPredicate(final Expression leftExp, final Object right) {
+        // okay the in operator is a bit more complex as we need to build a list of values
+        // from the right hand side expression.
+        // each element on the right hand side must be separated by comma (default for create iterator)
+        Iterator<?> it = ObjectHelper.createIterator(right);
+        List<Object> values = new ArrayList<>();
+        while (it.hasNext()) {
+            values.add(it.next());
+        }
+        // then reuse value builder to create the in predicate with the list of values
+        ValueBuilder vb = new ValueBuilder(leftExp);
+        Predicate predicate = vb.in(values.toArray());
+        if (operator == BinaryOperatorType.NOT_IN) {
+            predicate = PredicateBuilder.not(predicate);
+        }
+        return predicate;
+    }
+
     private Expression createRangeExpression(
             final CamelContext camelContext, final String expression, final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
-            @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                Predicate predicate;
+        // the range is often a literal, which we can then parse once (if invalid then fail when evaluating as usual)
+        String constant = constantText(right);
+        if (constant != null) {
+            Predicate predicate = createRangePredicate(leftExp, constant);
+            if (predicate != null) {
+                return createExpression(camelContext, leftExp, rightExp, predicate);
+            }
+        }
 
+        return new PredicateExpression() {
+            @Override
+            public boolean matches(Exchange exchange) {
                 String range = rightExp.evaluate(exchange, String.class);
-                Matcher matcher = RANGE_PATTERN.matcher(range);
-                if (matcher.matches()) {
-                    // wrap as constant expression for the from and to values
-                    Expression from = ExpressionBuilder.constantExpression(matcher.group(1));
-                    Expression to = ExpressionBuilder.constantExpression(matcher.group(3));
-
-                    // build a compound predicate for the range
-                    predicate = PredicateBuilder.isGreaterThanOrEqualTo(leftExp, from);
-                    predicate = PredicateBuilder.and(predicate, PredicateBuilder.isLessThanOrEqualTo(leftExp, to));
-                } else {
+                Predicate predicate = createRangePredicate(leftExp, range);
+                if (predicate == null) {
                     throw new SimpleIllegalSyntaxException(
                             expression, right.getToken().getIndex(),
                             operator + " operator is not valid. Valid syntax:'from..to' (where from and to are numbers).");
                 }
-                if (operator == BinaryOperatorType.NOT_RANGE) {
-                    predicate = PredicateBuilder.not(predicate);
-                }
-
-                boolean answer = predicate.matches(exchange);
-                return camelContext.getTypeConverter().convertTo(type, answer);
+                return predicate.matches(exchange);
             }
 
             @Override
@@ -271,13 +303,30 @@ public class BinaryExpression extends BaseSimpleNode {
         };
     }
 
+    private Predicate createRangePredicate(final Expression leftExp, final String range) {
+        Matcher matcher = RANGE_PATTERN.matcher(range);
+        if (!matcher.matches()) {
+            return null;
+        }
+        // wrap as constant expression for the from and to values
+        Expression from = ExpressionBuilder.constantExpression(matcher.group(1));
+        Expression to = ExpressionBuilder.constantExpression(matcher.group(3));
+
+        // build a compound predicate for the range
+        Predicate predicate = PredicateBuilder.isGreaterThanOrEqualTo(leftExp, from);
+        predicate = PredicateBuilder.and(predicate, PredicateBuilder.isLessThanOrEqualTo(leftExp, to));
+        if (operator == BinaryOperatorType.NOT_RANGE) {
+            predicate = PredicateBuilder.not(predicate);
+        }
+        return predicate;
+    }
+
     private Expression createExpression(
             final CamelContext camelContext, final Expression left, final Expression right, final Predicate predicate) {
-        return new Expression() {
+        return new PredicateExpression() {
             @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                boolean answer = predicate.matches(exchange);
-                return camelContext.getTypeConverter().convertTo(type, answer);
+            public boolean matches(Exchange exchange) {
+                return predicate.matches(exchange);
             }
 
             @Override
@@ -287,6 +336,34 @@ public class BinaryExpression extends BaseSimpleNode {
         };
     }
 
+    /**
+     * Gets the text of the node if it is a literal (optional enclosed in quotes) without any functions
+     *
+     * @return the text, or <tt>null</tt> if the node is not a literal
+     */
+    private static String constantText(SimpleNode node) {
+        if (node != null && node.getClass() == LiteralExpression.class) {
+            return ((LiteralExpression) node).getText();
+        }
+        CompositeNodes block = null;
+        if (node instanceof SingleQuoteStart sqs) {
+            block = sqs.getBlock();
+        } else if (node instanceof DoubleQuoteStart dqs) {
+            block = dqs.getBlock();
+        }
+        if (block == null) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder();
+        for (SimpleNode child : block.getChildren()) {
+            if (child.getClass() != LiteralExpression.class) {
+                return null;
+            }
+            sb.append(((LiteralExpression) child).getText());
+        }
+        return sb.toString();
+    }
+
     @Override
     public String createCode(CamelContext camelContext, String expression) throws SimpleParserException {
         return BaseSimpleParser.CODE_START + doCreateCode(camelContext, expression) + BaseSimpleParser.CODE_END;
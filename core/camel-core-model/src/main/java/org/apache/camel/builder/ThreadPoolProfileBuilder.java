@@ -97,6 +97,13 @@ public class ThreadPoolProfileBuilder {
         return this;
     }
 
+    public ThreadPoolProfileBuilder virtualThreadsBoundedByMaxPoolSize(Boolean virtualThreadsBoundedByMaxPoolSize) {
+        if (virtualThreadsBoundedByMaxPoolSize != null) {
+            profile.setVirtualThreadsBoundedByMaxPoolSize(virtualThreadsBoundedByMaxPoolSize);
+        }
+        return this;
+    }
+
     /**
      * Builds the thread pool profile
      *
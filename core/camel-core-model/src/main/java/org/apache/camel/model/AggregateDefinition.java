@@ -95,6 +95,9 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
     @Metadata(label = "advanced", javaType = "java.lang.Boolean", defaultValue = "false")
     private String optimisticLockingSyncRetry;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer")
+    private String lockStripeCount;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.util.concurrent.ExecutorService")
     private String executorService;
     @XmlAttribute
@@ -179,6 +182,7 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         this.parallelProcessing = source.parallelProcessing;
         this.optimisticLocking = source.optimisticLocking;
         this.optimisticLockingSyncRetry = source.optimisticLockingSyncRetry;
+        this.lockStripeCount = source.lockStripeCount;
         this.executorService = source.executorService;
         this.timeoutCheckerExecutorService = source.timeoutCheckerExecutorService;
         this.aggregateController = source.aggregateController;
@@ -515,6 +519,14 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         this.optimisticLockingSyncRetry = optimisticLockingSyncRetry;
     }
 
+    public String getLockStripeCount() {
+        return lockStripeCount;
+    }
+
+    public void setLockStripeCount(String lockStripeCount) {
+        this.lockStripeCount = lockStripeCount;
+    }
+
     public String getParallelProcessing() {
         return parallelProcessing;
     }
@@ -1056,6 +1068,31 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         return this;
     }
 
+    /**
+     * Number of locks to use for striping the aggregation lock by the correlation key, so exchanges for unrelated
+     * correlation groups can be aggregated concurrently, and completion timeouts are checked per group. Is default 0
+     * which uses a single lock for all the correlation groups. This option is not in use with optimistic locking, or
+     * with completion on new correlation group or completion from batch consumer, which complete the other groups.
+     * Notice that with a striped lock the aggregation strategy and the aggregation repository are called concurrently
+     * for different correlation keys, so they must be thread-safe.
+     */
+    public AggregateDefinition lockStripeCount(int lockStripeCount) {
+        return lockStripeCount(Integer.toString(lockStripeCount));
+    }
+
+    /**
+     * Number of locks to use for striping the aggregation lock by the correlation key, so exchanges for unrelated
+     * correlation groups can be aggregated concurrently, and completion timeouts are checked per group. Is default 0
+     * which uses a single lock for all the correlation groups. This option is not in use with optimistic locking, or
+     * with completion on new correlation group or completion from batch consumer, which complete the other groups.
+     * Notice that with a striped lock the aggregation strategy and the aggregation repository are called concurrently
+     * for different correlation keys, so they must be thread-safe.
+     */
+    public AggregateDefinition lockStripeCount(String lockStripeCount) {
+        setLockStripeCount(lockStripeCount);
+        return this;
+    }
+
     /**
      * Allows to configure retry settings when using optimistic locking.
      */
@@ -85,6 +85,12 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
     @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.lang.Boolean")
     private String shareUnitOfWork;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean")
+    private String treeAggregation;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer")
+    private String maxOutstanding;
 
     public MulticastDefinition() {
     }
@@ -106,6 +112,8 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
         this.executorService = source.executorService;
         this.onPrepare = source.onPrepare;
         this.shareUnitOfWork = source.shareUnitOfWork;
+        this.treeAggregation = source.treeAggregation;
+        this.maxOutstanding = source.maxOutstanding;
     }
 
     @Override
@@ -474,6 +482,70 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
         return this;
     }
 
+    /**
+     * Aggregates the exchanges processed in parallel as a tree of partial aggregates in the worker threads, which are
+     * then combined, instead of aggregating the exchanges one by one. This requires the aggregation strategy to be
+     * associative (see {@link AggregationStrategy#isAssociative()}), and is only in use with parallel processing and no
+     * timeout.
+     *
+     * @return the builder
+     */
+    public MulticastDefinition treeAggregation() {
+        return treeAggregation(true);
+    }
+
+    /**
+     * Aggregates the exchanges processed in parallel as a tree of partial aggregates in the worker threads, which are
+     * then combined, instead of aggregating the exchanges one by one. This requires the aggregation strategy to be
+     * associative (see {@link AggregationStrategy#isAssociative()}), and is only in use with parallel processing and no
+     * timeout.
+     *
+     * @return the builder
+     */
+    public MulticastDefinition treeAggregation(boolean treeAggregation) {
+        return treeAggregation(Boolean.toString(treeAggregation));
+    }
+
+    /**
+     * Aggregates the exchanges processed in parallel as a tree of partial aggregates in the worker threads, which are
+     * then combined, instead of aggregating the exchanges one by one. This requires the aggregation strategy to be
+     * associative (see {@link AggregationStrategy#isAssociative()}), and is only in use with parallel processing and no
+     * timeout.
+     *
+     * @return the builder
+     */
+    public MulticastDefinition treeAggregation(String treeAggregation) {
+        setTreeAggregation(treeAggregation);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of exchanges, when using parallel processing, that have been sent but not yet aggregated.
+     * When reached then no more exchanges are created (such as reading the next part from the splitter iterator) until
+     * some of the outstanding exchanges have been aggregated, which bounds the memory in use when splitting big
+     * payloads in streaming mode. Is default 0 which is unbounded.
+     *
+     * @param  maxOutstanding the maximum number of outstanding exchanges
+     * @return                the builder
+     */
+    public MulticastDefinition maxOutstanding(int maxOutstanding) {
+        return maxOutstanding(Integer.toString(maxOutstanding));
+    }
+
+    /**
+     * Sets the maximum number of exchanges, when using parallel processing, that have been sent but not yet aggregated.
+     * When reached then no more exchanges are created (such as reading the next part from the splitter iterator) until
+     * some of the outstanding exchanges have been aggregated, which bounds the memory in use when splitting big
+     * payloads in streaming mode. Is default 0 which is unbounded.
+     *
+     * @param  maxOutstanding the maximum number of outstanding exchanges
+     * @return                the builder
+     */
+    public MulticastDefinition maxOutstanding(String maxOutstanding) {
+        setMaxOutstanding(maxOutstanding);
+        return this;
+    }
+
     public AggregationStrategy getAggregationStrategyBean() {
         return aggregationStrategyBean;
     }
@@ -615,4 +687,31 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
     public void setOnPrepare(String onPrepare) {
         this.onPrepare = onPrepare;
     }
+
+    public String getTreeAggregation() {
+        return treeAggregation;
+    }
+
+    /**
+     * Aggregates the exchanges processed in parallel as a tree of partial aggregates in the worker threads, which are
+     * then combined, instead of aggregating the exchanges one by one. This requires the aggregation strategy to be
+     * associative, and is only in use with parallel processing and no timeout.
+     */
+    public void setTreeAggregation(String treeAggregation) {
+        this.treeAggregation = treeAggregation;
+    }
+
+    public String getMaxOutstanding() {
+        return maxOutstanding;
+    }
+
+    /**
+     * The maximum number of exchanges, when using parallel processing, that have been sent but not yet aggregated. When
+     * reached then no more exchanges are created (such as reading the next part from the splitter iterator) until some
+     * of the outstanding exchanges have been aggregated, which bounds the memory in use when splitting big payloads in
+     * streaming mode. Is default 0 which is unbounded.
+     */
+    public void setMaxOutstanding(String maxOutstanding) {
+        this.maxOutstanding = maxOutstanding;
+    }
 }
@@ -41,6 +41,12 @@ public class SortDefinition<T> extends ExpressionNode {
     @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.util.Comparator")
     private String comparator;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer")
+    private String parallelThreshold;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer")
+    private String maxInMemorySize;
 
     public SortDefinition() {
     }
@@ -49,6 +55,8 @@ public class SortDefinition<T> extends ExpressionNode {
         super(source);
         this.comparatorBean = source.comparatorBean;
         this.comparator = source.comparator;
+        this.parallelThreshold = source.parallelThreshold;
+        this.maxInMemorySize = source.maxInMemorySize;
     }
 
     public SortDefinition(Expression expression) {
@@ -111,6 +119,50 @@ public class SortDefinition<T> extends ExpressionNode {
         return this;
     }
 
+    /**
+     * Sets the minimum number of elements to sort the list in parallel. Zero (default) to not sort in parallel.
+     *
+     * @param  parallelThreshold minimum number of elements
+     * @return                   the builder
+     */
+    public SortDefinition<T> parallelThreshold(int parallelThreshold) {
+        return parallelThreshold(Integer.toString(parallelThreshold));
+    }
+
+    /**
+     * Sets the minimum number of elements to sort the list in parallel. Zero (default) to not sort in parallel.
+     *
+     * @param  parallelThreshold minimum number of elements
+     * @return                   the builder
+     */
+    public SortDefinition<T> parallelThreshold(String parallelThreshold) {
+        setParallelThreshold(parallelThreshold);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of elements to sort in memory, before spooling sorted chunks to disk and merging them.
+     * Zero (default) to always sort in memory.
+     *
+     * @param  maxInMemorySize maximum number of elements
+     * @return                 the builder
+     */
+    public SortDefinition<T> maxInMemorySize(int maxInMemorySize) {
+        return maxInMemorySize(Integer.toString(maxInMemorySize));
+    }
+
+    /**
+     * Sets the maximum number of elements to sort in memory, before spooling sorted chunks to disk and merging them.
+     * Zero (default) to always sort in memory.
+     *
+     * @param  maxInMemorySize maximum number of elements
+     * @return                 the builder
+     */
+    public SortDefinition<T> maxInMemorySize(String maxInMemorySize) {
+        setMaxInMemorySize(maxInMemorySize);
+        return this;
+    }
+
     public Comparator<? super T> getComparatorBean() {
         return comparatorBean;
     }
@@ -122,4 +174,28 @@ public class SortDefinition<T> extends ExpressionNode {
     public void setComparator(String comparator) {
         this.comparator = comparator;
     }
+
+    public String getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Minimum number of elements to sort the list in parallel. Zero (default) to not sort in parallel.
+     */
+    public void setParallelThreshold(String parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    public String getMaxInMemorySize() {
+        return maxInMemorySize;
+    }
+
+    /**
+     * Maximum number of elements to sort in memory, before spooling sorted chunks to disk and merging them. Zero
+     * (default) to always sort in memory. Spooling is only supported for String elements, such as lines tokenized from
+     * a file, and the sorted result is then an iterator to be consumed by a streaming splitter.
+     */
+    public void setMaxInMemorySize(String maxInMemorySize) {
+        this.maxInMemorySize = maxInMemorySize;
+    }
 }
@@ -30,6 +30,7 @@ import org.apache.camel.Expression;
 import org.apache.camel.builder.ExpressionBuilder;
 import org.apache.camel.model.language.ExpressionDefinition;
 import org.apache.camel.spi.Metadata;
+import org.apache.camel.spi.ThrottlingStateRepository;
 
 /**
  * Controls the rate at which messages are passed to the next node in the route
@@ -42,6 +43,8 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
 
     @XmlTransient
     private ExecutorService executorServiceBean;
+    @XmlTransient
+    private ThrottlingStateRepository throttlingStateRepositoryBean;
 
     @XmlAttribute
     @Metadata(javaType = "org.apache.camel.model.ThrottlingMode", defaultValue = "TotalRequests",
@@ -64,6 +67,9 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     @XmlAttribute
     @Metadata(defaultValue = "1000", javaType = "java.time.Duration")
     private String timePeriodMillis;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "org.apache.camel.spi.ThrottlingStateRepository")
+    private String throttlingStateRepository;
 
     public ThrottleDefinition() {
         totalRequestsMode();
@@ -80,6 +86,8 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         this.callerRunsWhenRejected = source.callerRunsWhenRejected;
         this.rejectExecution = source.rejectExecution;
         this.timePeriodMillis = source.timePeriodMillis;
+        this.throttlingStateRepositoryBean = source.throttlingStateRepositoryBean;
+        this.throttlingStateRepository = source.throttlingStateRepository;
     }
 
     public ThrottleDefinition(Expression maximumRequestsPerPeriod) {
@@ -340,9 +348,41 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         return mode(mode.name());
     }
 
+    /**
+     * Sets the repository used to share the throttling state (the permits already acquired in the current time period)
+     * with other nodes, so the maximum number of requests is enforced across all of them.
+     * <p/>
+     * This is only in use when using the TotalRequests mode.
+     *
+     * @param  throttlingStateRepository the repository
+     * @return                           the builder
+     */
+    public ThrottleDefinition throttlingStateRepository(ThrottlingStateRepository throttlingStateRepository) {
+        this.throttlingStateRepositoryBean = throttlingStateRepository;
+        return this;
+    }
+
+    /**
+     * Sets the repository used to share the throttling state (the permits already acquired in the current time period)
+     * with other nodes, so the maximum number of requests is enforced across all of them.
+     * <p/>
+     * This is only in use when using the TotalRequests mode.
+     *
+     * @param  throttlingStateRepository the reference id of the repository
+     * @return                           the builder
+     */
+    public ThrottleDefinition throttlingStateRepository(String throttlingStateRepository) {
+        setThrottlingStateRepository(throttlingStateRepository);
+        return this;
+    }
+
     // Properties
     // -------------------------------------------------------------------------
 
+    public ThrottlingStateRepository getThrottlingStateRepositoryBean() {
+        return throttlingStateRepositoryBean;
+    }
+
     @Override
     public ExecutorService getExecutorServiceBean() {
         return executorServiceBean;
@@ -428,4 +468,17 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     public void setMode(String mode) {
         this.mode = mode;
     }
+
+    public String getThrottlingStateRepository() {
+        return throttlingStateRepository;
+    }
+
+    /**
+     * To use a repository to share the throttling state (the permits already acquired in the current time period) with
+     * other nodes, so the maximum number of requests is enforced across all of them. This is only in use when using the
+     * TotalRequests mode.
+     */
+    public void setThrottlingStateRepository(String throttlingStateRepository) {
+        this.throttlingStateRepository = throttlingStateRepository;
+    }
 }
@@ -0,0 +1,78 @@
+/* Generated by camel build tools - do NOT edit this file! */
+package org.apache.camel.processor.aggregate;
+
+import javax.annotation.processing.Generated;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.ExtendedPropertyConfigurerGetter;
+import org.apache.camel.spi.PropertyConfigurerGetter;
+import org.apache.camel.spi.ConfigurerStrategy;
+import org.apache.camel.spi.GeneratedPropertyConfigurer;
+import org.apache.camel.util.CaseInsensitiveMap;
+import org.apache.camel.processor.aggregate.WriteBehindAggregationRepository;
+
+/**
+ * Generated by camel build tools - do NOT edit this file!
+ */
+@Generated("org.apache.camel.maven.packaging.GenerateConfigurerMojo")
+@SuppressWarnings("unchecked")
+public class WriteBehindAggregationRepositoryConfigurer extends org.apache.camel.support.component.PropertyConfigurerSupport implements GeneratedPropertyConfigurer, PropertyConfigurerGetter {
+
+    @Override
+    public boolean configure(CamelContext camelContext, Object obj, String name, Object value, boolean ignoreCase) {
+        org.apache.camel.processor.aggregate.WriteBehindAggregationRepository target = (org.apache.camel.processor.aggregate.WriteBehindAggregationRepository) obj;
+        switch (ignoreCase ? name.toLowerCase() : name) {
+        case "deserializationfilter":
+        case "deserializationFilter": target.setDeserializationFilter(property(camelContext, java.lang.String.class, value)); return true;
+        case "flushbatchsize":
+        case "flushBatchSize": target.setFlushBatchSize(property(camelContext, int.class, value)); return true;
+        case "flushinterval":
+        case "flushInterval": target.setFlushInterval(property(camelContext, long.class, value)); return true;
+        case "journaldirectory":
+        case "journalDirectory": target.setJournalDirectory(property(camelContext, java.lang.String.class, value)); return true;
+        case "name": target.setName(property(camelContext, java.lang.String.class, value)); return true;
+        case "repository": target.setRepository(property(camelContext, org.apache.camel.spi.AggregationRepository.class, value)); return true;
+        case "sync": target.setSync(property(camelContext, boolean.class, value)); return true;
+        default: return false;
+        }
+    }
+
+    @Override
+    public Class<?> getOptionType(String name, boolean ignoreCase) {
+        switch (ignoreCase ? name.toLowerCase() : name) {
+        case "deserializationfilter":
+        case "deserializationFilter": return java.lang.String.class;
+        case "flushbatchsize":
+        case "flushBatchSize": return int.class;
+        case "flushinterval":
+        case "flushInterval": return long.class;
+        case "journaldirectory":
+        case "journalDirectory": return java.lang.String.class;
+        case "name": return java.lang.String.class;
+        case "repository": return org.apache.camel.spi.AggregationRepository.class;
+        case "sync": return boolean.class;
+        default: return null;
+        }
+    }
+
+    @Override
+    public Object getOptionValue(Object obj, String name, boolean ignoreCase) {
+        org.apache.camel.processor.aggregate.WriteBehindAggregationRepository target = (org.apache.camel.processor.aggregate.WriteBehindAggregationRepository) obj;
+        switch (ignoreCase ? name.toLowerCase() : name) {
+        case "deserializationfilter":
+        case "deserializationFilter": return target.getDeserializationFilter();
+        case "flushbatchsize":
+        case "flushBatchSize": return target.getFlushBatchSize();
+        case "flushinterval":
+        case "flushInterval": return target.getFlushInterval();
+        case "journaldirectory":
+        case "journalDirectory": return target.getJournalDirectory();
+        case "name": return target.getName();
+        case "repository": return target.getRepository();
+        case "sync": return target.isSync();
+        default: return null;
+        }
+    }
+}
+
@@ -19,10 +19,12 @@ package org.apache.camel.processor;
 import java.io.Closeable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
@@ -176,6 +178,9 @@ public class MulticastProcessor extends BaseProcessorSupport
     private final AggregationStrategy aggregationStrategy;
     private final boolean parallelProcessing;
     private boolean synchronous;
+    private boolean treeAggregation;
+    private int maxOutstanding;
+    private final Set<MulticastTask> activeTasks = ConcurrentHashMap.newKeySet();
     private final boolean streaming;
     private final boolean parallelAggregate;
     private final boolean stopOnException;
@@ -427,6 +432,7 @@ public class MulticastProcessor extends BaseProcessorSupport
         @Deprecated(since = "4.19.0")
         final Map<String, String> mdc;
         final ScheduledFuture<?> timeoutTask;
+        final TreeAggregation tree;
 
         @SuppressWarnings("deprecation")
         MulticastTask(Exchange original, Iterable<ProcessorExchangePair> pairs, AsyncCallback callback, int capacity,
@@ -455,6 +461,24 @@ public class MulticastProcessor extends BaseProcessorSupport
             } else {
                 this.completion = new AsyncCompletionService<>(transacted ? txScheduler : scheduler, !isStreaming(), lock);
             }
+            // tree aggregation requires an associative strategy, and is not in use with timeout which aggregates in order
+            AggregationStrategy strategy
+                    = treeAggregation && isParallelProcessing() && timeout <= 0 ? getAggregationStrategy(original) : null;
+            if (strategy != null && strategy.isAssociative()) {
+                this.tree = new TreeAggregation(strategy);
+            } else {
+                this.tree = null;
+            }
+            if (isParallelProcessing()) {
+                activeTasks.add(this);
+            }
+        }
+
+        /**
+         * Number of exchanges that have been sent but not yet aggregated
+         */
+        int getOutstanding() {
+            return Math.max(0, nbExchangeSent.get() - nbAggregated.get());
         }
 
         @Override
@@ -523,12 +547,14 @@ public class MulticastProcessor extends BaseProcessorSupport
 
         protected void doTimeoutDone(Exchange exchange, boolean forceExhaust) {
             if (done.compareAndSet(false, true)) {
+                activeTasks.remove(this);
                 MulticastProcessor.this.doDone(original, exchange, pairs, callback, false, forceExhaust);
             }
         }
 
         protected void doDone(Exchange exchange, boolean forceExhaust) {
             if (done.compareAndSet(false, true)) {
+                activeTasks.remove(this);
                 // cancel timeout if we are done normally (we cannot cancel if called via onTimeout)
                 if (timeoutTask != null) {
                     try {
@@ -548,6 +574,118 @@ public class MulticastProcessor extends BaseProcessorSupport
             // and do the done work
             doDone(null, false);
         }
+
+        /**
+         * Aggregates the exchanges as a tree of partial aggregates, where the thread completing an exchange combines it
+         * with the partial aggregates of the adjacent exchanges that are already completed. A partial aggregate of the
+         * exchanges from index n to m is held by exchange n, which has been used as old exchange to aggregate the
+         * exchanges after it, but has not been aggregated itself, as only the first exchange is aggregated without an
+         * old exchange. The partials are combined outside the lock, and only adjacent partials are combined, as the
+         * strategy is associative but not commutative.
+         */
+        final class TreeAggregation {
+
+            private final AggregationStrategy strategy;
+            private final Lock lock = new ReentrantLock();
+            private final Map<Integer, Partial> starts = new HashMap<>();
+            private final Map<Integer, Partial> ends = new HashMap<>();
+
+            TreeAggregation(AggregationStrategy strategy) {
+                this.strategy = strategy;
+            }
+
+            void aggregate(int index, Exchange exchange) {
+                if (done.get()) {
+                    return;
+                }
+                try {
+                    Partial partial;
+                    if (index == 0) {
+                        ExchangeHelper.prepareAggregation(null, exchange);
+                        partial = new Partial(0, 0, strategy.aggregate(null, exchange, original));
+                    } else {
+                        partial = new Partial(index, index, exchange);
+                    }
+                    while (true) {
+                        Partial before;
+                        Partial after;
+                        lock.lock();
+                        try {
+                            before = ends.remove(partial.start - 1);
+                            if (before != null) {
+                                starts.remove(before.start);
+                            }
+                            after = starts.remove(partial.end + 1);
+                            if (after != null) {
+                                ends.remove(after.end);
+                            }
+                            if (before == null && after == null) {
+                                starts.put(partial.start, partial);
+                                ends.put(partial.end, partial);
+                                break;
+                            }
+                        } finally {
+                            lock.unlock();
+                        }
+                        // we own the claimed partials so they can be combined without holding the lock
+                        if (before != null) {
+                            partial = combine(before, partial);
+                        }
+                        if (after != null) {
+                            partial = combine(partial, after);
+                        }
+                    }
+                    // the last exchange is sent before it completes, so the partial that includes it knows if its done
+                    if (partial.start == 0 && allSent.get() && partial.end == nbExchangeSent.get() - 1) {
+                        doDone(partial.exchange, true);
+                    }
+                } catch (Exception e) {
+                    original.setException(e);
+                    // and do the done work
+                    doDone(null, false);
+                }
+            }
+
+            /**
+             * Completes the aggregation if the partial aggregate of all the exchanges sent is already done, which is
+             * needed when the last pair from the iterator was skipped after the other exchanges completed.
+             */
+            void complete() {
+                Partial partial;
+                lock.lock();
+                try {
+                    partial = starts.get(0);
+                } finally {
+                    lock.unlock();
+                }
+                if (partial != null && partial.end == nbExchangeSent.get() - 1) {
+                    doDone(partial.exchange, true);
+                }
+            }
+
+            private Partial combine(Partial first, Partial second) {
+                ExchangeHelper.prepareAggregation(first.exchange, second.exchange);
+                Exchange answer = strategy.aggregate(first.exchange, second.exchange, original);
+                answer = strategy.combine(answer, second.exchange);
+                return new Partial(first.start, second.end, answer);
+            }
+        }
+    }
+
+    /**
+     * A partial aggregate of the exchanges from the start to the end index (inclusive).
+     */
+    private static final class Partial {
+
+        private final int start;
+        private final int end;
+        private final Exchange exchange;
+
+        private Partial(int start, int end, Exchange exchange) {
+            this.start = start;
+            this.end = end;
+            this.exchange = exchange;
+        }
     }
 
     /**
@@ -555,6 +693,8 @@ public class MulticastProcessor extends BaseProcessorSupport
      */
     protected class MulticastReactiveTask extends MulticastTask {
 
+        private final AtomicBoolean suspended = new AtomicBoolean();
+
         public MulticastReactiveTask(Exchange original, Iterable<ProcessorExchangePair> pairs, AsyncCallback callback,
                                      int size) {
             super(original, pairs, callback, size, false);
@@ -572,7 +712,13 @@ public class MulticastProcessor extends BaseProcessorSupport
                 // Get next processor exchange pair to sent, skipping null ones
                 ProcessorExchangePair pair = getNextProcessorExchangePair();
                 if (pair == null) {
-                    doDone(result.get(), true);
+                    if (tree != null && nbExchangeSent.get() > 0) {
+                        // the iterator ended with skipped pairs so the tree completes with the exchanges sent so far
+                        allSent.set(true);
+                        tree.complete();
+                    } else {
+                        doDone(result.get(), true);
+                    }
                     return;
                 }
 
@@ -615,14 +761,22 @@ public class MulticastProcessor extends BaseProcessorSupport
                             return;
                         }
 
-                        exchangeResult.accept(exchange);
+                        if (tree != null) {
+                            // combine with the adjacent partial aggregates in this thread
+                            tree.aggregate(index, exchange);
+                            nbAggregated.incrementAndGet();
+                        } else {
+                            exchangeResult.accept(exchange);
 
-                        // aggregate exchanges if any
-                        aggregate();
+                            // aggregate exchanges if any
+                            aggregate();
+                        }
 
                         // next step
                         if (hasNext && !isParallelProcessing()) {
                             schedule(this);
+                        } else {
+                            resume();
                         }
                     };
 
@@ -642,7 +796,7 @@ public class MulticastProcessor extends BaseProcessorSupport
                 });
                 // after submitting this pair then move on to the next pair (if in parallel mode)
                 if (hasNext && isParallelProcessing()) {
-                    schedule(this);
+                    scheduleNext();
                 }
             } catch (Exception e) {
                 original.setException(e);
@@ -650,6 +804,25 @@ public class MulticastProcessor extends BaseProcessorSupport
             }
         }
 
+        private void scheduleNext() {
+            if (maxOutstanding > 0 && getOutstanding() >= maxOutstanding) {
+                // back-pressure so suspend creating exchanges until the outstanding exchanges are aggregated,
+                // and check again after suspending in case they were aggregated in the meantime
+                suspended.set(true);
+                if (getOutstanding() >= maxOutstanding || !suspended.compareAndSet(true, false)) {
+                    return;
+                }
+            }
+            schedule(this);
+        }
+
+        private void resume() {
+            if (suspended.get() && getOutstanding() < maxOutstanding && suspended.compareAndSet(true, false)) {
+                LOG.trace("Resuming multicast after back-pressure");
+                schedule(this);
+            }
+        }
+
         private ProcessorExchangePair getNextProcessorExchangePair() {
             ProcessorExchangePair tpair = null;
             while (tpair == null && iterator.hasNext()) {
@@ -1336,6 +1509,46 @@ public class MulticastProcessor extends BaseProcessorSupport
         return shareUnitOfWork;
     }
 
+    public boolean isTreeAggregation() {
+        return treeAggregation;
+    }
+
+    /**
+     * Whether to aggregate the exchanges processed in parallel as partial aggregates in the worker threads, when the
+     * aggregation strategy is associative (see {@link AggregationStrategy#isAssociative()}). The partial aggregates of
+     * adjacent exchanges are combined as soon as they are both completed, which keeps the order of the exchanges,
+     * instead of aggregating the exchanges one by one. This is not in use when a timeout has been configured.
+     */
+    public void setTreeAggregation(boolean treeAggregation) {
+        this.treeAggregation = treeAggregation;
+    }
+
+    public int getMaxOutstanding() {
+        return maxOutstanding;
+    }
+
+    /**
+     * The maximum number of exchanges per multicast, when using parallel processing, that have been sent but not yet
+     * aggregated. When reached then no more exchanges are created (such as reading the next part from the splitter
+     * iterator) until some of the outstanding exchanges have been aggregated, which bounds the memory in use when
+     * splitting big payloads in streaming mode. Is default 0 which is unbounded.
+     */
+    public void setMaxOutstanding(int maxOutstanding) {
+        this.maxOutstanding = maxOutstanding;
+    }
+
+    /**
+     * Number of exchanges (for all the multicasts in progress) that have been sent but not yet aggregated, when using
+     * parallel processing.
+     */
+    public int getOutstandingExchanges() {
+        int answer = 0;
+        for (MulticastTask task : activeTasks) {
+            answer += task.getOutstanding();
+        }
+        return answer;
+    }
+
     public ExecutorService getAggregateExecutorService() {
         return aggregateExecutorService;
     }
@@ -16,27 +16,70 @@
  */
 package org.apache.camel.processor;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+import javax.crypto.CipherInputStream;
+import javax.crypto.CipherOutputStream;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.Traceable;
+import org.apache.camel.converter.stream.CipherPair;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.spi.StepIdAware;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.support.ObjectHelper;
+import org.apache.camel.support.SynchronizationAdapter;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
 
 /**
- * A processor that sorts the expression using a comparator
+ * A processor that sorts the expression using a comparator.
+ * <p/>
+ * Lists with at least <tt>parallelThreshold</tt> elements are sorted in parallel using {@link Arrays#parallelSort}.
+ * <p/>
+ * When <tt>maxInMemorySize</tt> is set, then the elements are read from the expression in chunks of that size. If there
+ * are more elements than fit in memory, then each chunk is sorted and spooled to a temporary file in the spool
+ * directory of the {@link StreamCachingStrategy} (encrypted with the spool cipher if configured), and the message body
+ * is set to an {@link Iterator} which merges the sorted files, which can be used by a streaming splitter. When there
+ * are many sorted files, then they are merged into a single file in between, so at most 64 files are merged at once.
+ * The temporary files are deleted when the iterator is closed or the exchange is done. Spooling requires the elements
+ * to be strings, such as the lines of a file.
  */
 public class SortProcessor<T> extends BaseProcessorSupport implements IdAware, RouteIdAware, StepIdAware, Traceable {
 
+    // maximum number of spooled runs to merge at once, to bound the number of open files
+    private static final int MERGE_FAN_IN = 64;
+
     private String id;
     private String routeId;
     private String stepId;
     private final Expression expression;
     private final Comparator<? super T> comparator;
+    private int parallelThreshold;
+    private int maxInMemorySize;
 
     public SortProcessor(Expression expression, Comparator<? super T> comparator) {
         this.expression = expression;
@@ -46,11 +89,16 @@ public class SortProcessor<T> extends BaseProcessorSupport implements IdAware, R
     @Override
     public boolean process(Exchange exchange, AsyncCallback callback) {
         try {
-            @SuppressWarnings("unchecked")
-            List<T> list = expression.evaluate(exchange, List.class);
-            list.sort(comparator);
+            if (maxInMemorySize > 0) {
+                Object value = expression.evaluate(exchange, Object.class);
+                exchange.getMessage().setBody(externalSort(exchange, value));
+            } else {
+                @SuppressWarnings("unchecked")
+                List<T> list = expression.evaluate(exchange, List.class);
+                sort(list);
 
-            exchange.getMessage().setBody(list);
+                exchange.getMessage().setBody(list);
+            }
         } catch (Exception e) {
             exchange.setException(e);
         }
@@ -59,6 +107,71 @@ public class SortProcessor<T> extends BaseProcessorSupport implements IdAware, R
         return true;
     }
 
+    @SuppressWarnings("unchecked")
+    private void sort(List<T> list) {
+        if (parallelThreshold > 0 && list.size() >= parallelThreshold) {
+            T[] array = (T[]) list.toArray();
+            Arrays.parallelSort(array, comparator);
+            ListIterator<T> it = list.listIterator();
+            for (T element : array) {
+                it.next();
+                it.set(element);
+            }
+        } else {
+            list.sort(comparator);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object externalSort(Exchange exchange, Object value) throws IOException {
+        if (value instanceof List<?> list && list.size() <= maxInMemorySize) {
+            // fits in memory
+            sort((List<T>) list);
+            return list;
+        }
+
+        Iterator<?> it = ObjectHelper.createIterator(value);
+        List<T> chunk = readChunk(it);
+        if (!it.hasNext()) {
+            sort(chunk);
+            return chunk;
+        }
+
+        // spool the sorted chunks to disk and merge them
+        MergeIterator merge = new MergeIterator(exchange.getContext().getStreamCachingStrategy());
+        // make sure the files are deleted when the exchange is done
+        exchange.getExchangeExtension().addOnCompletion(new SynchronizationAdapter() {
+            @Override
+            public void onDone(Exchange exchange) {
+                IOHelper.close(merge);
+            }
+        });
+        try {
+            while (it.hasNext()) {
+                sort(chunk);
+                merge.spool(chunk);
+                chunk = readChunk(it);
+            }
+            // the last chunk is kept in memory
+            sort(chunk);
+            merge.start(chunk.iterator());
+        } catch (IOException | RuntimeException e) {
+            IOHelper.close(merge);
+            throw e;
+        }
+        return merge;
+    }
+
+    private List<T> readChunk(Iterator<?> it) {
+        List<T> chunk = new ArrayList<>(Math.min(maxInMemorySize, 1024));
+        while (chunk.size() < maxInMemorySize && it.hasNext()) {
+            @SuppressWarnings("unchecked")
+            T element = (T) it.next();
+            chunk.add(element);
+        }
+        return chunk;
+    }
+
     @Override
     public String toString() {
         return id;
@@ -107,4 +220,268 @@ public class SortProcessor<T> extends BaseProcessorSupport implements IdAware, R
         return comparator;
     }
 
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Minimum number of elements to sort the list in parallel. Zero (default) to not sort in parallel.
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    public int getMaxInMemorySize() {
+        return maxInMemorySize;
+    }
+
+    /**
+     * Maximum number of elements to sort in memory, before spooling sorted chunks to disk and merging them. Zero
+     * (default) to always sort in memory.
+     */
+    public void setMaxInMemorySize(int maxInMemorySize) {
+        this.maxInMemorySize = maxInMemorySize;
+    }
+
+    /**
+     * A sorted run which is the head of a chunk being merged.
+     */
+    private final class Run {
+        private final Iterator<T> elements;
+        private final Closeable closeable;
+        private T head;
+
+        Run(Iterator<T> elements, Closeable closeable) {
+            this.elements = elements;
+            this.closeable = closeable;
+        }
+
+        boolean advance() {
+            if (elements.hasNext()) {
+                head = elements.next();
+                return true;
+            }
+            IOHelper.close(closeable);
+            return false;
+        }
+    }
+
+    /**
+     * A sorted run spooled to a temporary file.
+     */
+    private static final class SpooledRun {
+        private final File file;
+        private final int size;
+        private final CipherPair ciphers;
+
+        SpooledRun(File file, int size, CipherPair ciphers) {
+            this.file = file;
+            this.size = size;
+            this.ciphers = ciphers;
+        }
+
+        DataInputStream open() throws IOException {
+            InputStream is = new BufferedInputStream(Files.newInputStream(file.toPath()));
+            if (ciphers != null) {
+                is = new CipherInputStream(is, ciphers.createDecryptor());
+            }
+            return new DataInputStream(is);
+        }
+    }
+
+    /**
+     * Iterator that merges sorted runs, which are spooled to temporary files except for the last run.
+     * <p/>
+     * At most {@link #MERGE_FAN_IN} spooled runs are kept, so no more files than that are open when merging. When the
+     * limit is reached, then the spooled runs are merged into a single spooled run first.
+     */
+    private final class MergeIterator implements Iterator<T>, Closeable {
+        private final StreamCachingStrategy strategy;
+        private final List<File> files = new ArrayList<>();
+        private final List<SpooledRun> spooled = new ArrayList<>();
+        private final List<Closeable> streams = new ArrayList<>();
+        private final PriorityQueue<Run> queue = createRunQueue();
+        private volatile boolean closed;
+
+        MergeIterator(StreamCachingStrategy strategy) {
+            this.strategy = strategy;
+        }
+
+        void spool(List<T> chunk) throws IOException {
+            spooled.add(writeRun(chunk.iterator(), chunk.size()));
+            if (spooled.size() >= MERGE_FAN_IN) {
+                mergeSpooledRuns();
+            }
+        }
+
+        /**
+         * Opens the spooled runs and adds the last run which is kept in memory, to start merging.
+         */
+        void start(Iterator<T> last) throws IOException {
+            for (SpooledRun run : spooled) {
+                DataInputStream in = run.open();
+                streams.add(in);
+                addRun(queue, new SpooledElements(in, run.size), in);
+            }
+            spooled.clear();
+            addRun(queue, last, null);
+        }
+
+        private void mergeSpooledRuns() throws IOException {
+            PriorityQueue<Run> merging = createRunQueue();
+            List<Closeable> inputs = new ArrayList<>(spooled.size());
+            int size = 0;
+            try {
+                for (SpooledRun run : spooled) {
+                    DataInputStream in = run.open();
+                    inputs.add(in);
+                    addRun(merging, new SpooledElements(in, run.size), in);
+                    size += run.size;
+                }
+                SpooledRun merged = writeRun(new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return !merging.isEmpty();
+                    }
+
+                    @Override
+                    public T next() {
+                        return pollNext(merging);
+                    }
+                }, size);
+                for (SpooledRun run : spooled) {
+                    files.remove(run.file);
+                    FileUtil.deleteFile(run.file);
+                }
+                spooled.clear();
+                spooled.add(merged);
+            } finally {
+                IOHelper.close(inputs.toArray(new Closeable[0]));
+            }
+        }
+
+        private SpooledRun writeRun(Iterator<T> elements, int size) throws IOException {
+            File dir = strategy.getSpoolDirectory();
+            if (dir == null) {
+                dir = new File(System.getProperty("java.io.tmpdir"));
+            }
+            File file = FileUtil.createTempFile("sort", ".tmp", dir);
+            files.add(file);
+
+            CipherPair ciphers = null;
+            OutputStream os = new BufferedOutputStream(Files.newOutputStream(file.toPath()));
+            try {
+                String cipher = strategy.getSpoolCipher();
+                if (cipher != null && !cipher.isEmpty()) {
+                    ciphers = new CipherPair(cipher);
+                    os = new CipherOutputStream(os, ciphers.getEncryptor());
+                }
+                try (DataOutputStream out = new DataOutputStream(os)) {
+                    while (elements.hasNext()) {
+                        T element = elements.next();
+                        if (!(element instanceof String str)) {
+                            throw new IllegalArgumentException(
+                                    "Cannot spool element of type " + (element != null ? element.getClass().getName() : null)
+                                                               + " to disk, only String elements are supported");
+                        }
+                        byte[] data = str.getBytes(StandardCharsets.UTF_8);
+                        out.writeInt(data.length);
+                        out.write(data);
+                    }
+                }
+            } catch (GeneralSecurityException e) {
+                IOHelper.close(os);
+                throw new IOException(e.getMessage(), e);
+            } catch (IOException | RuntimeException e) {
+                IOHelper.close(os);
+                throw e;
+            }
+            return new SpooledRun(file, size, ciphers);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !closed && !queue.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T answer = pollNext(queue);
+            if (queue.isEmpty()) {
+                close();
+            }
+            return answer;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queue.clear();
+            IOHelper.close(streams.toArray(new Closeable[0]));
+            for (File file : files) {
+                FileUtil.deleteFile(file);
+            }
+        }
+    }
+
+    private PriorityQueue<Run> createRunQueue() {
+        return new PriorityQueue<>((r1, r2) -> comparator.compare(r1.head, r2.head));
+    }
+
+    private void addRun(PriorityQueue<Run> queue, Iterator<T> elements, Closeable closeable) {
+        Run run = new Run(elements, closeable);
+        if (run.advance()) {
+            queue.add(run);
+        }
+    }
+
+    private T pollNext(PriorityQueue<Run> queue) {
+        Run run = queue.poll();
+        T answer = run.head;
+        if (run.advance()) {
+            queue.add(run);
+        }
+        return answer;
+    }
+
+    /**
+     * Reads the elements of a spooled chunk.
+     */
+    private final class SpooledElements implements Iterator<T> {
+        private final DataInputStream in;
+        private int remaining;
+
+        SpooledElements(DataInputStream in, int size) {
+            this.in = in;
+            this.remaining = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            remaining--;
+            try {
+                byte[] data = new byte[in.readInt()];
+                in.readFully(data);
+                return (T) new String(data, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
 }
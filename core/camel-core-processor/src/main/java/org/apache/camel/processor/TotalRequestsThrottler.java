@@ -16,23 +16,22 @@
  */
 package org.apache.camel.processor;
 
+import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.DelayQueue;
-import java.util.concurrent.Delayed;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.RuntimeExchangeException;
+import org.apache.camel.spi.ThrottlingStateRepository;
+import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,20 +47,32 @@ import org.slf4j.LoggerFactory;
  * This throttle implementation is thread-safe and is therefore safe to be used by multiple concurrent threads in a
  * single route.
  *
- * The throttling mechanism is a DelayQueue with maxRequestsPerPeriod permits on it. Each permit is set to be delayed by
- * timePeriodMillis (except when the throttler is initialized or the throttle rate increased, then there is no delay for
- * those permits). Callers trying to acquire a permit from the DelayQueue will block if necessary. The end result is a
- * rolling window of time. Where from the callers point of view in the last timePeriodMillis no more than
- * maxRequestsPerPeriod have been allowed to be acquired.
+ * The throttling mechanism is a bucket with maxRequestsPerPeriod permits per correlation key, which is kept as a ring
+ * with the time each permit can be used again. A permit that is used can be used again after timePeriodMillis (except
+ * when the throttler is initialized or the throttle rate increased, then there is no delay for those permits). The end
+ * result is a rolling window of time. Where from the callers point of view in the last timePeriodMillis no more than
+ * maxRequestsPerPeriod have been allowed to be acquired. When no permit is available then the time until the next
+ * permit is available is known up front, so the exchange is either scheduled on the async executor to run at that time
+ * (asyncDelayed) or the caller thread waits for that time.
+ *
+ * When a {@link ThrottlingStateRepository} is configured, then the permits are shared with other Camel applications
+ * using the same repository, such as a route scaled out to many nodes. The permits are then counted in fixed time
+ * windows of timePeriodMillis (aligned to the epoch), and each throttling state leases a batch of permits from the
+ * repository at a time so the repository is not called for every exchange. When the repository has no more permits for
+ * the current window, then the exchange is delayed until the next window starts.
  */
 public class TotalRequestsThrottler extends AbstractThrottler {
 
     private static final Logger LOG = LoggerFactory.getLogger(TotalRequestsThrottler.class);
 
-    private long timePeriodMillis;
+    private volatile long timePeriodMillis;
     private final long cleanPeriodMillis;
     private final Expression correlationExpression;
     private final Map<String, ThrottlingState> states = new ConcurrentHashMap<>();
+    private final LongAdder throttledCounter = new LongAdder();
+    private final LongAdder throttledTime = new LongAdder();
+    private ScheduledFuture<?> cleanFuture;
+    private ThrottlingStateRepository throttlingStateRepository;
 
     public TotalRequestsThrottler(final CamelContext camelContext, final Expression maxRequestsExpression,
                                   final long timePeriodMillis,
@@ -79,9 +90,8 @@ public class TotalRequestsThrottler extends AbstractThrottler {
 
     @Override
     public boolean process(final Exchange exchange, final AsyncCallback callback) {
-        long queuedStart = 0;
-        if (LOG.isTraceEnabled()) {
-            queuedStart = exchange.getProperty(PROPERTY_EXCHANGE_QUEUED_TIMESTAMP, 0L, Long.class);
+        long queuedStart = exchange.getProperty(PROPERTY_EXCHANGE_QUEUED_TIMESTAMP, 0L, Long.class);
+        if (queuedStart != 0) {
             exchange.removeProperty(PROPERTY_EXCHANGE_QUEUED_TIMESTAMP);
         }
         State state = exchange.getProperty(PROPERTY_EXCHANGE_STATE, State.SYNC, State.class);
@@ -97,12 +107,12 @@ public class TotalRequestsThrottler extends AbstractThrottler {
             if (correlationExpression != null) {
                 key = correlationExpression.evaluate(exchange, String.class);
             }
-            ThrottlingState throttlingState = states.computeIfAbsent(key, ThrottlingState::new);
+            ThrottlingState throttlingState = states.computeIfAbsent(key, this::createThrottlingState);
             throttlingState.calculateAndSetMaxRequestsPerPeriod(exchange);
 
-            ThrottlePermit permit = throttlingState.poll();
+            long delay = throttlingState.tryAcquire();
 
-            if (permit == null) {
+            if (delay > 0) {
                 if (isRejectExecution()) {
                     throw new ThrottlerRejectedExecutionException(
                             "Exceeded the max throttle rate of "
@@ -116,43 +126,47 @@ public class TotalRequestsThrottler extends AbstractThrottler {
                                     "Throttle rate exceeded but AsyncDelayed enabled, so queueing for async processing, exchangeId: {}",
                                     exchange.getExchangeId());
                         }
-                        return processAsynchronously(exchange, callback, throttlingState);
+                        return processAsynchronously(exchange, callback, delay);
                     }
-
-                    // block waiting for a permit
-                    long start = 0;
-                    long elapsed = 0;
-                    if (LOG.isTraceEnabled()) {
-                        start = System.currentTimeMillis();
+                    if (state == State.ASYNC) {
+                        // the permit was taken by another exchange while queued, so queue again instead of
+                        // blocking the thread of the async pool
+                        if (LOG.isDebugEnabled()) {
+                            LOG.debug(
+                                    "Throttle rate exceeded while queued, so queueing again for async processing, exchangeId: {}",
+                                    exchange.getExchangeId());
+                        }
+                        return processAsynchronously(exchange, callback, delay, queuedStart);
                     }
-                    permit = throttlingState.take();
-                    if (LOG.isTraceEnabled()) {
-                        elapsed = System.currentTimeMillis() - start;
+
+                    // wait for a permit
+                    long start = System.nanoTime();
+                    while (delay > 0) {
+                        TimeUnit.NANOSECONDS.sleep(delay);
+                        delay = throttlingState.tryAcquire();
                     }
-                    throttlingState.enqueue(permit, exchange);
+                    long elapsed = System.nanoTime() - start;
+                    long queuedTime = queuedStart != 0 ? start - queuedStart : 0;
+                    recordThrottled(queuedTime + elapsed);
 
-                    if (state == State.ASYNC) {
-                        if (LOG.isTraceEnabled()) {
-                            long queuedTime = start - queuedStart;
-                            if (LOG.isTraceEnabled()) {
-                                LOG.trace("Queued for {}ms, Throttled for {}ms, exchangeId: {}", queuedTime, elapsed,
-                                        exchange.getExchangeId());
-                            }
-                        }
-                    } else {
-                        if (LOG.isTraceEnabled()) {
-                            LOG.trace("Throttled for {}ms, exchangeId: {}", elapsed, exchange.getExchangeId());
+                    if (LOG.isTraceEnabled()) {
+                        if (state == State.ASYNC) {
+                            LOG.trace("Queued for {}ms, Throttled for {}ms, exchangeId: {}",
+                                    TimeUnit.NANOSECONDS.toMillis(queuedTime), TimeUnit.NANOSECONDS.toMillis(elapsed),
+                                    exchange.getExchangeId());
+                        } else {
+                            LOG.trace("Throttled for {}ms, exchangeId: {}", TimeUnit.NANOSECONDS.toMillis(elapsed),
+                                    exchange.getExchangeId());
                         }
                     }
                 }
             } else {
-                throttlingState.enqueue(permit, exchange);
-
                 if (state == State.ASYNC) {
+                    long queuedTime = System.nanoTime() - queuedStart;
+                    recordThrottled(queuedTime);
                     if (LOG.isTraceEnabled()) {
-                        long queuedTime = System.currentTimeMillis() - queuedStart;
                         LOG.trace("Queued for {}ms, No throttling applied (throttle cleared while queued), for exchangeId: {}",
-                                queuedTime, exchange.getExchangeId());
+                                TimeUnit.NANOSECONDS.toMillis(queuedTime), exchange.getExchangeId());
                     }
                 } else {
                     if (LOG.isTraceEnabled()) {
@@ -173,18 +187,20 @@ public class TotalRequestsThrottler extends AbstractThrottler {
     }
 
     /**
-     * Delegate blocking on the DelayQueue to an asyncExecutor. Except if the executor rejects the submission and
-     * isCallerRunsWhenRejected() is enabled, then this method will delegate back to process(), but not before changing
-     * the exchange state to stop any recursion.
+     * Schedules the exchange on the asyncExecutor to run when the next permit is available. Except if the executor
+     * rejects the submission and isCallerRunsWhenRejected() is enabled, then this method will delegate back to
+     * process(), but not before changing the exchange state to stop any recursion.
      */
-    protected boolean processAsynchronously(
-            final Exchange exchange, final AsyncCallback callback, ThrottlingState throttlingState) {
+    protected boolean processAsynchronously(final Exchange exchange, final AsyncCallback callback, long delay) {
+        return processAsynchronously(exchange, callback, delay, System.nanoTime());
+    }
+
+    private boolean processAsynchronously(
+            final Exchange exchange, final AsyncCallback callback, long delay, long queuedStart) {
         try {
-            if (LOG.isTraceEnabled()) {
-                exchange.setProperty(PROPERTY_EXCHANGE_QUEUED_TIMESTAMP, System.nanoTime());
-            }
+            // keep the time the exchange was first queued when it is queued again
+            exchange.setProperty(PROPERTY_EXCHANGE_QUEUED_TIMESTAMP, queuedStart);
             exchange.setProperty(PROPERTY_EXCHANGE_STATE, State.ASYNC);
-            long delay = throttlingState.peek().getDelay(TimeUnit.NANOSECONDS);
             asyncExecutor.schedule(() -> process(exchange, callback), delay, TimeUnit.NANOSECONDS);
             return false;
         } catch (final RejectedExecutionException e) {
@@ -200,11 +216,38 @@ public class TotalRequestsThrottler extends AbstractThrottler {
         }
     }
 
+    private void recordThrottled(long nanos) {
+        throttledCounter.increment();
+        throttledTime.add(nanos);
+    }
+
+    private ThrottlingState createThrottlingState(String key) {
+        if (throttlingStateRepository != null) {
+            return new SharedThrottlingState(key);
+        }
+        return new ThrottlingState(key);
+    }
+
     @Override
     protected void doStart() throws Exception {
+        ServiceHelper.startService(throttlingStateRepository);
         if (isAsyncDelayed()) {
             ObjectHelper.notNull(asyncExecutor, "executorService", this);
         }
+        if (asyncExecutor != null) {
+            // remove the state of correlation keys that have not been used for a while
+            cleanFuture = asyncExecutor.scheduleWithFixedDelay(this::cleanIdleStates, cleanPeriodMillis, cleanPeriodMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (cleanFuture != null) {
+            cleanFuture.cancel(false);
+            cleanFuture = null;
+        }
+        ServiceHelper.stopService(throttlingStateRepository);
     }
 
     @Override
@@ -216,11 +259,20 @@ public class TotalRequestsThrottler extends AbstractThrottler {
         super.doShutdown();
     }
 
+    private void cleanIdleStates() {
+        long idle = TimeUnit.MILLISECONDS.toNanos(cleanPeriodMillis);
+        long now = System.nanoTime();
+        for (String key : states.keySet()) {
+            states.computeIfPresent(key, (k, s) -> s.isIdle(now, idle) ? null : s);
+        }
+    }
+
     protected class ThrottlingState {
-        private final String key;
-        private final Lock lock = new ReentrantLock();
-        private final DelayQueue<ThrottlePermit> delayQueue = new DelayQueue<>();
-        private final AtomicReference<ScheduledFuture<?>> cleanFuture = new AtomicReference<>();
+        protected final String key;
+        // the time (nanos) each permit can be used again, in the order they are used
+        private long[] permits = new long[0];
+        private int next;
+        private long lastUsed = System.nanoTime();
         private volatile int throttleRate;
 
         ThrottlingState(String key) {
@@ -231,133 +283,136 @@ public class TotalRequestsThrottler extends AbstractThrottler {
             return throttleRate;
         }
 
-        public ThrottlePermit poll() {
-            return delayQueue.poll();
-        }
-
-        public ThrottlePermit peek() {
-            return delayQueue.peek();
+        /**
+         * Acquires a permit if one is available.
+         *
+         * @return 0 if the permit was acquired, otherwise the delay in nanos until the next permit is available
+         */
+        public synchronized long tryAcquire() {
+            long now = System.nanoTime();
+            if (permits.length == 0) {
+                return TimeUnit.MILLISECONDS.toNanos(getTimePeriodMillis());
+            }
+            long delay = permits[next] - now;
+            if (delay > 0) {
+                return delay;
+            }
+            permits[next] = now + TimeUnit.MILLISECONDS.toNanos(getTimePeriodMillis());
+            next = (next + 1) % permits.length;
+            lastUsed = now;
+            return 0;
         }
 
-        public ThrottlePermit take() throws InterruptedException {
-            return delayQueue.take();
+        synchronized void used(long now) {
+            lastUsed = now;
         }
 
-        public void clean() {
-            states.remove(key);
+        synchronized boolean isIdle(long now, long idle) {
+            return now - lastUsed > idle;
         }
 
         /**
-         * Returns a permit to the DelayQueue, first resetting it's delay to be relative to now.
+         * Evaluates the maxRequestsPerPeriodExpression and adjusts the throttle rate up or down.
          */
-        public void enqueue(final ThrottlePermit permit, final Exchange exchange) {
-            permit.setDelayMs(getTimePeriodMillis());
-            delayQueue.put(permit);
-            try {
-                ScheduledFuture<?> next = asyncExecutor.schedule(this::clean, cleanPeriodMillis, TimeUnit.MILLISECONDS);
-                ScheduledFuture<?> prev = cleanFuture.getAndSet(next);
-                if (prev != null) {
-                    prev.cancel(false);
-                }
-                // try and incur the least amount of overhead while releasing permits back to the queue
-                if (LOG.isTraceEnabled()) {
-                    LOG.trace("Permit released, for exchangeId: {}", exchange.getExchangeId());
-                }
-            } catch (RejectedExecutionException e) {
-                LOG.debug("Throttling queue cleaning rejected", e);
+        public void calculateAndSetMaxRequestsPerPeriod(final Exchange exchange) throws Exception {
+            Integer newThrottle
+                    = TotalRequestsThrottler.this.getMaximumRequestsExpression().evaluate(exchange, Integer.class);
+
+            if (newThrottle != null && newThrottle < 0) {
+                throw new IllegalStateException(
+                        "The maximumRequestsPerPeriod must be a positive number, was: " + newThrottle);
+            }
+
+            if (newThrottle == null && throttleRate == 0) {
+                throw new RuntimeExchangeException(
+                        "The maxRequestsPerPeriodExpression was evaluated as null: "
+                                                   + TotalRequestsThrottler.this.getMaximumRequestsExpression(),
+                        exchange);
+            }
+
+            if (newThrottle != null && newThrottle != throttleRate) {
+                changeThrottleRate(newThrottle, exchange);
             }
         }
 
-        /**
-         * Evaluates the maxRequestsPerPeriodExpression and adjusts the throttle rate up or down.
-         */
-        public void calculateAndSetMaxRequestsPerPeriod(final Exchange exchange) throws Exception {
-            lock.lock();
-            try {
-                Integer newThrottle
-                        = TotalRequestsThrottler.this.getMaximumRequestsExpression().evaluate(exchange, Integer.class);
-
-                if (newThrottle != null && newThrottle < 0) {
-                    throw new IllegalStateException(
-                            "The maximumRequestsPerPeriod must be a positive number, was: " + newThrottle);
-                }
+        private synchronized void changeThrottleRate(int newThrottle, Exchange exchange) {
+            int oldThrottle = permits.length;
+            if (newThrottle == oldThrottle) {
+                return;
+            }
+            // keep the most recently used permits (discarding those available first when decreasing), and add any
+            // new permits in front as they are available right away
+            long[] answer = new long[newThrottle];
+            int keep = Math.min(oldThrottle, newThrottle);
+            int fresh = newThrottle - keep;
+            Arrays.fill(answer, 0, fresh, System.nanoTime());
+            for (int i = 0; i < keep; i++) {
+                answer[fresh + i] = permits[(next + oldThrottle - keep + i) % oldThrottle];
+            }
+            permits = answer;
+            next = 0;
 
-                if (newThrottle == null && throttleRate == 0) {
-                    throw new RuntimeExchangeException(
-                            "The maxRequestsPerPeriodExpression was evaluated as null: "
-                                                       + TotalRequestsThrottler.this.getMaximumRequestsExpression(),
-                            exchange);
+            if (oldThrottle > newThrottle) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Throttle rate decreased from {} to {}, triggered by ExchangeId: {}", oldThrottle,
+                            newThrottle, exchange.getExchangeId());
                 }
-
-                if (newThrottle != null) {
-                    if (newThrottle != throttleRate) {
-                        // decrease
-                        if (throttleRate > newThrottle) {
-                            int delta = throttleRate - newThrottle;
-
-                            // discard any permits that are needed to decrease throttling
-                            while (delta > 0) {
-                                delayQueue.take();
-                                delta--;
-                                if (LOG.isTraceEnabled()) {
-                                    LOG.trace("Permit discarded due to throttling rate decrease, triggered by ExchangeId: {}",
-                                            exchange.getExchangeId());
-                                }
-                            }
-                            if (LOG.isDebugEnabled()) {
-                                LOG.debug("Throttle rate decreased from {} to {}, triggered by ExchangeId: {}", throttleRate,
-                                        newThrottle, exchange.getExchangeId());
-                            }
-
-                            // increase
-                        } else if (newThrottle > throttleRate) {
-                            int delta = newThrottle - throttleRate;
-                            for (int i = 0; i < delta; i++) {
-                                delayQueue.put(new ThrottlePermit(-1));
-                            }
-                            if (throttleRate == 0) {
-                                if (LOG.isDebugEnabled()) {
-                                    LOG.debug("Initial throttle rate set to {}, triggered by ExchangeId: {}", newThrottle,
-                                            exchange.getExchangeId());
-                                }
-                            } else {
-                                if (LOG.isDebugEnabled()) {
-                                    LOG.debug("Throttle rate increase from {} to {}, triggered by ExchangeId: {}", throttleRate,
-                                            newThrottle, exchange.getExchangeId());
-                                }
-                            }
-                        }
-                        throttleRate = newThrottle;
-                    }
+            } else if (oldThrottle == 0) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Initial throttle rate set to {}, triggered by ExchangeId: {}", newThrottle,
+                            exchange.getExchangeId());
+                }
+            } else {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Throttle rate increase from {} to {}, triggered by ExchangeId: {}", oldThrottle,
+                            newThrottle, exchange.getExchangeId());
                 }
-            } finally {
-                lock.unlock();
             }
+            throttleRate = newThrottle;
         }
     }
 
     /**
-     * Permit that implements the Delayed interface needed by DelayQueue.
+     * Throttling state where the permits are leased in batches from the {@link ThrottlingStateRepository}, which counts
+     * the permits in fixed time windows shared with other nodes.
      */
-    private static class ThrottlePermit implements Delayed {
-        private volatile long scheduledTime;
-
-        ThrottlePermit(final long delayMs) {
-            setDelayMs(delayMs);
-        }
-
-        public void setDelayMs(final long delayMs) {
-            this.scheduledTime = System.currentTimeMillis() + delayMs;
-        }
-
-        @Override
-        public long getDelay(final TimeUnit unit) {
-            return unit.convert(scheduledTime - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+    protected class SharedThrottlingState extends ThrottlingState {
+        private final String repositoryKey;
+        private long window = -1;
+        private int leased;
+        private boolean exhausted;
+
+        SharedThrottlingState(String key) {
+            super(key);
+            // the throttler id is the same on all nodes running the same routes
+            this.repositoryKey = id != null ? id + ":" + key : key;
         }
 
         @Override
-        public int compareTo(final Delayed o) {
-            return Long.compare(getDelay(TimeUnit.MILLISECONDS), o.getDelay(TimeUnit.MILLISECONDS));
+        public synchronized long tryAcquire() {
+            int rate = getThrottleRate();
+            long period = getTimePeriodMillis();
+            long now = System.currentTimeMillis();
+            long current = now / period;
+            if (current != window) {
+                // permits leased in a previous window cannot be used anymore
+                window = current;
+                leased = 0;
+                exhausted = false;
+            }
+            if (leased == 0 && !exhausted && rate > 0) {
+                int batch = Math.max(1, Math.min(rate, throttlingStateRepository.getPermitsBatchSize()));
+                leased = throttlingStateRepository.acquirePermits(repositoryKey, rate, period, batch);
+                // no need to ask the repository again until the next window
+                exhausted = leased == 0;
+            }
+            if (leased > 0) {
+                leased--;
+                used(System.nanoTime());
+                return 0;
+            }
+            // wait until the next window starts
+            return TimeUnit.MILLISECONDS.toNanos((current + 1) * period - now);
         }
     }
 
@@ -386,6 +441,46 @@ public class TotalRequestsThrottler extends AbstractThrottler {
         return timePeriodMillis;
     }
 
+    public ThrottlingStateRepository getThrottlingStateRepository() {
+        return throttlingStateRepository;
+    }
+
+    /**
+     * To share the throttling state with other Camel applications, such as when a route is scaled out to many nodes.
+     */
+    public void setThrottlingStateRepository(ThrottlingStateRepository throttlingStateRepository) {
+        this.throttlingStateRepository = throttlingStateRepository;
+    }
+
+    /**
+     * Number of exchanges that had to wait for a permit
+     */
+    public long getThrottledCounter() {
+        return throttledCounter.sum();
+    }
+
+    /**
+     * Total time in millis exchanges have been waiting for a permit
+     */
+    public long getThrottledTotalTime() {
+        return TimeUnit.NANOSECONDS.toMillis(throttledTime.sum());
+    }
+
+    /**
+     * Number of correlation keys the throttler currently holds state for
+     */
+    public int getThrottlingStateSize() {
+        return states.size();
+    }
+
+    /**
+     * Reset the counters
+     */
+    public void resetStatistics() {
+        throttledCounter.reset();
+        throttledTime.reset();
+    }
+
     @Override
     public String getTraceLabel() {
         return "throttle[" + this.getMaximumRequestsExpression() + " per: " + timePeriodMillis + "]";
@@ -96,6 +96,21 @@ public abstract class AbstractListAggregationStrategy<V> implements AggregationS
         return oldExchange != null ? oldExchange : newExchange;
     }
 
+    @Override
+    public boolean isAssociative() {
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Exchange combine(Exchange exchange, Exchange partialExchange) {
+        List<V> partial = (List<V>) partialExchange.removeProperty(ExchangePropertyKey.GROUPED_EXCHANGE);
+        if (partial != null) {
+            getList(exchange).addAll(partial);
+        }
+        return exchange;
+    }
+
     @SuppressWarnings("unchecked")
     private List<V> getList(Exchange exchange) {
         List<V> list = exchange.getProperty(ExchangePropertyKey.GROUPED_EXCHANGE, List.class);
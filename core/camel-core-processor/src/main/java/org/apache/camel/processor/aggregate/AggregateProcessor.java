@@ -52,6 +52,7 @@ import org.apache.camel.TimeoutMap;
 import org.apache.camel.Traceable;
 import org.apache.camel.processor.BaseProcessorSupport;
 import org.apache.camel.spi.AggregationRepository;
+import org.apache.camel.spi.DeltaAggregationRepository;
 import org.apache.camel.spi.ExceptionHandler;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.OptimisticLockingAggregationRepository;
@@ -101,6 +102,7 @@ public class AggregateProcessor extends BaseProcessorSupport
 
     private static final Logger LOG = LoggerFactory.getLogger(AggregateProcessor.class);
     private volatile Lock lock;
+    private volatile Lock[] lockStripes;
     private final AtomicBoolean aggregateRepositoryWarned = new AtomicBoolean();
     private final CamelContext camelContext;
     private final ReactiveExecutor reactiveExecutor;
@@ -234,6 +236,7 @@ public class AggregateProcessor extends BaseProcessorSupport
     private boolean parallelProcessing;
     private boolean optimisticLocking;
     private boolean optimisticLockingSyncRetry;
+    private int lockStripeCount;
 
     // different ways to have completion triggered
     private boolean eagerCheckCompletion;
@@ -441,9 +444,12 @@ public class AggregateProcessor extends BaseProcessorSupport
         removeFlagCompleteAllGroupsInclusive(copy);
 
         List<Exchange> aggregated = null;
+        // when using striped locks then all groups must be completed after the lock has been released
+        AtomicBoolean completeAllGroups = lockStripes != null ? new AtomicBoolean() : null;
+        Lock lock = lockFor(key);
         lock.lock();
         try {
-            aggregated = doAggregation(key, copy);
+            aggregated = doAggregation(key, copy, completeAllGroups);
         } catch (CamelExchangeException e) {
             exchange.setException(e);
         } finally {
@@ -460,6 +466,8 @@ public class AggregateProcessor extends BaseProcessorSupport
         if (isCompleteAllGroupsInclusive(exchange)) {
             removeFlagCompleteAllGroupsInclusive(exchange);
             forceCompletionOfAllGroups();
+        } else if (completeAllGroups != null && completeAllGroups.get()) {
+            forceCompletionOfAllGroups();
         }
 
         callback.done(sync);
@@ -509,11 +517,15 @@ public class AggregateProcessor extends BaseProcessorSupport
      *
      * @param  key                                     the correlation key
      * @param  newExchange                             the exchange
+     * @param  completeAllGroups                       flag to set to complete all groups after the lock has been
+     *                                                 released, or <tt>null</tt> to complete them while holding the
+     *                                                 lock
      * @return                                         the aggregated exchange(s) which is complete, or <tt>null</tt> if
      *                                                 not yet complete
      * @throws org.apache.camel.CamelExchangeException is thrown if error aggregating
      */
-    private List<Exchange> doAggregation(String key, Exchange newExchange) throws CamelExchangeException {
+    private List<Exchange> doAggregation(String key, Exchange newExchange, AtomicBoolean completeAllGroups)
+            throws CamelExchangeException {
         LOG.trace("onAggregation +++ start +++ with correlation key: {}", key);
 
         List<Exchange> list = new ArrayList<>();
@@ -613,7 +625,11 @@ public class AggregateProcessor extends BaseProcessorSupport
         // check for the special exchange property to force completion of all groups
         if (isCompleteAllGroups(answer)) {
             removeFlagCompleteAllGroups(answer);
-            forceCompletionOfAllGroups();
+            if (completeAllGroups != null) {
+                completeAllGroups.set(true);
+            } else {
+                forceCompletionOfAllGroups();
+            }
         } else if (isCompletionOnNewCorrelationGroup() && originalExchange == null) {
             // its a new group so force complete of all existing groups
             forceCompletionOfAllGroups();
@@ -643,7 +659,9 @@ public class AggregateProcessor extends BaseProcessorSupport
 
         if (!aggregateFailed && complete == null) {
             // only need to update aggregation repository if we are not complete
-            doAggregationRepositoryAdd(newExchange.getContext(), key, originalExchange, answer);
+            // the incoming exchange is the delta, unless its a new group or the strategy returned the incoming exchange
+            Exchange delta = originalExchange != null && answer != newExchange ? newExchange : null;
+            doAggregationRepositoryAdd(newExchange.getContext(), key, originalExchange, answer, delta);
         } else {
             // if we are complete then add the answer to the list
             doAggregationComplete(complete, list, key, originalExchange, answer, aggregateFailed);
@@ -691,6 +709,11 @@ public class AggregateProcessor extends BaseProcessorSupport
 
     protected void doAggregationRepositoryAdd(
             CamelContext camelContext, String key, Exchange oldExchange, Exchange newExchange) {
+        doAggregationRepositoryAdd(camelContext, key, oldExchange, newExchange, null);
+    }
+
+    protected void doAggregationRepositoryAdd(
+            CamelContext camelContext, String key, Exchange oldExchange, Exchange newExchange, Exchange delta) {
         LOG.trace("In progress aggregated oldExchange: {}, newExchange: {} with correlation key: {}", oldExchange, newExchange,
                 key);
         if (optimisticLocking) {
@@ -701,6 +724,8 @@ public class AggregateProcessor extends BaseProcessorSupport
                 onOptimisticLockingFailure(oldExchange, newExchange);
                 throw e;
             }
+        } else if (aggregationRepository instanceof DeltaAggregationRepository deltaAggregationRepository) {
+            deltaAggregationRepository.add(camelContext, key, newExchange, delta);
         } else {
             aggregationRepository.add(camelContext, key, newExchange);
         }
@@ -1153,6 +1178,26 @@ public class AggregateProcessor extends BaseProcessorSupport
         this.optimisticLocking = optimisticLocking;
     }
 
+    public int getLockStripeCount() {
+        return lockStripeCount;
+    }
+
+    /**
+     * Number of locks to use for striping the aggregation lock by the correlation key, so exchanges for unrelated
+     * correlation groups can be aggregated concurrently, and completion timeouts are checked per group. Is default 0
+     * which uses a single lock for all the correlation groups. This option is not in use with optimistic locking, or
+     * with completion on new correlation group or completion from batch consumer, which complete the other groups.
+     * <p/>
+     * When a striped lock is in use, then the {@link AggregationStrategy} and the {@link AggregationRepository} are
+     * called concurrently for different correlation keys, so they must be thread-safe.
+     * <p/>
+     * When a striped lock is in use, and the aggregated exchange is flagged to complete all groups, then all groups are
+     * completed after the exchange has been aggregated, which includes its own group.
+     */
+    public void setLockStripeCount(int lockStripeCount) {
+        this.lockStripeCount = lockStripeCount;
+    }
+
     public boolean isOptimisticLockingSyncRetry() {
         return optimisticLockingSyncRetry;
     }
@@ -1322,7 +1367,8 @@ public class AggregateProcessor extends BaseProcessorSupport
 
         private AggregationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
             // do NOT use locking on the timeout map as this aggregator has its own shared lock we will use instead
-            super(executor, requestMapPollTimeMillis, optimisticLocking);
+            // (unless the shared lock is striped by the correlation key)
+            super(executor, requestMapPollTimeMillis, optimisticLocking || isLockStriped());
             addListener(this::onEviction);
         }
 
@@ -1346,6 +1392,26 @@ public class AggregateProcessor extends BaseProcessorSupport
             }
             log.debug("Completion timeout triggered for correlation key: {}", key);
 
+            if (lockStripes != null) {
+                // the timeout map is purged without the striped lock, so lock the group and check whether
+                // it has been aggregated again in the meantime, which means it is no longer timed out
+                Lock lock = lockFor(key);
+                lock.lock();
+                try {
+                    if (get(key) == null) {
+                        doEviction(key, exchangeId);
+                    } else {
+                        log.trace("Correlation key: {} was aggregated after the completion timeout triggered", key);
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            } else {
+                doEviction(key, exchangeId);
+            }
+        }
+
+        private void doEviction(String key, String exchangeId) {
             boolean inProgress = inProgressCompleteExchanges.contains(exchangeId);
             if (inProgress) {
                 log.trace("Aggregated exchange with id: {} is already in progress.", exchangeId);
@@ -1405,21 +1471,27 @@ public class AggregateProcessor extends BaseProcessorSupport
                 try {
                     for (String key : keys) {
                         boolean stolenInterval = false;
-                        Exchange exchange = aggregationRepository.get(camelContext, key);
-                        if (exchange == null) {
-                            stolenInterval = true;
-                        } else {
-                            LOG.trace("Completion interval triggered for correlation key: {}", key);
-                            // indicate it was completed by interval
-                            exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_INTERVAL);
-                            try {
-                                Exchange answer = onCompletion(key, exchange, exchange, false, false);
-                                if (answer != null) {
-                                    onSubmitCompletion(key, answer);
-                                }
-                            } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
+                        Lock keyLock = lockFor(key);
+                        keyLock.lock();
+                        try {
+                            Exchange exchange = aggregationRepository.get(camelContext, key);
+                            if (exchange == null) {
                                 stolenInterval = true;
+                            } else {
+                                LOG.trace("Completion interval triggered for correlation key: {}", key);
+                                // indicate it was completed by interval
+                                exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_INTERVAL);
+                                try {
+                                    Exchange answer = onCompletion(key, exchange, exchange, false, false);
+                                    if (answer != null) {
+                                        onSubmitCompletion(key, answer);
+                                    }
+                                } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
+                                    stolenInterval = true;
+                                }
                             }
+                        } finally {
+                            keyLock.unlock();
                         }
                         if (optimisticLocking && stolenInterval) {
                             LOG.debug(
@@ -1469,7 +1541,7 @@ public class AggregateProcessor extends BaseProcessorSupport
                         LOG.info("We are shutting down so stop recovering");
                         return;
                     }
-                    lock.lock();
+                    lockAll();
                     try {
                         // consider in progress if it was in progress before we did the scan, or currently after we did the scan
                         // its safer to consider it in progress than risk duplicates due both in progress + recovered
@@ -1546,7 +1618,7 @@ public class AggregateProcessor extends BaseProcessorSupport
                             }
                         }
                     } finally {
-                        lock.unlock();
+                        unlockAll();
                     }
                 }
             } finally {
@@ -1612,6 +1684,9 @@ public class AggregateProcessor extends BaseProcessorSupport
             LOG.info("Optimistic locking is enabled");
         }
 
+        if (aggregationRepository instanceof DeltaAggregationRepository deltaAggregationRepository) {
+            deltaAggregationRepository.setAggregationStrategy(aggregationStrategy);
+        }
         ServiceHelper.startService(aggregationStrategy, processor, aggregationRepository);
 
         // should we use recover checker
@@ -1688,6 +1763,7 @@ public class AggregateProcessor extends BaseProcessorSupport
         }
         aggregateController.onStart(this);
 
+        lockStripes = null;
         if (optimisticLocking) {
             lock = NoLock.INSTANCE;
             if (getOptimisticLockingExecutorService() == null) {
@@ -1695,11 +1771,29 @@ public class AggregateProcessor extends BaseProcessorSupport
                         .newSingleThreadScheduledExecutor(this, AGGREGATE_OPTIMISTIC_LOCKING_EXECUTOR));
                 shutdownOptimisticLockingExecutorService = true;
             }
+        } else if (isLockStriped()) {
+            Lock[] stripes = new Lock[lockStripeCount];
+            for (int i = 0; i < stripes.length; i++) {
+                stripes[i] = new ReentrantLock();
+            }
+            lockStripes = stripes;
+            // the striped locks are used per correlation key instead of the shared lock
+            lock = NoLock.INSTANCE;
         } else {
             lock = new ReentrantLock();
         }
     }
 
+    /**
+     * Whether the aggregation lock is striped by the correlation key. Completion on new correlation group and
+     * completion from batch consumer both complete other groups than the one being aggregated, so they must use the
+     * shared lock.
+     */
+    private boolean isLockStriped() {
+        return !optimisticLocking && lockStripeCount > 1
+                && !isCompletionOnNewCorrelationGroup() && !isCompletionFromBatchConsumer();
+    }
+
     @Override
     protected void doStop() throws Exception {
         // note: we cannot do doForceCompletionOnStop from this doStop method
@@ -1804,10 +1898,46 @@ public class AggregateProcessor extends BaseProcessorSupport
         super.doShutdown();
     }
 
+    /**
+     * Gets the lock to use for aggregating the given correlation key, which is the shared lock, unless striped locks
+     * are in use.
+     */
+    private Lock lockFor(String key) {
+        Lock[] stripes = lockStripes;
+        if (stripes != null) {
+            return stripes[(key.hashCode() & Integer.MAX_VALUE) % stripes.length];
+        }
+        return lock;
+    }
+
+    private void lockAll() {
+        Lock[] stripes = lockStripes;
+        if (stripes != null) {
+            // always lock in the same order to avoid deadlocks
+            for (Lock stripe : stripes) {
+                stripe.lock();
+            }
+        } else {
+            lock.lock();
+        }
+    }
+
+    private void unlockAll() {
+        Lock[] stripes = lockStripes;
+        if (stripes != null) {
+            for (int i = stripes.length - 1; i >= 0; i--) {
+                stripes[i].unlock();
+            }
+        } else {
+            lock.unlock();
+        }
+    }
+
     public int forceCompletionOfGroup(String key) {
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
+        Lock lock = lockFor(key);
         lock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
@@ -1854,15 +1984,21 @@ public class AggregateProcessor extends BaseProcessorSupport
             total = keys.size();
             try {
                 for (String key : keys) {
-                    Exchange exchange = aggregationRepository.get(camelContext, key);
-                    if (exchange != null) {
-                        LOG.trace("Force completion triggered for correlation key: {}", key);
-                        // indicate it was completed by a force completion request
-                        exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
-                        Exchange answer = onCompletion(key, exchange, exchange, false, false);
-                        if (answer != null) {
-                            onSubmitCompletion(key, answer);
+                    Lock keyLock = lockFor(key);
+                    keyLock.lock();
+                    try {
+                        Exchange exchange = aggregationRepository.get(camelContext, key);
+                        if (exchange != null) {
+                            LOG.trace("Force completion triggered for correlation key: {}", key);
+                            // indicate it was completed by a force completion request
+                            exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
+                            Exchange answer = onCompletion(key, exchange, exchange, false, false);
+                            if (answer != null) {
+                                onSubmitCompletion(key, answer);
+                            }
                         }
+                    } finally {
+                        keyLock.unlock();
                     }
                 }
             } finally {
@@ -1881,6 +2017,7 @@ public class AggregateProcessor extends BaseProcessorSupport
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
+        Lock lock = lockFor(key);
         lock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
@@ -1923,11 +2060,17 @@ public class AggregateProcessor extends BaseProcessorSupport
             total = keys.size();
             try {
                 for (String key : keys) {
-                    Exchange exchange = aggregationRepository.get(camelContext, key);
-                    if (exchange != null) {
-                        LOG.trace("Force discarded triggered for correlation key: {}", key);
-                        // force discarding by setting aggregate failed as true
-                        onCompletion(key, exchange, exchange, false, true);
+                    Lock keyLock = lockFor(key);
+                    keyLock.lock();
+                    try {
+                        Exchange exchange = aggregationRepository.get(camelContext, key);
+                        if (exchange != null) {
+                            LOG.trace("Force discarded triggered for correlation key: {}", key);
+                            // force discarding by setting aggregate failed as true
+                            onCompletion(key, exchange, exchange, false, true);
+                        }
+                    } finally {
+                        keyLock.unlock();
                     }
                 }
             } finally {
@@ -86,6 +86,16 @@ public final class ShareUnitOfWorkAggregationStrategy extends ServiceSupport imp
         strategy.onOptimisticLockFailure(oldExchange, newExchange);
     }
 
+    @Override
+    public boolean isAssociative() {
+        return strategy.isAssociative();
+    }
+
+    @Override
+    public Exchange combine(Exchange exchange, Exchange partialExchange) {
+        return strategy.combine(exchange, partialExchange);
+    }
+
     @Override
     public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
         // aggregate using the actual strategy first
@@ -102,6 +102,21 @@ public class StringAggregationStrategy implements AggregationStrategy {
         return oldExchange != null ? oldExchange : newExchange;
     }
 
+    @Override
+    public boolean isAssociative() {
+        return true;
+    }
+
+    @Override
+    public Exchange combine(Exchange exchange, Exchange partialExchange) {
+        // the partial buffer already has the delimiters prepended, as it was aggregated as the old exchange
+        StringBuffer partial = (StringBuffer) partialExchange.removeProperty(ExchangePropertyKey.GROUPED_EXCHANGE);
+        if (partial != null) {
+            getStringBuffer(exchange).append(partial);
+        }
+        return exchange;
+    }
+
     @Override
     public void onCompletion(Exchange exchange) {
         if (exchange != null) {
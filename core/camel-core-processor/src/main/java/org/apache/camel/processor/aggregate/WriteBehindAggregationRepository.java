@@ -0,0 +1,625 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.spi.AggregationRepository;
+import org.apache.camel.spi.Configurer;
+import org.apache.camel.spi.DeltaAggregationRepository;
+import org.apache.camel.spi.Metadata;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.DefaultExchangeHolder;
+import org.apache.camel.support.DefaultExchangeHolderCodec;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A write-behind {@link AggregationRepository} which wraps another (usually persistent) {@link AggregationRepository}.
+ * <p/>
+ * Instead of storing the full aggregated {@link Exchange} in the wrapped repository on every aggregation, then only the
+ * incoming exchange (delta) is appended to a local journal, and the in progress aggregated exchanges are kept in
+ * memory. The journaled parts are periodically compacted by aggregating them onto the state from the wrapped repository
+ * and written to the wrapped repository in a batch, which also happens when a number of parts are pending.
+ * <p/>
+ * When starting, then any parts left in the journal (such as after a crash) are replayed onto the wrapped repository,
+ * using the {@link AggregationStrategy} of the aggregator. This requires the aggregation strategy to aggregate the same
+ * way when aggregating the recovered parts.
+ * <p/>
+ * Recovery of completed exchanges by the aggregator ({@link org.apache.camel.spi.RecoverableAggregationRepository}) is
+ * not supported.
+ */
+@Metadata(label = "bean",
+          description = "A write-behind AggregationRepository which journals the aggregated parts to disk and writes"
+                        + " the aggregated exchanges to the wrapped repository in batches.",
+          annotations = { "interfaceName=org.apache.camel.spi.AggregationRepository" })
+@Configurer(metadataOnly = true)
+public class WriteBehindAggregationRepository extends ServiceSupport
+        implements DeltaAggregationRepository, CamelContextAware {
+
+    public static final String DEFAULT_DESERIALIZATION_FILTER
+            = "!java.net.**;java.**;org.apache.camel.**;maxdepth=20;maxrefs=10000;maxbytes=10485760;!*";
+
+    private static final Logger LOG = LoggerFactory.getLogger(WriteBehindAggregationRepository.class);
+
+    // the sequence of the last journaled part which has been written to the wrapped repository
+    private static final String SEQUENCE = "CamelAggregationJournalSequence";
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final byte SNAPSHOT = 1;
+    private static final byte DELTA = 2;
+    private static final byte REMOVE = 3;
+
+    private final ConcurrentMap<String, Exchange> cache = new ConcurrentHashMap<>();
+    private final DefaultExchangeHolderCodec codec = new DefaultExchangeHolderCodec();
+    private final Lock journalLock = new ReentrantLock();
+    private final Lock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private CamelContext camelContext;
+    private ScheduledExecutorService executorService;
+    private Map<String, List<Record>> pending = new LinkedHashMap<>();
+    private int pendingCount;
+    private long sequence;
+    private long generation;
+    private FileOutputStream journalFile;
+    private DataOutputStream journal;
+
+    @Metadata(description = "The wrapped aggregation repository to write the aggregated exchanges to.", required = true)
+    private AggregationRepository repository;
+    @Metadata(description = "The directory to store the journal files.", required = true)
+    private String journalDirectory;
+    @Metadata(description = "The name used as prefix for the journal files.", defaultValue = "aggregation")
+    private String name = "aggregation";
+    @Metadata(description = "The interval in millis to write the journaled parts to the wrapped repository.",
+              defaultValue = "1000")
+    private long flushInterval = 1000;
+    @Metadata(description = "The number of journaled parts that triggers writing to the wrapped repository.",
+              defaultValue = "1000")
+    private int flushBatchSize = 1000;
+    @Metadata(description = "Whether to sync the journal to disk for every journaled part.")
+    private boolean sync;
+    @Metadata(description = "Sets a deserialization filter while reading the journal. See"
+                            + " https://docs.oracle.com/en/java/javase/17/core/serialization-filtering1.html.",
+              defaultValue = DEFAULT_DESERIALIZATION_FILTER)
+    private String deserializationFilter = DEFAULT_DESERIALIZATION_FILTER;
+    private AggregationStrategy aggregationStrategy;
+
+    public WriteBehindAggregationRepository() {
+    }
+
+    public WriteBehindAggregationRepository(AggregationRepository repository, String journalDirectory) {
+        this.repository = repository;
+        this.journalDirectory = journalDirectory;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public AggregationRepository getRepository() {
+        return repository;
+    }
+
+    public void setRepository(AggregationRepository repository) {
+        this.repository = repository;
+    }
+
+    public String getJournalDirectory() {
+        return journalDirectory;
+    }
+
+    public void setJournalDirectory(String journalDirectory) {
+        this.journalDirectory = journalDirectory;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(long flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public int getFlushBatchSize() {
+        return flushBatchSize;
+    }
+
+    public void setFlushBatchSize(int flushBatchSize) {
+        this.flushBatchSize = flushBatchSize;
+    }
+
+    public boolean isSync() {
+        return sync;
+    }
+
+    public void setSync(boolean sync) {
+        this.sync = sync;
+    }
+
+    public String getDeserializationFilter() {
+        return deserializationFilter;
+    }
+
+    public void setDeserializationFilter(String deserializationFilter) {
+        this.deserializationFilter = deserializationFilter;
+    }
+
+    public AggregationStrategy getAggregationStrategy() {
+        return aggregationStrategy;
+    }
+
+    @Override
+    public void setAggregationStrategy(AggregationStrategy aggregationStrategy) {
+        this.aggregationStrategy = aggregationStrategy;
+    }
+
+    /**
+     * Number of journaled parts which are pending to be written to the wrapped repository.
+     */
+    public int getPendingSize() {
+        journalLock.lock();
+        try {
+            return pendingCount;
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    @Override
+    public Exchange add(CamelContext camelContext, String key, Exchange exchange) {
+        return add(camelContext, key, exchange, null);
+    }
+
+    @Override
+    public Exchange add(CamelContext camelContext, String key, Exchange exchange, Exchange delta) {
+        byte type = delta != null && aggregationStrategy != null ? DELTA : SNAPSHOT;
+        byte[] data = marshal(type == DELTA ? delta : exchange);
+
+        boolean flush;
+        journalLock.lock();
+        try {
+            long seq = ++sequence;
+            writeRecord(type, seq, key, data);
+            if (type == SNAPSHOT) {
+                // a snapshot replaces the parts journaled before
+                pendingCount -= pending.getOrDefault(key, Collections.emptyList()).size();
+                pending.remove(key);
+            }
+            pending.computeIfAbsent(key, k -> new ArrayList<>()).add(new Record(type, seq, data));
+            pendingCount++;
+            flush = flushBatchSize > 0 && pendingCount >= flushBatchSize;
+        } finally {
+            journalLock.unlock();
+        }
+        Exchange answer = cache.put(key, exchange);
+
+        if (flush && executorService != null && flushRequested.compareAndSet(false, true)) {
+            executorService.execute(this::flush);
+        }
+        return answer;
+    }
+
+    @Override
+    public Exchange get(CamelContext camelContext, String key) {
+        Exchange answer = cache.get(key);
+        if (answer == null) {
+            answer = repository.get(camelContext, key);
+            if (answer != null) {
+                // the journaled parts are aggregated onto the stored exchange when flushing, so it must not be changed
+                answer = answer.copy();
+                answer.removeProperty(SEQUENCE);
+            }
+        }
+        return answer;
+    }
+
+    @Override
+    public void remove(CamelContext camelContext, String key, Exchange exchange) {
+        // block any flush, so the removed exchange is not written to the wrapped repository again
+        flushLock.lock();
+        try {
+            journalLock.lock();
+            try {
+                pendingCount -= pending.getOrDefault(key, Collections.emptyList()).size();
+                pending.remove(key);
+                writeRecord(REMOVE, ++sequence, key, new byte[0]);
+            } finally {
+                journalLock.unlock();
+            }
+            cache.remove(key);
+            repository.remove(camelContext, key, exchange);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void confirm(CamelContext camelContext, String exchangeId) {
+        repository.confirm(camelContext, exchangeId);
+    }
+
+    @Override
+    public Set<String> getKeys() {
+        Set<String> answer = new HashSet<>(repository.getKeys());
+        answer.addAll(cache.keySet());
+        return Collections.unmodifiableSet(answer);
+    }
+
+    /**
+     * Writes the pending journaled parts to the wrapped repository.
+     */
+    public void flush() {
+        flushRequested.set(false);
+        flushLock.lock();
+        try {
+            doFlush();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void doFlush() {
+        Map<String, List<Record>> batch;
+        long current;
+        journalLock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new LinkedHashMap<>();
+            pendingCount = 0;
+            // new parts are journaled to a new file, so the current files can be deleted when the batch is written
+            current = openJournal(generation + 1);
+        } finally {
+            journalLock.unlock();
+        }
+
+        LOG.debug("Writing {} aggregated exchanges to repository: {}", batch.size(), repository);
+        Set<String> written = new HashSet<>();
+        Iterator<Map.Entry<String, List<Record>>> it = batch.entrySet().iterator();
+        try {
+            while (it.hasNext()) {
+                Map.Entry<String, List<Record>> entry = it.next();
+                String key = entry.getKey();
+                Exchange state = repository.get(camelContext, key);
+                for (Record record : entry.getValue()) {
+                    state = apply(state, record);
+                }
+                state.setProperty(SEQUENCE, entry.getValue().get(entry.getValue().size() - 1).seq);
+                repository.add(camelContext, key, state);
+                written.add(key);
+                it.remove();
+            }
+        } catch (Exception e) {
+            LOG.warn("Error writing aggregated exchanges to repository: {}. Will try again on next flush. Caused by: {}",
+                    repository, e.getMessage(), e);
+            journalLock.lock();
+            try {
+                // keep the parts not written in front of the parts journaled meanwhile
+                for (Map.Entry<String, List<Record>> entry : pending.entrySet()) {
+                    batch.computeIfAbsent(entry.getKey(), k -> new ArrayList<>()).addAll(entry.getValue());
+                }
+                pending = batch;
+                pendingCount = batch.values().stream().mapToInt(List::size).sum();
+            } finally {
+                journalLock.unlock();
+            }
+            return;
+        }
+
+        journalLock.lock();
+        try {
+            // the exchanges which have not been aggregated meanwhile are now only kept in the wrapped repository
+            for (String key : written) {
+                if (!pending.containsKey(key)) {
+                    cache.remove(key);
+                }
+            }
+        } finally {
+            journalLock.unlock();
+        }
+        deleteJournals(current);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(camelContext, "camelContext");
+        ObjectHelper.notNull(repository, "repository");
+        ObjectHelper.notNull(journalDirectory, "journalDirectory");
+        CamelContextAware.trySetCamelContext(repository, camelContext);
+        ServiceHelper.startService(repository);
+
+        codec.setDeserializationFilter(deserializationFilter);
+        Files.createDirectories(Path.of(journalDirectory));
+        sequence = Math.max(System.currentTimeMillis() * 1_000_000, recover());
+        openJournal(generation + 1);
+
+        if (flushInterval > 0) {
+            executorService = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this,
+                    "WriteBehindAggregationRepository");
+            executorService.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null) {
+            camelContext.getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+        }
+        flush();
+        journalLock.lock();
+        try {
+            closeJournal();
+        } finally {
+            journalLock.unlock();
+        }
+        if (pending.isEmpty()) {
+            deleteJournals(Long.MAX_VALUE);
+        }
+        cache.clear();
+        ServiceHelper.stopService(repository);
+    }
+
+    /**
+     * Replays the parts left in the journal files onto the wrapped repository.
+     *
+     * @return the highest sequence found in the journal
+     */
+    private long recover() throws Exception {
+        Map<Long, Path> files = journalFiles();
+        if (files.isEmpty()) {
+            return 0;
+        }
+        LOG.info("Recovering {} journal files from: {}", files.size(), journalDirectory);
+
+        long max = 0;
+        Map<String, Exchange> states = new LinkedHashMap<>();
+        Map<String, Exchange> existing = new HashMap<>();
+        for (Path file : files.values()) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                while (true) {
+                    byte type;
+                    try {
+                        type = in.readByte();
+                    } catch (EOFException e) {
+                        break;
+                    }
+                    Record record;
+                    String key;
+                    try {
+                        long seq = in.readLong();
+                        key = in.readUTF();
+                        byte[] data = new byte[in.readInt()];
+                        in.readFully(data);
+                        record = new Record(type, seq, data);
+                    } catch (EOFException e) {
+                        LOG.warn("Ignoring incomplete record at the end of journal file: {}", file);
+                        break;
+                    }
+                    max = Math.max(max, record.seq);
+
+                    if (!states.containsKey(key)) {
+                        Exchange state = repository.get(camelContext, key);
+                        existing.put(key, state);
+                        states.put(key, state);
+                    }
+                    Exchange state = states.get(key);
+                    long last = state != null ? state.getProperty(SEQUENCE, 0L, long.class) : 0;
+                    if (record.seq > last) {
+                        if (record.type == REMOVE) {
+                            states.put(key, null);
+                        } else {
+                            if (record.type == DELTA && aggregationStrategy == null) {
+                                throw new IllegalStateException(
+                                        "AggregationStrategy must be configured to recover journal files from: "
+                                                                + journalDirectory);
+                            }
+                            state = apply(state, record);
+                            state.setProperty(SEQUENCE, record.seq);
+                            states.put(key, state);
+                        }
+                    }
+                }
+            }
+        }
+
+        for (Map.Entry<String, Exchange> entry : states.entrySet()) {
+            String key = entry.getKey();
+            Exchange state = entry.getValue();
+            if (state != null) {
+                repository.add(camelContext, key, state);
+            } else if (existing.get(key) != null) {
+                repository.remove(camelContext, key, existing.get(key));
+            }
+        }
+        LOG.info("Recovered {} aggregated exchanges from journal files", states.size());
+
+        generation = files.keySet().stream().mapToLong(Long::longValue).max().orElse(0);
+        deleteJournals(Long.MAX_VALUE);
+        return max;
+    }
+
+    private Exchange apply(Exchange state, Record record) {
+        Exchange exchange = unmarshal(record.data);
+        if (state == null || record.type == SNAPSHOT) {
+            return exchange;
+        }
+        state.removeProperty(SEQUENCE);
+        int size = state.getProperty(ExchangePropertyKey.AGGREGATED_SIZE, 0, Integer.class) + 1;
+        Exchange answer = aggregationStrategy.aggregate(state, exchange);
+        answer.setProperty(ExchangePropertyKey.AGGREGATED_SIZE, size);
+        Object timeout = exchange.getProperty(ExchangePropertyKey.AGGREGATED_TIMEOUT);
+        if (timeout != null) {
+            answer.setProperty(ExchangePropertyKey.AGGREGATED_TIMEOUT, timeout);
+        }
+        return answer;
+    }
+
+    private void writeRecord(byte type, long seq, String key, byte[] data) {
+        try {
+            journal.writeByte(type);
+            journal.writeLong(seq);
+            journal.writeUTF(key);
+            journal.writeInt(data.length);
+            journal.write(data);
+            journal.flush();
+            if (sync) {
+                journalFile.getFD().sync();
+            }
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error writing to journal file in: " + journalDirectory, e);
+        }
+    }
+
+    private long openJournal(long generation) {
+        closeJournal();
+        Path file = Path.of(journalDirectory, name + "-" + generation + JOURNAL_SUFFIX);
+        try {
+            journalFile = new FileOutputStream(file.toFile(), true);
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error opening journal file: " + file, e);
+        }
+        journal = new DataOutputStream(new BufferedOutputStream(journalFile));
+        this.generation = generation;
+        return generation;
+    }
+
+    private void closeJournal() {
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                LOG.debug("Error closing journal file. This exception is ignored.", e);
+            }
+            journal = null;
+            journalFile = null;
+        }
+    }
+
+    private Map<Long, Path> journalFiles() throws IOException {
+        Map<Long, Path> answer = new TreeMap<>();
+        String prefix = name + "-";
+        try (Stream<Path> files = Files.list(Path.of(journalDirectory))) {
+            files.forEach(file -> {
+                String fileName = file.getFileName().toString();
+                if (fileName.startsWith(prefix) && fileName.endsWith(JOURNAL_SUFFIX)) {
+                    String number = fileName.substring(prefix.length(), fileName.length() - JOURNAL_SUFFIX.length());
+                    try {
+                        answer.put(Long.parseLong(number), file);
+                    } catch (NumberFormatException e) {
+                        // not a journal file
+                    }
+                }
+            });
+        }
+        return answer;
+    }
+
+    private void deleteJournals(long before) {
+        try {
+            for (Map.Entry<Long, Path> entry : journalFiles().entrySet()) {
+                if (entry.getKey() < before) {
+                    Files.deleteIfExists(entry.getValue());
+                }
+            }
+        } catch (IOException e) {
+            LOG.warn("Error deleting journal files in: {}. This exception is ignored.", journalDirectory, e);
+        }
+    }
+
+    private byte[] marshal(Exchange exchange) {
+        try {
+            return codec.encode(DefaultExchangeHolder.marshal(exchange, true, true));
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error marshalling exchange: " + exchange, e);
+        }
+    }
+
+    private Exchange unmarshal(byte[] data) {
+        try {
+            DefaultExchangeHolder holder = codec.decode(data);
+            Exchange answer = new DefaultExchange(camelContext);
+            DefaultExchangeHolder.unmarshal(answer, holder);
+            return answer;
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error unmarshalling exchange from journal", e);
+        }
+    }
+
+    private static final class Record {
+        private final byte type;
+        private final long seq;
+        private final byte[] data;
+
+        private Record(byte type, long seq, byte[] data) {
+            this.type = type;
+            this.seq = seq;
+            this.data = data;
+        }
+    }
+
+}
@@ -23,7 +23,7 @@ import org.apache.camel.Expression;
  * Compares elements of an {@link Exchange} sequence by comparing <code>long</code> values returned by this comparator's
  * <code>expression</code>.
  */
-public class DefaultExchangeComparator implements ExpressionResultComparator {
+public class DefaultExchangeComparator implements ExpressionResultComparator, LongSequenceElementComparator<Exchange> {
 
     private Expression expression;
 
@@ -48,12 +48,13 @@ public class DefaultExchangeComparator implements ExpressionResultComparator {
 
     @Override
     public int compare(Exchange o1, Exchange o2) {
-        Long n1 = getSequenceNumber(o1);
-        Long n2 = getSequenceNumber(o2);
-        return n1.compareTo(n2);
+        long n1 = getSequenceNumber(o1);
+        long n2 = getSequenceNumber(o2);
+        return Long.compare(n1, n2);
     }
 
-    private Long getSequenceNumber(Exchange exchange) {
+    @Override
+    public long getSequenceNumber(Exchange exchange) {
         return expression.evaluate(exchange, Long.class);
     }
 
@@ -20,8 +20,10 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Timer;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 
 import org.apache.camel.util.concurrent.ThreadHelper;
@@ -50,13 +52,62 @@ import org.apache.camel.util.concurrent.ThreadHelper;
  * adjusted accordingly. If the last-delivered element is <code>null</code> i.e. the resequencer was newly created the
  * first arriving element needs <code>timeout</code> milliseconds in any case for becoming <i>ready-for-delivery</i>.
  * <p>
+ * If the comparator is a {@link LongSequenceElementComparator} then the elements are kept in a ring buffer indexed by
+ * the offset of their sequence number from the lowest sequence number, which gives constant time insertion and
+ * delivery. Instead of scheduling a {@link Timeout} per element, the arrival time of each element is recorded and only
+ * the element following a gap is checked for having timed out when delivering. An element which is too far from the
+ * other elements to fit in the ring buffer (such as a very late element) causes the elements to be moved to the sorted
+ * sequence, which is then used until it is empty again.
+ * <p>
  */
 public class ResequencerEngine<E> {
 
+    /**
+     * The initial capacity of the ring buffer.
+     */
+    private static final int RING_INITIAL_CAPACITY = 16;
+
+    /**
+     * The maximum capacity of the ring buffer, which is the maximum difference between the lowest and highest sequence
+     * numbers kept in the ring buffer.
+     */
+    private static final int RING_MAX_CAPACITY = 1 << 16;
+
     /**
      * The element that most recently hash been delivered or <code>null</code> if no element has been delivered yet.
      */
-    private Element<E> lastDelivered;
+    private E lastDelivered;
+
+    /**
+     * The sequence number of the last delivered element (when using the ring buffer).
+     */
+    private long lastDeliveredNumber;
+
+    /**
+     * The comparator of the elements.
+     */
+    private final SequenceElementComparator<E> comparator;
+
+    /**
+     * The comparator if the elements have <code>long</code> sequence numbers, or <code>null</code> if the ring buffer
+     * is not used.
+     */
+    private final LongSequenceElementComparator<E> longComparator;
+
+    /**
+     * Ring buffer of the elements, where the element at <code>head</code> has the sequence number <code>base</code>.
+     */
+    private Object[] ring;
+
+    /**
+     * The arrival time (nanos) of the elements in the ring buffer.
+     */
+    private long[] arrivals;
+
+    private int head;
+    private long base;
+    private long highest;
+    private int count;
 
     /**
      * Minimum amount of time to wait for out-of-sequence elements.
@@ -88,7 +139,7 @@ public class ResequencerEngine<E> {
      * List containing wait conditions to be evaluated whenever the sequence is modified. Access to this field should be
      * done inside a lock block.
      */
-    private final Map<CountDownLatch, Predicate<Sequence<?>>> waitConditions = new HashMap<>();
+    private final Map<CountDownLatch, BooleanSupplier> waitConditions = new HashMap<>();
 
     private final Lock lock = new ReentrantLock();
 
@@ -98,6 +149,8 @@ public class ResequencerEngine<E> {
      * @param comparator a sequence element comparator.
      */
     public ResequencerEngine(SequenceElementComparator<E> comparator) {
+        this.comparator = comparator;
+        this.longComparator = comparator instanceof LongSequenceElementComparator<E> lc ? lc : null;
         this.sequence = createSequence(comparator);
         this.timeout = 2000L;
         this.lastDelivered = null;
@@ -123,7 +176,7 @@ public class ResequencerEngine<E> {
     public int size() {
         lock.lock();
         try {
-            return sequence.size();
+            return count + sequence.size();
         } finally {
             lock.unlock();
         }
@@ -132,19 +185,37 @@ public class ResequencerEngine<E> {
     /**
      * Wait for the following condition to happen. Do not call this method while holding a lock on the resequencer
      * engine, as it will deadlock. The predicate will be evaluated while holding a lock on the resequencer engine.
+     * <p>
+     * Note that the sequence does not contain the elements kept in the ring buffer, use
+     * {@link #waitUntilSizeBelow(int)} for waiting on the number of elements.
      *
      * @param  pred                 the condition to wait for
      * @throws InterruptedException if the thread is interrupted
      */
     public void waitUntil(Predicate<Sequence<?>> pred) throws InterruptedException {
+        waitUntil(() -> pred.test(sequence));
+    }
+
+    /**
+     * Wait until the number of elements currently maintained by this resequencer is below the given size. Do not call
+     * this method while holding a lock on the resequencer engine, as it will deadlock.
+     *
+     * @param  size                 the size
+     * @throws InterruptedException if the thread is interrupted
+     */
+    public void waitUntilSizeBelow(int size) throws InterruptedException {
+        waitUntil(() -> count + sequence.size() < size);
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
         CountDownLatch latch;
         lock.lock();
         try {
-            if (pred.test(sequence)) {
+            if (condition.getAsBoolean()) {
                 return;
             }
             latch = new CountDownLatch(1);
-            waitConditions.put(latch, pred);
+            waitConditions.put(latch, condition);
         } finally {
             lock.unlock();
         }
@@ -154,9 +225,12 @@ public class ResequencerEngine<E> {
     private void evaluateConditions() {
         lock.lock();
         try {
+            if (waitConditions.isEmpty()) {
+                return;
+            }
             for (var it = waitConditions.entrySet().iterator(); it.hasNext();) {
-                Map.Entry<CountDownLatch, Predicate<Sequence<?>>> e = it.next();
-                if (e.getValue().test(sequence)) {
+                Map.Entry<CountDownLatch, BooleanSupplier> e = it.next();
+                if (e.getValue().getAsBoolean()) {
                     e.getKey().countDown();
                     it.remove();
                 }
@@ -216,10 +290,7 @@ public class ResequencerEngine<E> {
      * @return the last delivered element or <code>null</code> if no delivery has been made yet.
      */
     E getLastDelivered() {
-        if (lastDelivered == null) {
-            return null;
-        }
-        return lastDelivered.getObject();
+        return lastDelivered;
     }
 
     /**
@@ -228,7 +299,10 @@ public class ResequencerEngine<E> {
      * @param o an element.
      */
     void setLastDelivered(E o) {
-        lastDelivered = new Element<>(o);
+        lastDelivered = o;
+        if (longComparator != null) {
+            lastDeliveredNumber = longComparator.getSequenceNumber(o);
+        }
     }
 
     /**
@@ -241,22 +315,31 @@ public class ResequencerEngine<E> {
     public void insert(E o) {
         lock.lock();
         try {
-            // wrap object into internal element
-            Element<E> element = new Element<>(o);
-
             // validate the exchange has no problem
-            if (!sequence.seqComparator().isValid(element)) {
-                throw new IllegalArgumentException("Element cannot be used in comparator: " + sequence.seqComparator());
+            if (!comparator.isValid(o)) {
+                throw new IllegalArgumentException("Element cannot be used in comparator: " + comparator);
             }
 
             // validate the exchange shouldn't be 'rejected' (if applicable)
-            if (rejectOld != null && rejectOld && beforeLastDelivered(element)) {
+            if (rejectOld != null && rejectOld && beforeLastDelivered(o)) {
                 throw new MessageRejectedException(
-                        "rejecting message [" + element.getObject()
+                        "rejecting message [" + o
                                                    + "], it should have been sent before the last delivered message ["
-                                                   + lastDelivered.getObject() + "]");
+                                                   + lastDelivered + "]");
+            }
+
+            // use the ring buffer unless elements have been moved to the sequence
+            if (longComparator != null && sequence.isEmpty()) {
+                if (insertRing(o, longComparator.getSequenceNumber(o))) {
+                    evaluateConditions();
+                    return;
+                }
+                moveRingToSequence();
             }
 
+            // wrap object into internal element
+            Element<E> element = new Element<>(o);
+
             // add element to sequence in proper order
             sequence.add(element);
 
@@ -312,6 +395,9 @@ public class ResequencerEngine<E> {
     public boolean deliverNext() throws Exception {
         lock.lock();
         try {
+            if (count > 0) {
+                return deliverNextRing();
+            }
             if (sequence.isEmpty()) {
                 return false;
             }
@@ -327,7 +413,10 @@ public class ResequencerEngine<E> {
             sequence.remove(element);
 
             // set the delivered element to last delivered element
-            lastDelivered = element;
+            lastDelivered = element.getObject();
+            if (longComparator != null) {
+                lastDeliveredNumber = longComparator.getSequenceNumber(lastDelivered);
+            }
 
             // deliver the sequence element
             sequenceSender.sendElement(element.getObject());
@@ -352,7 +441,7 @@ public class ResequencerEngine<E> {
         if (lastDelivered == null) {
             return false;
         }
-        if (sequence.seqComparator().successor(element, lastDelivered)) {
+        if (comparator.successor(element.getObject(), lastDelivered)) {
             return true;
         }
         return false;
@@ -364,16 +453,142 @@ public class ResequencerEngine<E> {
      * @param  element an element.
      * @return         <code>true</code> if the given element is before the last delivered element.
      */
-    private boolean beforeLastDelivered(Element<E> element) {
+    private boolean beforeLastDelivered(E element) {
         if (lastDelivered == null) {
             return false;
         }
-        if (sequence.seqComparator().compare(element, lastDelivered) < 0) {
+        if (longComparator != null) {
+            return longComparator.getSequenceNumber(element) < lastDeliveredNumber;
+        }
+        if (comparator.compare(element, lastDelivered) < 0) {
             return true;
         }
         return false;
     }
 
+    /**
+     * Inserts the element into the ring buffer.
+     *
+     * @param  o      an element.
+     * @param  number the sequence number of the element.
+     * @return        <code>false</code> if the element does not fit in the ring buffer.
+     */
+    private boolean insertRing(E o, long number) {
+        if (count == 0) {
+            if (ring == null) {
+                ring = new Object[RING_INITIAL_CAPACITY];
+                arrivals = new long[RING_INITIAL_CAPACITY];
+            }
+            head = 0;
+            base = number;
+            highest = number;
+        } else if (number < base) {
+            // extend the ring buffer in front of the lowest element
+            long span = highest - number + 1;
+            if (span > RING_MAX_CAPACITY) {
+                return false;
+            }
+            ensureRingCapacity((int) span);
+            head = (head - (int) (base - number)) & (ring.length - 1);
+            base = number;
+        } else if (number > highest) {
+            long span = number - base + 1;
+            if (span > RING_MAX_CAPACITY) {
+                return false;
+            }
+            ensureRingCapacity((int) span);
+            highest = number;
+        }
+
+        int index = (head + (int) (number - base)) & (ring.length - 1);
+        if (ring[index] == null) {
+            // keep the existing element on duplicates (as the sequence does)
+            ring[index] = o;
+            arrivals[index] = System.nanoTime();
+            count++;
+        }
+        return true;
+    }
+
+    private void ensureRingCapacity(int span) {
+        int length = ring.length;
+        if (span <= length) {
+            return;
+        }
+        int newLength = Integer.highestOneBit(span - 1) << 1;
+        Object[] newRing = new Object[newLength];
+        long[] newArrivals = new long[newLength];
+        // copy the elements in sequence order so the head is at the start
+        int first = length - head;
+        System.arraycopy(ring, head, newRing, 0, first);
+        System.arraycopy(ring, 0, newRing, first, head);
+        System.arraycopy(arrivals, head, newArrivals, 0, first);
+        System.arraycopy(arrivals, 0, newArrivals, first, head);
+        ring = newRing;
+        arrivals = newArrivals;
+        head = 0;
+    }
+
+    /**
+     * Attempts to deliver the element with the lowest sequence number from the ring buffer. The element is ready for
+     * delivery if it is the immediate successor of the last delivered element, or if it has been waiting for the
+     * timeout.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean deliverNextRing() throws Exception {
+        E element = (E) ring[head];
+        boolean ready = lastDelivered != null && base == lastDeliveredNumber + 1;
+        if (!ready && System.nanoTime() - arrivals[head] < TimeUnit.MILLISECONDS.toNanos(timeout)) {
+            return false;
+        }
+
+        // remove deliverable element from the ring buffer and move to the next element
+        ring[head] = null;
+        lastDelivered = element;
+        lastDeliveredNumber = base;
+        if (--count > 0) {
+            do {
+                head = (head + 1) & (ring.length - 1);
+                base++;
+            } while (ring[head] == null);
+        }
+
+        // deliver the sequence element
+        sequenceSender.sendElement(element);
+
+        // evaluate wait conditions
+        evaluateConditions();
+
+        return true;
+    }
+
+    /**
+     * Moves the elements from the ring buffer to the sequence, scheduling the timeout of the elements which are not
+     * ready for delivery for their remaining time.
+     */
+    @SuppressWarnings("unchecked")
+    private void moveRingToSequence() {
+        long now = System.nanoTime();
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeout);
+        boolean predecessor = false;
+        for (long number = base; count > 0; number++) {
+            E o = (E) ring[head];
+            if (o != null) {
+                Element<E> element = new Element<>(o);
+                sequence.add(element);
+                boolean successor = lastDelivered != null && number == lastDeliveredNumber + 1;
+                long remaining = timeoutNanos - (now - arrivals[head]);
+                if (!predecessor && !successor && remaining > 0) {
+                    element.schedule(new Timeout(timer, Math.max(1, TimeUnit.NANOSECONDS.toMillis(remaining))));
+                }
+                ring[head] = null;
+                count--;
+            }
+            predecessor = o != null;
+            head = (head + 1) & (ring.length - 1);
+        }
+    }
+
     /**
      * Creates a timeout task based on the timeout setting of this resequencer.
      *
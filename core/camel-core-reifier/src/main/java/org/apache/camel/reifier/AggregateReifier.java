@@ -141,6 +141,7 @@ public class AggregateReifier extends ProcessorReifier<AggregateDefinition> {
         if (optimisticLockingSyncRetry != null) {
             answer.setOptimisticLockingSyncRetry(optimisticLockingSyncRetry);
         }
+        answer.setLockStripeCount(parseInt(definition.getLockStripeCount(), 0));
         if (definition.getCompletionPredicate() != null) {
             Predicate predicate = createPredicate(definition.getCompletionPredicate());
             answer.setCompletionPredicate(predicate);
@@ -84,6 +84,8 @@ public class MulticastReifier extends ProcessorReifier<MulticastDefinition> {
                 camelContext, route, list, strategy, isParallelProcessing, threadPool, shutdownThreadPool, isStreaming,
                 isStopOnException, timeout, prepare, isShareUnitOfWork, isParallelAggregate, 0);
         answer.setSynchronous(isSynchronous);
+        answer.setTreeAggregation(parseBoolean(definition.getTreeAggregation(), false));
+        answer.setMaxOutstanding(parseInt(definition.getMaxOutstanding(), 0));
         return answer;
     }
 
@@ -56,6 +56,8 @@ public class SortReifier<T, U extends SortDefinition<T>> extends ExpressionReifi
 
         SortProcessor<T> answer = new SortProcessor<T>(exp, comp);
         answer.setDisabled(isDisabled(camelContext, definition));
+        answer.setParallelThreshold(parseInt(definition.getParallelThreshold(), 0));
+        answer.setMaxInMemorySize(parseInt(definition.getMaxInMemorySize(), 0));
         return answer;
     }
 
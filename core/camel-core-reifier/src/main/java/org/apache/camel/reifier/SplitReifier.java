@@ -78,6 +78,8 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
         }
         answer.setSynchronous(isSynchronous);
         answer.setDisabled(isDisabled(camelContext, definition));
+        answer.setTreeAggregation(parseBoolean(definition.getTreeAggregation(), false));
+        answer.setMaxOutstanding(parseInt(definition.getMaxOutstanding(), 0));
         return answer;
     }
 
@@ -26,6 +26,7 @@ import org.apache.camel.model.ThrottleDefinition;
 import org.apache.camel.model.ThrottlingMode;
 import org.apache.camel.processor.ConcurrentRequestsThrottler;
 import org.apache.camel.processor.TotalRequestsThrottler;
+import org.apache.camel.spi.ThrottlingStateRepository;
 
 public class ThrottleReifier extends ExpressionReifier<ThrottleDefinition> {
 
@@ -67,11 +68,20 @@ public class ThrottleReifier extends ExpressionReifier<ThrottleDefinition> {
             answer.setAsyncDelayed(async);
             // should be true by default
             answer.setCallerRunsWhenRejected(parseBoolean(definition.getCallerRunsWhenRejected(), true));
+            answer.setThrottlingStateRepository(createThrottlingStateRepository());
             return answer;
         }
 
     }
 
+    private ThrottlingStateRepository createThrottlingStateRepository() {
+        ThrottlingStateRepository repository = definition.getThrottlingStateRepositoryBean();
+        if (repository == null && definition.getThrottlingStateRepository() != null) {
+            repository = mandatoryLookup(definition.getThrottlingStateRepository(), ThrottlingStateRepository.class);
+        }
+        return repository;
+    }
+
     private Expression createMaxRequestsPerPeriodExpression() {
         return definition.getExpression() != null ? createExpression(definition.getExpression()) : null;
     }
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.Registry;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit test for the incremental and parallel scanning of the file consumer
+ */
+public class FileConsumerIncrementalScanTest extends ContextTestSupport {
+
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final AtomicInteger directories = new AtomicInteger();
+    private final AtomicInteger filtered = new AtomicInteger();
+    private final AtomicBoolean open = new AtomicBoolean();
+
+    @Override
+    protected Registry createCamelRegistry() throws Exception {
+        Registry jndi = super.createCamelRegistry();
+        jndi.bind("myFilter", (GenericFileFilter<Object>) file -> {
+            if (file.isDirectory()) {
+                directories.incrementAndGet();
+                return true;
+            }
+            if (file.getFileNameOnly().startsWith("skip")) {
+                skipped.incrementAndGet();
+                return false;
+            }
+            return true;
+        });
+        return jndi;
+    }
+
+    @Test
+    public void testIncrementalScan() throws Exception {
+        Files.createDirectories(testDirectory("sub/deep"));
+        Files.writeString(testFile("skip1.txt"), "Skip 1");
+        Files.writeString(testFile("sub/skip2.txt"), "Skip 2");
+        Files.writeString(testFile("sub/deep/skip3.txt"), "Skip 3");
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World");
+
+        context.getRouteController().startRoute("foo");
+        template.sendBodyAndHeader(fileUri(), "Hello World", Exchange.FILE_NAME, "sub/deep/hello.txt");
+
+        assertMockEndpointsSatisfied();
+
+        // the skipped files are only checked by the filter the first time, as long as they are unchanged
+        int polled = directories.get();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> directories.get() > polled + 10);
+        assertEquals(3, skipped.get());
+
+        // a changed file is checked again
+        Path file = testFile("sub/skip2.txt");
+        Files.writeString(file, "Skip 2 changed");
+        await().atMost(5, TimeUnit.SECONDS).until(() -> skipped.get() == 4);
+    }
+
+    @Test
+    public void testIncrementalScanNotUsedWithFilterFile() throws Exception {
+        Files.createDirectories(testDirectory("gate"));
+        Files.writeString(testFile("gate/hello.txt"), "Hello Gate");
+
+        MockEndpoint mock = getMockEndpoint("mock:gate");
+        mock.expectedBodiesReceived("Hello Gate");
+
+        context.getRouteController().startRoute("bar");
+
+        // the file is rejected by the filter until the gate opens, so it must not be skipped as unchanged
+        await().atMost(5, TimeUnit.SECONDS).until(() -> filtered.get() > 5);
+        assertEquals(0, mock.getReceivedCounter());
+        open.set(true);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from(fileUri("?initialDelay=0&delay=10&recursive=true&filter=#myFilter&incrementalScan=true&scanParallelism=2"))
+                        .routeId("foo").autoStartup(false)
+                        .convertBodyTo(String.class).to("mock:result");
+
+                FileEndpoint gate = context.getEndpoint(
+                        fileUri("gate?initialDelay=0&delay=10&incrementalScan=true"), FileEndpoint.class);
+                gate.setFilterFile(exchange -> {
+                    filtered.incrementAndGet();
+                    return open.get();
+                });
+                from(gate).routeId("bar").autoStartup(false)
+                        .convertBodyTo(String.class).to("mock:gate");
+            }
+        };
+    }
+}
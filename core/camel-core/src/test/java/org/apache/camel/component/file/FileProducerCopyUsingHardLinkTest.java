@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.nio.file.Files;
+import java.util.UUID;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileProducerCopyUsingHardLinkTest extends ContextTestSupport {
+    private static final String TEST_FILE_NAME = "hello" + UUID.randomUUID() + ".txt";
+
+    @Test
+    public void testCopyUsingHardLink() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+        mock.expectedFileExists(testFile("outbox/" + TEST_FILE_NAME), "Hello World");
+
+        template.sendBodyAndHeader(fileUri("inbox"), "Hello World", Exchange.FILE_NAME, TEST_FILE_NAME);
+        context.getRouteController().startRoute("link");
+
+        assertMockEndpointsSatisfied();
+
+        assertTrue(Files.isSameFile(testFile("inbox/" + TEST_FILE_NAME), testFile("outbox/" + TEST_FILE_NAME)));
+    }
+
+    @Test
+    public void testCopyUsingHardLinkWithChmod() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+        mock.expectedFileExists(testFile("copy/" + TEST_FILE_NAME), "Hello World");
+
+        template.sendBodyAndHeader(fileUri("inbox"), "Hello World", Exchange.FILE_NAME, TEST_FILE_NAME);
+        context.getRouteController().startRoute("copy");
+
+        assertMockEndpointsSatisfied();
+
+        // the file is copied as the permissions of a hard link cannot be changed without changing the source file
+        assertFalse(Files.isSameFile(testFile("inbox/" + TEST_FILE_NAME), testFile("copy/" + TEST_FILE_NAME)));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from(fileUri("inbox?noop=true&initialDelay=0&delay=10")).routeId("link").autoStartup(false)
+                        .to(fileUri("outbox?copyUsingHardLink=true"), "mock:result");
+
+                from(fileUri("inbox?noop=true&initialDelay=0&delay=10")).routeId("copy").autoStartup(false)
+                        .to(fileUri("copy?copyUsingHardLink=true&chmod=644"), "mock:result");
+            }
+        };
+    }
+}
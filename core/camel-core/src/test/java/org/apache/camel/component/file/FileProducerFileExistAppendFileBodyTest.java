@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.nio.file.Files;
+import java.util.UUID;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test to verify appending file bodies, which are transferred using the file channel
+ */
+public class FileProducerFileExistAppendFileBodyTest extends ContextTestSupport {
+    private static final String TEST_FILE_NAME = "hello" + UUID.randomUUID() + ".txt";
+
+    @Test
+    public void testAppendFileBody() throws Exception {
+        Files.createDirectories(testDirectory("source"));
+        Files.writeString(testFile("source/a.txt"), "Hello");
+        Files.writeString(testFile("source/b.txt"), "World");
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(2);
+        mock.expectedFileExists(testFile(TEST_FILE_NAME), "Hello\nWorld\n");
+
+        template.sendBody("direct:start", testFile("source/a.txt").toFile());
+        template.sendBody("direct:start", testFile("source/b.txt").toFile());
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:start").setHeader(Exchange.FILE_NAME, constant(TEST_FILE_NAME))
+                        .to(fileUri("?fileExist=Append&appendChars=\\n"), "mock:result");
+            }
+        };
+    }
+
+}
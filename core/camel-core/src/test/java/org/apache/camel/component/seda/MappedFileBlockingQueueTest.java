@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.io.InvalidClassException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MappedFileBlockingQueueTest extends ContextTestSupport {
+
+    private final MappedFileBlockingQueueFactory queueFactory = new MappedFileBlockingQueueFactory();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        queueFactory.setDirectory(testDirectory().toString());
+        queueFactory.setSegmentSize(1024);
+        context.getRegistry().bind("mappedFileQueueFactory", queueFactory);
+        return context;
+    }
+
+    @Test
+    public void testRecover() throws Exception {
+        MappedFileBlockingQueue queue = queueFactory.create("seda://recover", 10);
+        for (int i = 0; i < 5; i++) {
+            queue.offer(createExchange("Message " + i, i));
+        }
+        assertEquals("Message 0", queue.poll().getMessage().getBody());
+        queue.close();
+
+        queue = queueFactory.create("seda://recover", 10);
+        assertEquals(4, queue.size());
+        assertEquals(6, queue.remainingCapacity());
+        for (int i = 1; i < 5; i++) {
+            Exchange exchange = queue.poll();
+            assertEquals("Message " + i, exchange.getMessage().getBody());
+            assertEquals(i, exchange.getMessage().getHeader("index"));
+        }
+        assertNull(queue.poll());
+        queue.close();
+
+        queue = queueFactory.create("seda://recover", 10);
+        assertTrue(queue.isEmpty());
+        queue.close();
+    }
+
+    @Test
+    public void testSegments() throws Exception {
+        MappedFileBlockingQueue queue = queueFactory.create("seda://segments", 100);
+        for (int i = 0; i < 50; i++) {
+            assertTrue(queue.offer(createExchange("Message " + i + " with some padding to fill the segments", i)));
+        }
+        assertTrue(queue.getSegmentCount() > 3);
+
+        List<Exchange> exchanges = new ArrayList<>();
+        assertEquals(50, queue.drainTo(exchanges));
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i, exchanges.get(i).getMessage().getHeader("index"));
+        }
+        assertEquals(1, queue.getSegmentCount());
+
+        // emptied segments are kept for reuse
+        try (Stream<?> files = Files.list(queue.getDirectory())) {
+            assertEquals(2, files.filter(f -> f.toString().endsWith(".free")).count());
+        }
+        queue.close();
+    }
+
+    @Test
+    public void testFullAndRemove() throws Exception {
+        MappedFileBlockingQueue queue = queueFactory.create("seda://full", 2);
+        Exchange first = createExchange("A", 0);
+        assertTrue(queue.offer(first));
+        assertTrue(queue.offer(createExchange("B", 1)));
+        assertFalse(queue.offer(createExchange("C", 2)));
+
+        assertTrue(queue.remove(first));
+        assertFalse(queue.remove(first));
+        assertEquals(1, queue.size());
+        assertEquals("B", queue.peek().getMessage().getBody());
+        assertEquals("B", queue.poll().getMessage().getBody());
+        queue.close();
+    }
+
+    @Test
+    public void testPollAndTakeWhenClosed() throws Exception {
+        MappedFileBlockingQueue queue = queueFactory.create("seda://closed", 10);
+        assertTrue(queue.offer(createExchange("A", 0)));
+        queue.close();
+
+        StopWatch watch = new StopWatch();
+        assertNull(queue.poll());
+        assertNull(queue.poll(1, TimeUnit.MINUTES));
+        assertThrows(IllegalStateException.class, queue::take);
+        assertTrue(watch.taken() < 10000, "Should not wait when the queue is closed");
+    }
+
+    @Test
+    public void testTakeWakesUpWhenClosed() throws Exception {
+        MappedFileBlockingQueue queue = queueFactory.create("seda://wakeup", 10);
+        CompletableFuture<Exchange> future = CompletableFuture.supplyAsync(() -> {
+            try {
+                return queue.take();
+            } catch (InterruptedException e) {
+                throw new CompletionException(e);
+            }
+        });
+        Thread.sleep(100);
+        queue.close();
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(InterruptedException.class, e.getCause());
+    }
+
+    @Test
+    public void testDeserializationFilter() throws Exception {
+        assertEquals(MappedFileBlockingQueueFactory.DEFAULT_DESERIALIZATION_FILTER, queueFactory.getDeserializationFilter());
+        MappedFileBlockingQueue queue = queueFactory.create("seda://filter", 10);
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getMessage().setBody(URI.create("http://localhost"));
+        assertTrue(queue.offer(exchange));
+
+        // java.net classes are rejected by the default filter
+        RuntimeCamelException e = assertThrows(RuntimeCamelException.class, queue::poll);
+        assertInstanceOf(InvalidClassException.class, e.getCause());
+        queue.close();
+    }
+
+    @Test
+    public void testEndpointWithoutComponent() throws Exception {
+        SedaEndpoint endpoint = new SedaEndpoint("seda://standalone?size=5", null, queueFactory, 1);
+        endpoint.setCamelContext(context);
+        endpoint.setSize(5);
+
+        BlockingQueue<Exchange> queue = endpoint.getQueue();
+        assertTrue(queue instanceof MappedFileBlockingQueue);
+        assertEquals(5, queue.remainingCapacity());
+        assertTrue(Files.isDirectory(testDirectory().resolve("standalone")));
+        ((MappedFileBlockingQueue) queue).close();
+    }
+
+    @Test
+    public void testRoute() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World", "Bye World");
+        mock.expectedHeaderReceived("foo", 123);
+
+        template.sendBodyAndHeader("seda:durable?queueFactory=#mappedFileQueueFactory", "Hello World", "foo", 123);
+        template.sendBodyAndHeader("seda:durable?queueFactory=#mappedFileQueueFactory", "Bye World", "foo", 123);
+
+        assertMockEndpointsSatisfied();
+        assertTrue(Files.isDirectory(testDirectory().resolve("durable")));
+    }
+
+    private Exchange createExchange(String body, int index) {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getMessage().setBody(body);
+        exchange.getMessage().setHeader("index", index);
+        return exchange;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("seda:durable?queueFactory=#mappedFileQueueFactory").to("mock:result");
+            }
+        };
+    }
+}
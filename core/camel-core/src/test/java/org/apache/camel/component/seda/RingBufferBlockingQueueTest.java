@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RingBufferBlockingQueueTest {
+
+    @Test
+    public void testOfferPoll() {
+        RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(3);
+        assertEquals(4, queue.getCapacity());
+        assertTrue(queue.isEmpty());
+
+        assertTrue(queue.offer("A"));
+        assertTrue(queue.offer("B"));
+        assertTrue(queue.offer("C"));
+        assertTrue(queue.offer("D"));
+        assertFalse(queue.offer("E"));
+        assertEquals(4, queue.size());
+        assertEquals(0, queue.remainingCapacity());
+        assertEquals("A", queue.peek());
+
+        assertEquals("A", queue.poll());
+        assertTrue(queue.offer("E"));
+
+        List<String> drained = new ArrayList<>();
+        assertEquals(2, queue.drainTo(drained, 2));
+        assertEquals(List.of("B", "C"), drained);
+        assertEquals(2, queue.drainTo(drained));
+        assertEquals(List.of("B", "C", "D", "E"), drained);
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void testRemove() {
+        RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(8);
+        queue.offer("A");
+        queue.offer("B");
+        queue.offer("C");
+
+        assertTrue(queue.remove("B"));
+        assertFalse(queue.remove("B"));
+        assertEquals(2, queue.size());
+        assertEquals("A", queue.poll());
+        assertEquals("C", queue.poll());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(1);
+        assertEquals(2, queue.getCapacity());
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+        assertTrue(queue.offer("A", 10, TimeUnit.MILLISECONDS));
+        assertTrue(queue.offer("B", 10, TimeUnit.MILLISECONDS));
+        assertFalse(queue.offer("C", 10, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new RingBufferBlockingQueue<>(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RingBufferBlockingQueue<>(RingBufferBlockingQueue.MAX_CAPACITY + 1));
+    }
+
+    @Test
+    public void testConcurrentProducersAndConsumers() throws Exception {
+        final int producers = 4;
+        final int consumers = 4;
+        final int count = 10000;
+        RingBufferBlockingQueue<Integer> queue = new RingBufferBlockingQueue<>(64);
+        Set<Integer> received = ConcurrentHashMap.newKeySet();
+        CountDownLatch latch = new CountDownLatch(producers * count);
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers + consumers);
+        try {
+            for (int i = 0; i < consumers; i++) {
+                executor.submit(() -> {
+                    while (latch.getCount() > 0) {
+                        Integer value = queue.poll(10, TimeUnit.MILLISECONDS);
+                        if (value != null) {
+                            received.add(value);
+                            latch.countDown();
+                        }
+                    }
+                    return null;
+                });
+            }
+            for (int i = 0; i < producers; i++) {
+                final int offset = i * count;
+                executor.submit(() -> {
+                    for (int j = 0; j < count; j++) {
+                        queue.put(offset + j);
+                    }
+                    return null;
+                });
+            }
+
+            assertTrue(latch.await(20, TimeUnit.SECONDS));
+            assertEquals(producers * count, received.size());
+            assertTrue(queue.isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
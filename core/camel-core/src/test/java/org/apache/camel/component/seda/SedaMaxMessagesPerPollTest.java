@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SedaMaxMessagesPerPollTest extends ContextTestSupport {
+
+    private final AtomicInteger pending = new AtomicInteger(-1);
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getRegistry().bind("ringBufferQueueFactory", new RingBufferBlockingQueueFactory<Exchange>());
+        return context;
+    }
+
+    @Test
+    public void testMaxMessagesPerPoll() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("seda:foo", "Message " + i);
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Message 0", "Message 1", "Message 2", "Message 3", "Message 4");
+        mock.message(0).exchangeProperty(Exchange.BATCH_INDEX).isEqualTo(0);
+        mock.message(0).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(3);
+        mock.message(2).exchangeProperty(Exchange.BATCH_COMPLETE).isEqualTo(true);
+        mock.message(3).exchangeProperty(Exchange.BATCH_INDEX).isEqualTo(0);
+        mock.message(3).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(2);
+        mock.message(4).exchangeProperty(Exchange.BATCH_COMPLETE).isEqualTo(true);
+
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testGroupExchanges() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            template.sendBody("seda:bar", "Message " + i);
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:grouped");
+        mock.expectedMessageCount(1);
+
+        context.getRouteController().startRoute("bar");
+
+        assertMockEndpointsSatisfied();
+
+        Exchange grouped = mock.getReceivedExchanges().get(0);
+        List<?> exchanges = grouped.getMessage().getBody(List.class);
+        assertEquals(4, exchanges.size());
+        for (int i = 0; i < 4; i++) {
+            Exchange exchange = assertIsInstanceOf(Exchange.class, exchanges.get(i));
+            assertEquals("Message " + i, exchange.getMessage().getBody());
+        }
+        assertTrue(context.getEndpoint("seda:bar", SedaEndpoint.class).getQueue().isEmpty());
+    }
+
+    @Test
+    public void testDrainedExchangesPendingAndRequeuedWhenSuspended() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("seda:baz", "Message " + i);
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:baz");
+        mock.expectedBodiesReceived("Message 0");
+
+        context.getRouteController().startRoute("baz");
+
+        assertMockEndpointsSatisfied();
+
+        // the other drained exchanges were pending while the first was processed
+        assertEquals(4, pending.get());
+        // and put back on the queue as the consumer was suspended before dispatching them
+        SedaEndpoint endpoint = context.getEndpoint("seda:baz", SedaEndpoint.class);
+        assertEquals(4, endpoint.getQueue().size());
+        SedaConsumer consumer = (SedaConsumer) context.getRoute("baz").getConsumer();
+        assertEquals(4, consumer.getPendingExchangesSize());
+
+        mock.reset();
+        mock.expectedBodiesReceived("Message 1", "Message 2", "Message 3", "Message 4");
+
+        consumer.resume();
+
+        assertMockEndpointsSatisfied();
+        assertEquals(0, consumer.getPendingExchangesSize());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("seda:foo?maxMessagesPerPoll=3&queueFactory=#ringBufferQueueFactory").routeId("foo").autoStartup(false)
+                        .to("mock:result");
+
+                from("seda:bar?maxMessagesPerPoll=10&groupExchanges=true").routeId("bar").autoStartup(false)
+                        .to("mock:grouped");
+
+                from("seda:baz?maxMessagesPerPoll=10").routeId("baz").autoStartup(false)
+                        .process(exchange -> {
+                            SedaConsumer consumer = (SedaConsumer) exchange.getContext().getRoute("baz").getConsumer();
+                            if (pending.compareAndSet(-1, consumer.getPendingExchangesSize())) {
+                                // suspend the consumer while processing the first exchange of the batch
+                                consumer.suspend();
+                            }
+                        })
+                        .to("mock:baz");
+            }
+        };
+    }
+}
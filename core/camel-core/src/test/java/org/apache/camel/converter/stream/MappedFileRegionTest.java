@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test cases for {@link MappedFileRegion}
+ */
+public class MappedFileRegionTest extends ContextTestSupport {
+
+    private static final String CONTENT = "Hello World\nBye World\nHi Camel\n";
+
+    private Path file;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        file = testFile("region.txt");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, CONTENT);
+    }
+
+    @Test
+    public void testInputStreamAcrossWindows() throws Exception {
+        // use a tiny window so the stream maps many windows
+        MappedFileRegion region = new MappedFileRegion(file, 0, Files.size(file), 5);
+
+        try (InputStream is = region.newInputStream()) {
+            assertEquals(CONTENT, new String(is.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        try (InputStream is = region.newInputStream()) {
+            assertEquals('H', is.read());
+            assertEquals(12, is.skip(12));
+            assertEquals("ye World", new String(is.readNBytes(8), StandardCharsets.UTF_8));
+            assertEquals(CONTENT.length() - 21, is.skip(Long.MAX_VALUE));
+            assertEquals(-1, is.read());
+        }
+    }
+
+    @Test
+    public void testSliceAndChunks() throws Exception {
+        MappedFileRegion region = new MappedFileRegion(file);
+
+        MappedFileRegion slice = region.slice(12, 9);
+        assertEquals("Bye World", StandardCharsets.UTF_8.decode(slice.map()).toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> region.slice(30, 10));
+
+        List<MappedFileRegion> chunks = region.chunks(10);
+        assertEquals(4, chunks.size());
+        assertEquals(1, chunks.get(3).getLength());
+        StringBuilder sb = new StringBuilder();
+        for (MappedFileRegion chunk : chunks) {
+            sb.append(StandardCharsets.UTF_8.decode(chunk.map()));
+        }
+        assertEquals(CONTENT, sb.toString());
+    }
+
+    @Test
+    public void testCharSequence() throws Exception {
+        MappedFileRegion region = new MappedFileRegion(file);
+
+        CharSequence latin = region.asCharSequence(StandardCharsets.ISO_8859_1);
+        assertEquals(CONTENT.length(), latin.length());
+        assertEquals('W', latin.charAt(6));
+        assertEquals("Bye", latin.subSequence(12, 15).toString());
+        assertEquals(CONTENT, latin.toString());
+
+        assertEquals(CONTENT, region.asCharSequence(StandardCharsets.UTF_8).toString());
+    }
+
+    @Test
+    public void testTypeConverters() throws Exception {
+        File source = file.toFile();
+        MappedFileRegion region = context.getTypeConverter().mandatoryConvertTo(MappedFileRegion.class, source);
+        assertEquals(CONTENT.length(), region.getLength());
+
+        ByteBuffer buffer = context.getTypeConverter().mandatoryConvertTo(ByteBuffer.class, region);
+        assertEquals(CONTENT, StandardCharsets.UTF_8.decode(buffer).toString());
+
+        InputStream is = context.getTypeConverter().mandatoryConvertTo(InputStream.class, region);
+        assertInstanceOf(InputStream.class, is);
+        assertEquals(CONTENT, new String(is.readAllBytes(), StandardCharsets.UTF_8));
+
+        CharSequence chars = context.getTypeConverter().mandatoryConvertTo(CharSequence.class, region);
+        assertEquals(CONTENT, chars.toString());
+    }
+
+    @Test
+    public void testSplitTokenize() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:line");
+        mock.expectedBodiesReceived("Hello World", "Bye World", "Hi Camel");
+
+        template.sendBody("direct:start", new MappedFileRegion(file, 0, Files.size(file), 4));
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSplitTokenizeFile() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:line");
+        mock.expectedBodiesReceived("Hello World", "Bye World", "Hi Camel");
+
+        template.sendBodyAndHeader("direct:file", file.toFile(), Exchange.CHARSET_NAME, "UTF-8");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .split().tokenize("\n").streaming()
+                        .to("mock:line");
+
+                from("direct:file")
+                        .convertBodyTo(MappedFileRegion.class)
+                        .split().tokenize("\n").streaming()
+                        .to("mock:line");
+            }
+        };
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Date;
+
+import javax.naming.NamingException;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.DefaultExchangeHolder;
+import org.apache.camel.support.DefaultExchangeHolderCodec;
+import org.apache.camel.support.ExchangeHelper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DefaultExchangeHolderCodecTest extends ContextTestSupport {
+
+    private final DefaultExchangeHolderCodec codec = new DefaultExchangeHolderCodec();
+
+    @Test
+    public void testEncodeDecode() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("int", 123);
+        exchange.getIn().setHeader("negative", -42L);
+        exchange.getIn().setHeader("short", (short) 7);
+        exchange.getIn().setHeader("byte", (byte) -1);
+        exchange.getIn().setHeader("double", 1.5d);
+        exchange.getIn().setHeader("float", 2.5f);
+        exchange.getIn().setHeader("bool", true);
+        exchange.getIn().setHeader("char", 'x');
+        exchange.getIn().setHeader("date", new Date(1234567890L));
+        exchange.getIn().setHeader("bigInteger", new BigInteger("123456789012345678901234567890"));
+        exchange.getIn().setHeader("bigDecimal", new BigDecimal("-12345.6789"));
+        exchange.getIn().setHeader("unicode", "Hello æøå 世界");
+        exchange.setProperty("bar", 444);
+        exchange.setProperty(Exchange.EXCEPTION_CAUGHT, new IllegalArgumentException("Forced"));
+        exchange.setVariable("myVar", "cheese");
+        exchange.setPattern(ExchangePattern.InOut);
+        ExchangeHelper.setOutBodyPatternAware(exchange, new byte[] { 1, 2, 3 });
+
+        byte[] data = codec.encode(DefaultExchangeHolder.marshal(exchange, true, true));
+        Exchange copy = new DefaultExchange(context);
+        DefaultExchangeHolder.unmarshal(copy, codec.decode(data));
+
+        assertEquals(exchange.getExchangeId(), copy.getExchangeId());
+        assertEquals("Hello World", copy.getIn().getBody());
+        for (String key : exchange.getIn().getHeaders().keySet()) {
+            assertEquals(exchange.getIn().getHeader(key), copy.getIn().getHeader(key), key);
+        }
+        assertEquals(444, copy.getProperty("bar"));
+        assertEquals("Forced", copy.getProperty(Exchange.EXCEPTION_CAUGHT, Exception.class).getMessage());
+        assertEquals("cheese", copy.getVariable("myVar"));
+        assertArrayEquals(new byte[] { 1, 2, 3 }, copy.getMessage().getBody(byte[].class));
+    }
+
+    @Test
+    public void testSmallerThanSerialization() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("foo", 123);
+        exchange.getIn().setHeader("bar", "cheese");
+        DefaultExchangeHolder holder = DefaultExchangeHolder.marshal(exchange);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(holder);
+        }
+        byte[] data = codec.encode(holder);
+        assertTrue(data.length * 4 < bos.size(), "Should be much smaller: " + data.length + " vs " + bos.size());
+    }
+
+    @Test
+    public void testZeroCopy() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(new byte[] { 1, 2, 3 });
+        exchange.getIn().setHeader("foo", new byte[] { 4, 5 });
+
+        codec.setZeroCopy(true);
+        byte[] data = codec.encode(DefaultExchangeHolder.marshal(exchange, true, true));
+        Exchange copy = new DefaultExchange(context);
+        DefaultExchangeHolder.unmarshal(copy, codec.decode(data));
+
+        // the body refers to the data, where as the headers are copied
+        ByteBuffer body = assertInstanceOf(ByteBuffer.class, copy.getIn().getBody());
+        assertTrue(body.isReadOnly());
+        assertEquals(3, body.remaining());
+        assertArrayEquals(new byte[] { 1, 2, 3 }, copy.getIn().getBody(byte[].class));
+        assertArrayEquals(new byte[] { 4, 5 }, copy.getIn().getHeader("foo", byte[].class));
+    }
+
+    @Test
+    public void testBodyCodec() throws Exception {
+        codec.addBodyCodec(new MyBodyCodec());
+        assertThrows(IllegalArgumentException.class, () -> codec.addBodyCodec(new MyBodyCodec()));
+
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(new MyBody("Camel", 42));
+
+        byte[] data = codec.encode(DefaultExchangeHolder.marshal(exchange));
+        Exchange copy = new DefaultExchange(context);
+        DefaultExchangeHolder.unmarshal(copy, codec.decode(data));
+
+        MyBody body = copy.getIn().getBody(MyBody.class);
+        assertEquals("Camel", body.name);
+        assertEquals(42, body.age);
+
+        // cannot read without the codec
+        assertThrows(StreamCorruptedException.class, () -> new DefaultExchangeHolderCodec().decode(data));
+    }
+
+    @Test
+    public void testDefaultDeserializationFilter() throws Exception {
+        assertEquals(DefaultExchangeHolderCodec.DEFAULT_DESERIALIZATION_FILTER, codec.getDeserializationFilter());
+
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(new NamingException("Not allowed"));
+        byte[] data = codec.encode(DefaultExchangeHolder.marshal(exchange));
+
+        // only java and camel classes are allowed by default
+        assertThrows(InvalidClassException.class, () -> codec.decode(data));
+
+        codec.setDeserializationFilter(null);
+        Exchange copy = new DefaultExchange(context);
+        DefaultExchangeHolder.unmarshal(copy, codec.decode(data));
+        assertEquals("Not allowed", copy.getIn().getBody(NamingException.class).getMessage());
+    }
+
+    @Test
+    public void testInvalidData() throws Exception {
+        assertThrows(StreamCorruptedException.class, () -> codec.decode("Hello World".getBytes()));
+
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        byte[] data = codec.encode(DefaultExchangeHolder.marshal(exchange));
+        assertThrows(IOException.class, () -> codec.decode(data, 0, data.length - 3));
+
+        DefaultExchangeHolder holder = codec.decode(data, 0, data.length);
+        Exchange copy = new DefaultExchange(context);
+        DefaultExchangeHolder.unmarshal(copy, holder);
+        assertEquals("Hello World", copy.getIn().getBody());
+        assertNull(copy.getIn().getHeader("foo"));
+    }
+
+    private static final class MyBody implements java.io.Serializable {
+        private final String name;
+        private final int age;
+
+        private MyBody(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+    }
+
+    private static final class MyBodyCodec implements DefaultExchangeHolderCodec.BodyCodec<MyBody> {
+
+        @Override
+        public int getId() {
+            return 1;
+        }
+
+        @Override
+        public Class<MyBody> getType() {
+            return MyBody.class;
+        }
+
+        @Override
+        public void write(MyBody body, DataOutput out) throws IOException {
+            out.writeUTF(body.name);
+            out.writeInt(body.age);
+        }
+
+        @Override
+        public MyBody read(DataInput in) throws IOException {
+            return new MyBody(in.readUTF(), in.readInt());
+        }
+    }
+}
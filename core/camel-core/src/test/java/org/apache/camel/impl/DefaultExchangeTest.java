@@ -366,6 +366,38 @@ public class DefaultExchangeTest extends ExchangeTestSupport {
         assertEquals(2, copy.getVariables().size());
     }
 
+    @Test
+    public void testCopyExchangeWithProperties() {
+        exchange.setProperty("beer", "Carlsberg");
+
+        Exchange copy = exchange.copy();
+        Exchange copy2 = exchange.copy();
+        assertTrue(copy.hasProperties());
+        assertEquals("Carlsberg", copy.getProperty("beer"));
+
+        // changing the copy does not affect the original or other copies
+        copy.setProperty("beer", "Heineken");
+        copy.setProperty("wine", "Merlot");
+        assertEquals("Carlsberg", exchange.getProperty("beer"));
+        assertNull(exchange.getProperty("wine"));
+        assertEquals("Carlsberg", copy2.getProperty("beer"));
+
+        // changing the original does not affect the copies
+        exchange.removeProperty("beer");
+        assertNull(exchange.getProperty("beer"));
+        assertEquals("Heineken", copy.getProperty("beer"));
+        assertEquals("Carlsberg", copy2.getProperty("beer"));
+
+        // the properties map can be changed directly as well
+        copy2.getProperties().put("beer", "Tuborg");
+        assertEquals("Tuborg", copy2.getProperty("beer"));
+        assertEquals("Heineken", copy.getProperty("beer"));
+
+        copy.removeProperties("*");
+        assertFalse(copy.hasProperties());
+        assertEquals("Tuborg", copy2.getProperty("beer"));
+    }
+
     @Test
     public void testInType() {
         exchange.setIn(new MyMessage(context));
@@ -21,9 +21,12 @@ import org.apache.camel.Exchange;
 import org.apache.camel.impl.engine.DefaultInflightRepository;
 import org.apache.camel.spi.InflightRepository;
 import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.ExchangeHelper;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class DefaultInflightRepositoryTest extends ContextTestSupport {
 
@@ -47,4 +50,51 @@ public class DefaultInflightRepositoryTest extends ContextTestSupport {
         repo.remove(e1);
         assertEquals(0, repo.size());
     }
+
+    @Test
+    public void testOldest() throws Exception {
+        InflightRepository repo = new DefaultInflightRepository();
+        repo.setInflightBrowseEnabled(true);
+
+        assertNull(repo.oldest(null));
+
+        Exchange e1 = new DefaultExchange(context);
+        e1.getExchangeExtension().setFromRouteId("foo");
+        repo.add(e1);
+
+        Thread.sleep(10);
+
+        Exchange e2 = new DefaultExchange(context);
+        e2.getExchangeExtension().setFromRouteId("bar");
+        repo.add(e2);
+
+        assertSame(e1, repo.oldest(null).getExchange());
+        assertSame(e1, repo.oldest("foo").getExchange());
+        assertSame(e2, repo.oldest("bar").getExchange());
+        assertNull(repo.oldest("baz"));
+
+        repo.remove(e1);
+        assertSame(e2, repo.oldest(null).getExchange());
+        assertNull(repo.oldest("foo"));
+    }
+
+    @Test
+    public void testBrowseCopyWithSameExchangeId() {
+        InflightRepository repo = new DefaultInflightRepository();
+        repo.setInflightBrowseEnabled(true);
+
+        Exchange e1 = new DefaultExchange(context);
+        Exchange copy = ExchangeHelper.createCopy(e1, true);
+        assertEquals(e1.getExchangeId(), copy.getExchangeId());
+
+        repo.add(e1);
+        repo.add(copy);
+        assertEquals(2, repo.size());
+        assertEquals(2, repo.browse().size());
+
+        repo.remove(copy);
+        assertEquals(1, repo.size());
+        assertEquals(1, repo.browse().size());
+        assertSame(e1, repo.browse().iterator().next().getExchange());
+    }
 }
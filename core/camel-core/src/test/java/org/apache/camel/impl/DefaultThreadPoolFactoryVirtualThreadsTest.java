@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.support.DefaultThreadPoolFactory;
+import org.apache.camel.util.concurrent.BoundedExecutorService;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
+import org.apache.camel.util.concurrent.ThreadType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+public class DefaultThreadPoolFactoryVirtualThreadsTest {
+
+    @BeforeEach
+    void enableVirtualThreads() throws Exception {
+        resetThreadType();
+        ThreadType.enable();
+    }
+
+    @AfterEach
+    void resetThreadType() throws Exception {
+        Field field = ThreadType.class.getDeclaredField("current");
+        field.setAccessible(true);
+        field.set(null, null);
+    }
+
+    @Test
+    public void testBoundedByMaxQueueSize() {
+        ThreadPoolProfile profile = newProfile(5, 10, 100);
+
+        ExecutorService executor = new DefaultThreadPoolFactory().newThreadPool(profile, newThreadFactory());
+        try {
+            BoundedExecutorService bounded = assertInstanceOf(BoundedExecutorService.class, executor);
+            assertEquals(100, bounded.getMaxConcurrent());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testUnboundedWithoutQueue() {
+        ThreadPoolProfile profile = newProfile(5, 10, -1);
+
+        ExecutorService executor = new DefaultThreadPoolFactory().newThreadPool(profile, newThreadFactory());
+        try {
+            assertFalse(executor instanceof BoundedExecutorService);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testBoundedByMaxPoolSizeWithoutQueue() {
+        ThreadPoolProfile profile = newProfile(5, 10, -1);
+        profile.setVirtualThreadsBoundedByMaxPoolSize(true);
+
+        ExecutorService executor = new DefaultThreadPoolFactory().newThreadPool(profile, newThreadFactory());
+        try {
+            BoundedExecutorService bounded = assertInstanceOf(BoundedExecutorService.class, executor);
+            assertEquals(10, bounded.getMaxConcurrent());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ThreadPoolProfile newProfile(int poolSize, int maxPoolSize, int maxQueueSize) {
+        ThreadPoolProfile profile = new ThreadPoolProfile("myProfile");
+        profile.setPoolSize(poolSize);
+        profile.setMaxPoolSize(maxPoolSize);
+        profile.setMaxQueueSize(maxQueueSize);
+        profile.setKeepAliveTime(60L);
+        profile.setTimeUnit(TimeUnit.SECONDS);
+        return profile;
+    }
+
+    private static CamelThreadFactory newThreadFactory() {
+        return new CamelThreadFactory("#name#", "myPool", true);
+    }
+}
@@ -51,8 +51,7 @@ public class TypeConverterRegistryMissesThenAddTest {
         MyOrder order = context.getTypeConverter().tryConvertTo(MyOrder.class, "456");
         assertNull(order);
         int after = context.getTypeConverterRegistry().size();
-        // we only try to convert so no miss marker
-        assertEquals(before, after);
+        assertTrue(after > before); // should add miss converter marker
 
         // add missing type converter
         context.getTypeConverterRegistry().addTypeConverter(MyOrder.class, String.class, new MyOrderTypeConverter());
@@ -63,6 +62,39 @@ public class TypeConverterRegistryMissesThenAddTest {
         assertEquals(456, order.getId());
     }
 
+    @Test
+    public void testTryMissFallbackFailed() {
+        DefaultCamelContext context = new DefaultCamelContext();
+        // a fallback converter that fails on some values only
+        context.getTypeConverterRegistry().addFallbackTypeConverter(new MyOrderTypeConverter(), false);
+
+        int before = context.getTypeConverterRegistry().size();
+        MyOrder order = context.getTypeConverter().tryConvertTo(MyOrder.class, "abc");
+        assertNull(order);
+        int after = context.getTypeConverterRegistry().size();
+        // the fallback failed so no miss marker as the value may be the cause
+        assertEquals(before, after);
+
+        order = context.getTypeConverter().tryConvertTo(MyOrder.class, "789");
+        assertNotNull(order);
+        assertEquals(789, order.getId());
+    }
+
+    @Test
+    public void testMissThenAddFallbackTypeConverter() {
+        DefaultCamelContext context = new DefaultCamelContext();
+
+        MyOrder order = context.getTypeConverter().tryConvertTo(MyOrder.class, "123");
+        assertNull(order);
+
+        // add fallback type converter which can convert what previously missed
+        context.getTypeConverterRegistry().addFallbackTypeConverter(new MyOrderTypeConverter(), false);
+
+        order = context.getTypeConverter().tryConvertTo(MyOrder.class, "123");
+        assertNotNull(order);
+        assertEquals(123, order.getId());
+    }
+
     private static class MyOrder {
         private int id;
 
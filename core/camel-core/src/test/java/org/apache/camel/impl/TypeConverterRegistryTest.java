@@ -16,14 +16,18 @@
  */
 package org.apache.camel.impl;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.LoggingLevel;
+import org.apache.camel.TypeConversionException;
 import org.apache.camel.TypeConverter;
 import org.apache.camel.TypeConverterExists;
 import org.apache.camel.TypeConverterExistsException;
+import org.apache.camel.support.DefaultExchange;
 import org.apache.camel.support.TypeConverterSupport;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -111,6 +115,61 @@ public class TypeConverterRegistryTest {
         assertNull(order, "Type converter should be removed");
     }
 
+    @Test
+    public void testCommonConversions() throws Exception {
+        DefaultCamelContext context = new DefaultCamelContext();
+        TypeConverter tc = context.getTypeConverter();
+
+        assertEquals(123, tc.convertTo(Integer.class, "123"));
+        assertEquals(-123, tc.convertTo(int.class, "-123"));
+        assertEquals(Integer.MAX_VALUE, tc.convertTo(Integer.class, String.valueOf(Integer.MAX_VALUE)));
+        assertEquals(Integer.MIN_VALUE, tc.convertTo(Integer.class, String.valueOf(Integer.MIN_VALUE)));
+        assertEquals(5, tc.convertTo(Integer.class, "+5"));
+        assertEquals(123L, tc.convertTo(Long.class, "123"));
+        assertEquals(-123L, tc.convertTo(long.class, "-123"));
+        assertEquals(Long.MAX_VALUE, tc.convertTo(Long.class, String.valueOf(Long.MAX_VALUE)));
+        assertEquals(Long.MIN_VALUE, tc.convertTo(Long.class, String.valueOf(Long.MIN_VALUE)));
+        assertNull(tc.tryConvertTo(Integer.class, "abc"));
+        assertNull(tc.tryConvertTo(Integer.class, ""));
+        assertNull(tc.tryConvertTo(Integer.class, "-"));
+        assertNull(tc.tryConvertTo(Integer.class, String.valueOf(Long.MAX_VALUE)));
+        assertThrows(TypeConversionException.class, () -> tc.convertTo(Long.class, "abc"));
+
+        Exchange exchange = new DefaultExchange(context);
+        exchange.setProperty(Exchange.CHARSET_NAME, "UTF-16");
+        byte[] data = "Hello World".getBytes(StandardCharsets.UTF_16);
+        assertArrayEquals(data, tc.convertTo(byte[].class, exchange, "Hello World"));
+        assertEquals("Hello World", tc.convertTo(String.class, exchange, data));
+        assertEquals("Hello World", tc.tryConvertTo(String.class, exchange, data));
+        assertArrayEquals(data, tc.convertTo(byte[].class, new ByteArrayInputStream(data)));
+        assertArrayEquals(data, tc.tryConvertTo(byte[].class, new ByteArrayInputStream(data)));
+    }
+
+    @Test
+    public void testOverrideCommonConversion() {
+        DefaultCamelContext context = new DefaultCamelContext(false);
+        context.setTypeConverterStatisticsEnabled(true);
+        context.build();
+        TypeConverter tc = context.getTypeConverter();
+        context.getTypeConverterRegistry().setTypeConverterExists(TypeConverterExists.Override);
+
+        assertEquals(123, tc.convertTo(Integer.class, "123"));
+        assertEquals(1, context.getTypeConverterRegistry().getStatistics().getHitCounter());
+
+        // the custom type converter must be used instead of the fast conversion
+        context.getTypeConverterRegistry().addTypeConverter(Integer.class, String.class, new TypeConverterSupport() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+                return (T) Integer.valueOf(42);
+            }
+        });
+        assertEquals(42, tc.convertTo(Integer.class, "123"));
+        assertEquals(42, tc.convertTo(int.class, "123"));
+        assertEquals(42, tc.tryConvertTo(Integer.class, "123"));
+        assertEquals(3, context.getTypeConverterRegistry().getStatistics().getHitCounter());
+    }
+
     private static class MyOrder {
         private int id;
 
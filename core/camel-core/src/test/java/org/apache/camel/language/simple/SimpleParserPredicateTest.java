@@ -68,6 +68,35 @@ public class SimpleParserPredicateTest extends ExchangeTestSupport {
         assertTrue(pre.matches(exchange), "Should match");
     }
 
+    @Test
+    public void testSimpleLogicalOperatorsLinkedOnce() {
+        SimplePredicateParser parser = new SimplePredicateParser(
+                context,
+                "${header.high} > 5 && ${body} contains 'foo' && ${header.code} in 'a,b' && ${header.code} regex '^[ab]$'"
+                         + " && ${header.high} range '6..10' && ${header.code} is 'String'",
+                true, null);
+        Predicate pre = parser.parsePredicate();
+
+        // the predicate is evaluated many times with different values
+        for (int i = 0; i < 3; i++) {
+            exchange.getIn().setBody("Hello foo");
+            exchange.getIn().setHeader("high", 7);
+            exchange.getIn().setHeader("code", "a");
+            assertTrue(pre.matches(exchange), "Should match");
+
+            exchange.getIn().setHeader("high", 11);
+            assertFalse(pre.matches(exchange), "Should not match as out of range");
+
+            exchange.getIn().setHeader("high", 6);
+            exchange.getIn().setHeader("code", "c");
+            assertFalse(pre.matches(exchange), "Should not match as not in a,b");
+
+            exchange.getIn().setHeader("code", "b");
+            exchange.getIn().setBody("Hello bar");
+            assertFalse(pre.matches(exchange), "Should not match as not contains foo");
+        }
+    }
+
     @Test
     public void testSimpleEqFunctionFunction() {
         exchange.getIn().setBody(122);
@@ -77,6 +77,8 @@ class PooledExchangeTest extends ContextTestSupport {
 
         Awaitility.await().atMost(Duration.ofSeconds(1)).untilAsserted(() -> assertEquals(3, stat.getReleasedCounter()));
         assertEquals(0, stat.getDiscardedCounter());
+        assertEquals(0, stat.getInUseCounter());
+        assertEquals(66.6, stat.getReuseRate(), 0.1);
     }
 
     @Override
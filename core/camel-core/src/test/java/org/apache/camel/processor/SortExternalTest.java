@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SortExternalTest extends ContextTestSupport {
+
+    private volatile int spooledFiles;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getStreamCachingStrategy().setSpoolDirectory(testDirectory().toFile());
+        context.getStreamCachingStrategy().setSpoolCipher("AES/CTR/NoPadding");
+        return context;
+    }
+
+    @Test
+    public void testSortFitsInMemory() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+
+        template.sendBody("direct:start", "Hadrian,William,Claus");
+
+        assertMockEndpointsSatisfied();
+
+        List<?> list = assertInstanceOf(List.class, mock.getExchanges().get(0).getIn().getBody());
+        assertEquals(List.of("Claus", "Hadrian", "William"), list);
+    }
+
+    @Test
+    public void testSortSpooled() throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 95; i++) {
+            lines.add("line" + (1000 + i));
+        }
+        List<String> expected = new ArrayList<>(lines);
+        Collections.shuffle(lines);
+
+        MockEndpoint mock = getMockEndpoint("mock:line");
+        mock.expectedBodiesReceived(expected);
+
+        template.sendBody("direct:split", String.join("\n", lines));
+
+        assertMockEndpointsSatisfied();
+
+        // the spooled files have been deleted
+        File[] files = testDirectory().toFile().listFiles((dir, name) -> name.startsWith("sort"));
+        assertEquals(0, files != null ? files.length : 0);
+    }
+
+    @Test
+    public void testSortSpooledManyRuns() throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            lines.add("line" + (1000 + i));
+        }
+        List<String> expected = new ArrayList<>(lines);
+        Collections.shuffle(lines);
+
+        MockEndpoint mock = getMockEndpoint("mock:many");
+        mock.expectedBodiesReceived(expected);
+
+        template.sendBody("direct:many", String.join("\n", lines));
+
+        assertMockEndpointsSatisfied();
+
+        // 149 runs were spooled, but they have been merged in between so at most 64 files are merged at once
+        assertTrue(spooledFiles > 0 && spooledFiles <= 64, "Spooled files: " + spooledFiles);
+        File[] files = testDirectory().toFile().listFiles((dir, name) -> name.startsWith("sort"));
+        assertEquals(0, files != null ? files.length : 0);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:start").sort().tokenize(",").maxInMemorySize(10).parallelThreshold(5).to("mock:result");
+
+                from("direct:split").sort().tokenize("\n").maxInMemorySize(10).parallelThreshold(5)
+                        .split(body()).streaming().to("mock:line");
+
+                from("direct:many").sort().tokenize("\n").maxInMemorySize(2)
+                        .process(e -> {
+                            File[] files = testDirectory().toFile().listFiles((dir, name) -> name.startsWith("sort"));
+                            spooledFiles = files != null ? files.length : 0;
+                        })
+                        .split(body()).streaming().to("mock:many");
+            }
+        };
+    }
+}
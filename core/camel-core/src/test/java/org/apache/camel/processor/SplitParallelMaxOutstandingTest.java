@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.aggregate.GroupedBodyAggregationStrategy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SplitParallelMaxOutstandingTest extends ContextTestSupport {
+
+    private static final int MAX = 5;
+
+    private final AtomicInteger peak = new AtomicInteger();
+
+    @Test
+    public void testMaxOutstanding() throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            lines.add("line" + i);
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+
+        template.sendBody("direct:start", lines.iterator());
+
+        assertMockEndpointsSatisfied();
+
+        List<?> list = assertInstanceOf(List.class, mock.getExchanges().get(0).getIn().getBody());
+        // streaming so the parts are aggregated in the order they complete
+        assertEquals(lines.size(), list.size());
+        assertEquals(new HashSet<>(lines), new HashSet<>(list));
+
+        assertTrue(peak.get() <= MAX, "Should not have more than " + MAX + " outstanding exchanges, was " + peak.get());
+        Splitter splitter = (Splitter) context.getProcessor("split");
+        assertEquals(MAX, splitter.getMaxOutstanding());
+        assertEquals(0, splitter.getOutstandingExchanges());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .split(body(), new GroupedBodyAggregationStrategy()).parallelProcessing().streaming()
+                        .maxOutstanding(MAX)
+                        .id("split")
+                        .process(e -> {
+                            Splitter splitter = (Splitter) e.getContext().getProcessor("split");
+                            peak.accumulateAndGet(splitter.getOutstandingExchanges(), Math::max);
+                            Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+                        })
+                        .end()
+                        .to("mock:result");
+            }
+        };
+    }
+}
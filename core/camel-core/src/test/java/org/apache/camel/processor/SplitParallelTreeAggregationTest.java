@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.aggregate.GroupedBodyAggregationStrategy;
+import org.apache.camel.processor.aggregate.StringAggregationStrategy;
+import org.apache.camel.support.ExpressionAdapter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SplitParallelTreeAggregationTest extends ContextTestSupport {
+
+    private static final int SIZE = 500;
+
+    private final CountingAggregationStrategy counting = new CountingAggregationStrategy();
+
+    @Test
+    public void testGroupedBodyKeepsOrder() throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            lines.add("line" + i);
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:grouped");
+        mock.expectedMessageCount(1);
+
+        template.sendBody("direct:grouped", lines);
+
+        assertMockEndpointsSatisfied();
+
+        List<?> list = assertInstanceOf(List.class, mock.getExchanges().get(0).getIn().getBody());
+        assertEquals(lines, list);
+    }
+
+    @Test
+    public void testStringKeepsOrderAndDelimiters() throws Exception {
+        // empty and skipped lines must be joined the same way as when aggregating one by one
+        List<String> lines = new ArrayList<>();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < SIZE; i++) {
+            String line = i % 7 == 0 ? "" : i % 11 == 0 ? "skip" : "line" + i;
+            lines.add(line);
+            if (!"skip".equals(line)) {
+                if (i > 0) {
+                    expected.append(',');
+                }
+                expected.append(line);
+            }
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:string");
+        mock.expectedBodiesReceived(expected.toString());
+
+        template.sendBody("direct:string", lines);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testTreeAggregationEnabled() {
+        Splitter splitter = (Splitter) context.getProcessor("grouped-split");
+        assertTrue(splitter.isTreeAggregation());
+    }
+
+    @Test
+    public void testPartialsCombined() throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            lines.add("line" + i);
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:counting");
+        mock.expectedMessageCount(1);
+
+        template.sendBody("direct:counting", lines);
+
+        assertMockEndpointsSatisfied();
+
+        List<?> list = assertInstanceOf(List.class, mock.getExchanges().get(0).getIn().getBody());
+        assertEquals(lines, list);
+        // each combine merges two partials until a single partial of all the exchanges is left
+        assertEquals(SIZE - 1, counting.combined.get());
+    }
+
+    @Test
+    public void testLastPartSkipped() throws Exception {
+        // the iterator ends with a null part which is skipped after the other exchanges have been sent
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            lines.add("line" + i);
+        }
+        List<String> body = new ArrayList<>(lines);
+        body.add(null);
+
+        MockEndpoint mock = getMockEndpoint("mock:grouped");
+        mock.expectedMessageCount(1);
+
+        template.sendBody("direct:grouped", body);
+
+        assertMockEndpointsSatisfied();
+
+        List<?> list = assertInstanceOf(List.class, mock.getExchanges().get(0).getIn().getBody());
+        assertEquals(lines, list);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:grouped")
+                        .split(body(), new GroupedBodyAggregationStrategy()).parallelProcessing().treeAggregation()
+                        .id("grouped-split")
+                        .process(e -> Thread.sleep(ThreadLocalRandom.current().nextInt(3)))
+                        .end()
+                        .to("mock:grouped");
+
+                from("direct:string")
+                        .split(body(),
+                                new StringAggregationStrategy().delimiter(",")
+                                        .pick(new ExpressionAdapter() {
+                                            @Override
+                                            public Object evaluate(Exchange exchange) {
+                                                String body = exchange.getIn().getBody(String.class);
+                                                return "skip".equals(body) ? null : body;
+                                            }
+                                        }))
+                        .parallelProcessing().treeAggregation()
+                        .process(e -> Thread.sleep(ThreadLocalRandom.current().nextInt(3)))
+                        .end()
+                        .to("mock:string");
+
+                // the strategy is wrapped when sharing the unit of work
+                from("direct:counting")
+                        .split(body(), counting).parallelProcessing().treeAggregation().shareUnitOfWork()
+                        .process(e -> Thread.sleep(ThreadLocalRandom.current().nextInt(3)))
+                        .end()
+                        .to("mock:counting");
+            }
+        };
+    }
+
+    private static final class CountingAggregationStrategy extends GroupedBodyAggregationStrategy {
+
+        private final AtomicInteger combined = new AtomicInteger();
+
+        @Override
+        public Exchange combine(Exchange exchange, Exchange partialExchange) {
+            combined.incrementAndGet();
+            return super.combine(exchange, partialExchange);
+        }
+    }
+}
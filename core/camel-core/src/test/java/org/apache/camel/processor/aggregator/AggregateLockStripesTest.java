@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.BodyInAggregatingStrategy;
+import org.apache.camel.processor.aggregate.AggregateProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Isolated("Creates lots of threads")
+public class AggregateLockStripesTest extends ContextTestSupport {
+
+    @Test
+    public void testAggregateConcurrentWithLockStripes() throws Exception {
+        ExecutorService service = Executors.newFixedThreadPool(20);
+        List<Callable<Object>> tasks = new ArrayList<>();
+        int size = 400;
+        for (int i = 0; i < size; i++) {
+            final int id = i % 10;
+            final int count = i;
+            tasks.add(() -> {
+                template.sendBodyAndHeader("direct:start", Integer.toString(count), "id", id);
+                return null;
+            });
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+
+        service.invokeAll(tasks);
+
+        assertMockEndpointsSatisfied();
+        service.shutdownNow();
+
+        // each group has all its exchanges aggregated exactly once
+        Set<String> all = new HashSet<>();
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            String[] parts = exchange.getIn().getBody(String.class).split("\\+");
+            assertEquals(40, parts.length);
+            int id = Integer.parseInt(parts[0]) % 10;
+            for (String part : parts) {
+                assertEquals(id, Integer.parseInt(part) % 10);
+                assertTrue(all.add(part));
+            }
+        }
+        assertEquals(size, all.size());
+
+        AggregateProcessor aggregate = (AggregateProcessor) context.getProcessor("aggregate");
+        assertEquals(4, aggregate.getLockStripeCount());
+    }
+
+    @Test
+    public void testCompletionTimeoutWithLockStripes() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:timeout");
+        mock.expectedBodiesReceivedInAnyOrder("A+B+C", "D+E");
+
+        template.sendBodyAndHeader("direct:timeout", "A", "id", 1);
+        template.sendBodyAndHeader("direct:timeout", "D", "id", 2);
+        template.sendBodyAndHeader("direct:timeout", "B", "id", 1);
+        template.sendBodyAndHeader("direct:timeout", "E", "id", 2);
+        template.sendBodyAndHeader("direct:timeout", "C", "id", 1);
+
+        assertMockEndpointsSatisfied();
+        assertEquals("timeout",
+                mock.getReceivedExchanges().get(0).getProperty(Exchange.AGGREGATED_COMPLETED_BY));
+    }
+
+    @Test
+    public void testCompletionFromBatchConsumerWithLockStripes() throws Exception {
+        ExecutorService service = Executors.newFixedThreadPool(20);
+        List<Callable<Object>> tasks = new ArrayList<>();
+        int size = 200;
+        for (int i = 0; i < size; i++) {
+            final int id = i % 10;
+            final int count = i;
+            tasks.add(() -> {
+                template.send("direct:batch", e -> {
+                    e.getMessage().setBody(Integer.toString(count));
+                    e.getMessage().setHeader("id", id);
+                    e.setProperty(Exchange.BATCH_INDEX, count);
+                    e.setProperty(Exchange.BATCH_SIZE, size);
+                });
+                return null;
+            });
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:batch");
+        mock.expectedMessageCount(10);
+
+        service.invokeAll(tasks);
+
+        assertMockEndpointsSatisfied();
+        service.shutdownNow();
+
+        // all the groups are completed once the whole batch has been aggregated
+        Set<String> all = new HashSet<>();
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            assertEquals("consumer", exchange.getProperty(Exchange.AGGREGATED_COMPLETED_BY));
+            String[] parts = exchange.getIn().getBody(String.class).split("\\+");
+            assertEquals(20, parts.length);
+            for (String part : parts) {
+                assertTrue(all.add(part));
+            }
+        }
+        assertEquals(size, all.size());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .aggregate(header("id"), new BodyInAggregatingStrategy()).completionSize(40).lockStripeCount(4)
+                        .id("aggregate")
+                        .to("mock:result");
+
+                from("direct:timeout")
+                        .aggregate(header("id"), new BodyInAggregatingStrategy()).completionTimeout(200).lockStripeCount(4)
+                        .completionTimeoutCheckerInterval(50)
+                        .to("mock:timeout");
+
+                // completion from batch consumer completes all the groups so the lock is not striped
+                from("direct:batch")
+                        .aggregate(header("id"), new BodyInAggregatingStrategy()).completionFromBatchConsumer()
+                        .lockStripeCount(4)
+                        .to("mock:batch");
+            }
+        };
+    }
+}
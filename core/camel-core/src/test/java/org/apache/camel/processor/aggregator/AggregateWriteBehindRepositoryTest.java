@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.BodyInAggregatingStrategy;
+import org.apache.camel.processor.aggregate.MemoryAggregationRepository;
+import org.apache.camel.processor.aggregate.WriteBehindAggregationRepository;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class AggregateWriteBehindRepositoryTest extends ContextTestSupport {
+
+    private final AtomicInteger adds = new AtomicInteger();
+    private final MemoryAggregationRepository memory = new MemoryAggregationRepository() {
+        @Override
+        public Exchange add(CamelContext camelContext, String key, Exchange exchange) {
+            adds.incrementAndGet();
+            return super.add(camelContext, key, exchange);
+        }
+    };
+
+    @Test
+    public void testAggregateWriteBehind() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("A+B+C+D+E", "F+G+H+I+J");
+
+        for (String body : new String[] { "A", "B", "C", "D", "E", "F", "G", "H", "I", "J" }) {
+            template.sendBodyAndHeader("direct:start", body, "id", 123);
+        }
+
+        assertMockEndpointsSatisfied();
+        // the groups completed before being written to the wrapped repository
+        assertEquals(0, adds.get());
+    }
+
+    @Test
+    public void testRecoverJournal() throws Exception {
+        AggregationStrategy strategy = new BodyInAggregatingStrategy();
+        WriteBehindAggregationRepository repo = createRepository(strategy);
+        repo.start();
+
+        aggregate(repo, strategy, "A");
+        aggregate(repo, strategy, "B");
+        aggregate(repo, strategy, "C");
+        assertEquals(3, repo.getPendingSize());
+        assertNull(memory.get(context, "foo"));
+
+        // batch write to the wrapped repository
+        repo.flush();
+        assertEquals(0, repo.getPendingSize());
+        assertEquals(1, adds.get());
+        assertEquals("A+B+C", memory.get(context, "foo").getIn().getBody());
+
+        // simulate a crash after more parts has been journaled
+        aggregate(repo, strategy, "D");
+        aggregate(repo, strategy, "E");
+        assertEquals("A+B+C", memory.get(context, "foo").getIn().getBody());
+
+        WriteBehindAggregationRepository recovered = createRepository(strategy);
+        recovered.start();
+        try {
+            // only the parts not written before are replayed
+            assertEquals("A+B+C+D+E", memory.get(context, "foo").getIn().getBody());
+            assertEquals("A+B+C+D+E", recovered.get(context, "foo").getIn().getBody());
+            assertEquals(0, recovered.getPendingSize());
+        } finally {
+            recovered.stop();
+        }
+    }
+
+    private WriteBehindAggregationRepository createRepository(AggregationStrategy strategy) {
+        WriteBehindAggregationRepository repo
+                = new WriteBehindAggregationRepository(memory, testDirectory("journal").toString());
+        repo.setCamelContext(context);
+        repo.setAggregationStrategy(strategy);
+        repo.setFlushInterval(0);
+        return repo;
+    }
+
+    private static void aggregate(WriteBehindAggregationRepository repo, AggregationStrategy strategy, String body) {
+        Exchange exchange = new DefaultExchange(repo.getCamelContext());
+        exchange.getIn().setBody(body);
+        Exchange old = repo.get(repo.getCamelContext(), "foo");
+        Exchange answer = strategy.aggregate(old, exchange);
+        repo.add(repo.getCamelContext(), "foo", answer, old != null ? exchange : null);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                WriteBehindAggregationRepository repo
+                        = new WriteBehindAggregationRepository(memory, testDirectory("route").toString());
+                repo.setFlushInterval(60000);
+
+                from("direct:start")
+                        .aggregate(header("id"), new BodyInAggregatingStrategy())
+                        .aggregationRepository(repo).completionSize(5)
+                        .to("mock:result");
+            }
+        };
+    }
+}
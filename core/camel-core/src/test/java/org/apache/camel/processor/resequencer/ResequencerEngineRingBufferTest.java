@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.resequencer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResequencerEngineRingBufferTest {
+
+    private final List<Long> delivered = new ArrayList<>();
+    private ResequencerEngine<Long> engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new ResequencerEngine<>(new LongComparator());
+        engine.setSequenceSender(delivered::add);
+        engine.setTimeout(200);
+        engine.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.stop();
+    }
+
+    @Test
+    void testInSequence() throws Exception {
+        engine.setLastDelivered(0L);
+        engine.insert(1L);
+        engine.insert(2L);
+        engine.insert(3L);
+        engine.deliver();
+        assertEquals(List.of(1L, 2L, 3L), delivered);
+        assertEquals(0, engine.size());
+        assertEquals(3L, engine.getLastDelivered());
+    }
+
+    @Test
+    void testFillGap() throws Exception {
+        engine.setLastDelivered(0L);
+        engine.insert(3L);
+        engine.insert(2L);
+        engine.deliver();
+        assertTrue(delivered.isEmpty());
+        assertEquals(2, engine.size());
+
+        engine.insert(1L);
+        engine.deliver();
+        assertEquals(List.of(1L, 2L, 3L), delivered);
+    }
+
+    @Test
+    void testTimeout() throws Exception {
+        engine.insert(5L);
+        engine.deliver();
+        assertTrue(delivered.isEmpty());
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            engine.deliver();
+            assertEquals(List.of(5L), delivered);
+        });
+    }
+
+    @Test
+    void testGapTimeout() throws Exception {
+        engine.setLastDelivered(0L);
+        engine.insert(1L);
+        engine.insert(3L);
+        engine.insert(4L);
+        engine.deliver();
+        assertEquals(List.of(1L), delivered);
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            engine.deliver();
+            assertEquals(List.of(1L, 3L, 4L), delivered);
+        });
+    }
+
+    @Test
+    void testReverse() throws Exception {
+        engine.setLastDelivered(-1L);
+        for (long i = 999; i >= 0; i--) {
+            engine.insert(i);
+        }
+        assertEquals(1000, engine.size());
+        engine.deliver();
+        assertEquals(1000, delivered.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, delivered.get(i));
+        }
+    }
+
+    @Test
+    void testDuplicate() throws Exception {
+        engine.setLastDelivered(0L);
+        engine.insert(2L);
+        engine.insert(2L);
+        assertEquals(1, engine.size());
+    }
+
+    @Test
+    void testElementTooFarForRingBuffer() throws Exception {
+        long far = 2 + (1L << 20);
+        engine.setLastDelivered(0L);
+        engine.insert(2L);
+        engine.insert(far);
+        assertEquals(2, engine.size());
+
+        engine.insert(1L);
+        engine.deliver();
+        assertEquals(List.of(1L, 2L), delivered);
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            engine.deliver();
+            assertEquals(List.of(1L, 2L, far), delivered);
+        });
+
+        // and the ring buffer is used again
+        engine.insert(far + 1);
+        engine.deliver();
+        assertEquals(List.of(1L, 2L, far, far + 1), delivered);
+    }
+
+    @Test
+    void testRejectOld() throws Exception {
+        engine.setRejectOld(true);
+        engine.setLastDelivered(5L);
+        assertThrows(MessageRejectedException.class, () -> engine.insert(3L));
+        engine.insert(6L);
+        engine.deliver();
+        assertEquals(List.of(6L), delivered);
+    }
+
+    @Test
+    void testWaitUntilSizeBelow() throws Exception {
+        engine.setLastDelivered(0L);
+        engine.insert(2L);
+        engine.insert(3L);
+        engine.waitUntilSizeBelow(3);
+
+        Thread thread = new Thread(() -> {
+            try {
+                engine.insert(1L);
+                engine.deliver();
+            } catch (Exception e) {
+                // ignore
+            }
+        });
+        thread.start();
+        engine.waitUntilSizeBelow(1);
+        thread.join();
+        assertEquals(List.of(1L, 2L, 3L), delivered);
+    }
+}
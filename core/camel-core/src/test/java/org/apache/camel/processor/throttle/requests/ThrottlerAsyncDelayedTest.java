@@ -16,18 +16,48 @@
  */
 package org.apache.camel.processor.throttle.requests;
 
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.Registry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 public class ThrottlerAsyncDelayedTest extends ContextTestSupport {
     private static final int INTERVAL = 500;
     protected final int messageCount = 9;
 
+    private final AtomicInteger scheduled = new AtomicInteger();
+    private final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1) {
+        @Override
+        public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+            scheduled.incrementAndGet();
+            return super.schedule(callable, delay, unit);
+        }
+    };
+
+    @AfterEach
+    public void shutdownScheduler() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    protected Registry createCamelRegistry() throws Exception {
+        Registry registry = super.createCamelRegistry();
+        registry.bind("myScheduler", scheduler);
+        return registry;
+    }
+
     @Test
     public void testSendLotsOfMessages() throws Exception {
         MockEndpoint resultEndpoint = resolveMandatoryEndpoint("mock:result", MockEndpoint.class);
@@ -62,6 +92,23 @@ public class ThrottlerAsyncDelayedTest extends ContextTestSupport {
         executor.shutdownNow();
     }
 
+    @Test
+    public void testQueueAgainWhenPermitTakenWhileQueued() throws Exception {
+        int count = 5;
+        MockEndpoint resultEndpoint = getMockEndpoint("mock:scheduled");
+        resultEndpoint.expectedMessageCount(count);
+
+        for (int i = 0; i < count; i++) {
+            template.asyncSendBody("direct:b", "<message>" + i + "</message>");
+        }
+
+        resultEndpoint.assertIsSatisfied();
+
+        // the queued exchanges wait for the same permit, and those that do not get it are queued again
+        // rather than blocking the single thread of the scheduler
+        assertTrue(scheduled.get() > count - 1, "Should queue again, was scheduled " + scheduled.get() + " times");
+    }
+
     @Override
     protected RouteBuilder createRouteBuilder() {
         return new RouteBuilder() {
@@ -71,6 +118,9 @@ public class ThrottlerAsyncDelayedTest extends ContextTestSupport {
                 // END SNIPPET: ex
 
                 from("direct:a").throttle(3).timePeriodMillis(INTERVAL).asyncDelayed().to("log:result", "mock:result");
+
+                from("direct:b").throttle(1).timePeriodMillis(100).asyncDelayed().executorService("myScheduler")
+                        .to("mock:scheduled");
             }
         };
     }
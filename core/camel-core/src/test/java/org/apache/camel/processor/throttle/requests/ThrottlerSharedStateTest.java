@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.throttle.requests;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.ThrottlerRejectedExecutionException;
+import org.apache.camel.spi.Registry;
+import org.apache.camel.support.processor.throttle.MemoryThrottlingStateRepository;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+public class ThrottlerSharedStateTest extends ContextTestSupport {
+
+    private static final long PERIOD = 1000;
+
+    // use a fixed clock so all the permits are counted in the same time window
+    private final MemoryThrottlingStateRepository repository = new MemoryThrottlingStateRepository() {
+        @Override
+        protected long currentTimeMillis() {
+            return 0;
+        }
+    };
+
+    @Override
+    protected Registry createCamelRegistry() throws Exception {
+        Registry jndi = super.createCamelRegistry();
+        jndi.bind("myThrottlingStateRepository", repository);
+        return jndi;
+    }
+
+    @Test
+    public void testAcquirePermits() {
+        assertEquals(3, repository.acquirePermits("foo", 5, PERIOD, 3));
+        assertEquals(2, repository.acquirePermits("foo", 5, PERIOD, 3));
+        assertEquals(0, repository.acquirePermits("foo", 5, PERIOD, 3));
+        assertEquals(3, repository.acquirePermits("bar", 5, PERIOD, 3));
+    }
+
+    @Test
+    public void testExpiredWindowsRemoved() {
+        AtomicLong clock = new AtomicLong();
+        MemoryThrottlingStateRepository repo = new MemoryThrottlingStateRepository() {
+            @Override
+            protected long currentTimeMillis() {
+                return clock.get();
+            }
+        };
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(1, repo.acquirePermits("key" + i, 5, PERIOD, 1));
+        }
+        assertEquals(100, repo.getSize());
+
+        // the windows of the keys not used in the current window are removed
+        clock.set(PERIOD);
+        assertEquals(1, repo.acquirePermits("key0", 5, PERIOD, 1));
+        assertEquals(1, repo.getSize());
+    }
+
+    @Test
+    public void testPermitsSharedWithOtherNode() throws Exception {
+        // another node has already used 3 of the 5 permits
+        assertEquals(3, repository.acquirePermits("myThrottler:foo", 5, PERIOD, 3));
+
+        getMockEndpoint("mock:result").expectedMessageCount(2);
+
+        int rejected = 0;
+        for (int i = 0; i < 5; i++) {
+            Exchange out = template.send("direct:start", e -> {
+                e.getMessage().setHeader("key", "foo");
+                e.getMessage().setBody("Hello");
+            });
+            if (out.getException() != null) {
+                assertInstanceOf(ThrottlerRejectedExecutionException.class, out.getException());
+                rejected++;
+            }
+        }
+
+        assertMockEndpointsSatisfied();
+        assertEquals(3, rejected);
+        // and no permits left for the other node
+        assertEquals(0, repository.acquirePermits("myThrottler:foo", 5, PERIOD, 1));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:start")
+                        .throttle(5).correlationExpression(header("key")).timePeriodMillis(PERIOD).rejectExecution(true)
+                        .throttlingStateRepository("myThrottlingStateRepository").id("myThrottler")
+                        .to("mock:result");
+            }
+        };
+    }
+}
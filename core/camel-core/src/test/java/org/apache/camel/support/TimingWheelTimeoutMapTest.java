@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.TimeoutMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+@Isolated("Depends on precise timing that may be hard to achieve if the system is under pressure")
+public class TimingWheelTimeoutMapTest {
+
+    private final ScheduledExecutorService executor = new ScheduledThreadPoolExecutor(1);
+
+    @Test
+    public void testTimingWheelTimeoutMap() {
+        TimingWheelTimeoutMap<?, ?> map = new TimingWheelTimeoutMap<>(executor);
+        map.start();
+        assertTrue(map.currentTime() > 0);
+        assertEquals(1000, map.getPurgePollTime());
+        assertEquals(TimingWheelTimeoutMap.DEFAULT_WHEEL_SIZE, map.getWheelSize());
+        assertSame(executor, map.getExecutor());
+
+        assertEquals(0, map.size());
+
+        map.stop();
+    }
+
+    @Test
+    public void testWheelSizePowerOfTwo() {
+        TimingWheelTimeoutMap<?, ?> map = new TimingWheelTimeoutMap<>(executor, 100, 100);
+        assertEquals(128, map.getWheelSize());
+
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheelTimeoutMap<>(executor, 0));
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheelTimeoutMap<>(executor, 100, 0));
+    }
+
+    @Test
+    public void testTimingWheelTimeoutMapPurge() {
+        TimingWheelTimeoutMap<String, Integer> map = new TimingWheelTimeoutMap<>(executor, 100);
+        map.start();
+
+        map.put("A", 123, 50);
+        assertEquals(1, map.size());
+
+        await().atMost(Duration.ofSeconds(2))
+                .untilAsserted(() -> assertEquals(0, map.size()));
+
+        map.stop();
+    }
+
+    @Test
+    public void testTimingWheelTimeoutMapForcePurge() {
+        TimingWheelTimeoutMap<String, Integer> map = new TimingWheelTimeoutMap<>(executor, 100);
+        // map.start(); // Do not start background purge
+
+        map.put("A", 123, 50);
+        assertEquals(1, map.size());
+
+        await().atMost(Duration.ofSeconds(2))
+                .pollInterval(Duration.ofMillis(10))
+                .untilAsserted(() -> {
+                    map.purge();
+                    assertEquals(0, map.size());
+                });
+    }
+
+    @Test
+    public void testTimingWheelTimeoutMapGetRemove() {
+        List<TimeoutMap.Listener.Type> events = new ArrayList<>();
+
+        TimingWheelTimeoutMap<String, Integer> map = new TimingWheelTimeoutMap<>(executor, 100);
+        map.addListener((type, key, value) -> events.add(type));
+        map.start();
+
+        assertNull(map.put("A", 123, 50));
+        assertEquals(123, map.putIfAbsent("A", 456, 50));
+        assertEquals(1, map.size());
+
+        assertEquals(123, (int) map.get("A"));
+
+        Object old = map.remove("A");
+        assertEquals(123, old);
+        assertNull(map.get("A"));
+        assertNull(map.remove("A"));
+        assertEquals(0, map.size());
+
+        // put if absent did not change the map so only one put event
+        assertEquals(List.of(TimeoutMap.Listener.Type.Put, TimeoutMap.Listener.Type.Remove), events);
+
+        map.stop();
+    }
+
+    @Test
+    public void testGetSlidesExpireTime() {
+        TimingWheelTimeoutMap<String, Integer> map = new TimingWheelTimeoutMap<>(executor, 10, 8);
+        map.start();
+
+        map.put("A", 123, 300);
+        // keep accessing the entry, which should keep it alive past its timeout
+        for (int i = 0; i < 6; i++) {
+            await().pollDelay(Duration.ofMillis(100)).until(() -> true);
+            assertEquals(123, (int) map.get("A"));
+        }
+        assertEquals(1, map.size());
+
+        await().atMost(Duration.ofSeconds(2))
+                .untilAsserted(() -> assertEquals(0, map.size()));
+
+        map.stop();
+    }
+
+    @Test
+    public void testExpiresInLaterRound() {
+        // a small wheel where the timeout spans several rounds
+        TimingWheelTimeoutMap<String, Integer> map = new TimingWheelTimeoutMap<>(executor, 10, 4);
+        map.start();
+
+        map.put("A", 1, 20);
+        map.put("B", 2, 400);
+
+        await().atMost(Duration.ofSeconds(2))
+                .untilAsserted(() -> assertEquals(1, map.size()));
+        assertEquals(2, map.get("B"));
+
+        await().atMost(Duration.ofSeconds(2))
+                .untilAsserted(() -> assertEquals(0, map.size()));
+
+        map.stop();
+    }
+
+    @Test
+    public void testNotValidForEviction() {
+        TimingWheelTimeoutMap<String, Integer> map = new TimingWheelTimeoutMap<>(executor, 10) {
+            @Override
+            protected boolean isValidForEviction(TimeoutMapEntry<String, Integer> entry) {
+                return !"B".equals(entry.getKey());
+            }
+        };
+        map.start();
+
+        map.put("A", 1, 20);
+        map.put("B", 2, 20);
+
+        await().atMost(Duration.ofSeconds(2))
+                .untilAsserted(() -> assertEquals(1, map.size()));
+        await().pollDelay(Duration.ofMillis(200)).until(() -> true);
+        assertEquals(2, map.get("B"));
+
+        map.stop();
+    }
+
+    @Test
+    public void testExpiredInCorrectOrder() {
+        final List<String> keys = new ArrayList<>();
+        final List<Integer> values = new ArrayList<>();
+
+        TimingWheelTimeoutMap<String, Integer> map = new TimingWheelTimeoutMap<>(executor, 100);
+        map.addListener((type, key, value) -> {
+            if (type == TimeoutMap.Listener.Type.Evict) {
+                keys.add(key);
+                values.add(value);
+            }
+        });
+        map.start();
+        assertEquals(0, map.size());
+
+        map.put("A", 1, 50);
+        map.put("B", 2, 30);
+        map.put("C", 3, 40);
+        map.put("D", 4, 20);
+        map.put("E", 5, 45);
+        // is not expired
+        map.put("F", 6, 800);
+
+        await().atMost(Duration.ofSeconds(2))
+                .untilAsserted(() -> assertEquals(5, keys.size()));
+
+        assertEquals(List.of("D", "B", "C", "E", "A"), keys);
+        assertEquals(List.of(4, 2, 3, 5, 1), values);
+
+        assertEquals(1, map.size());
+
+        map.stop();
+    }
+
+    @Test
+    public void testTimingWheelTimeoutMapStopStart() {
+        TimingWheelTimeoutMap<String, Integer> map = new TimingWheelTimeoutMap<>(executor, 100);
+        map.start();
+        map.put("A", 1, 500);
+
+        assertEquals(1, map.size());
+        map.stop();
+
+        assertEquals(0, map.size());
+        map.put("A", 1, 50);
+
+        // should not timeout as the scheduler doesn't run
+        await().atMost(Duration.ofSeconds(1))
+                .untilAsserted(() -> assertEquals(1, map.size()));
+
+        // start
+        map.start();
+
+        // start and wait for scheduler to purge
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(0, map.size()));
+
+        map.stop();
+    }
+
+    @Test
+    public void testManyEntries() {
+        TimingWheelTimeoutMap<Integer, Integer> map = new TimingWheelTimeoutMap<>(executor, 10, 16);
+        map.start();
+
+        for (int i = 0; i < 10000; i++) {
+            map.put(i, i, 1000 + i % 300);
+        }
+        // remove half of them before they expire
+        for (int i = 0; i < 10000; i += 2) {
+            assertEquals(i, map.remove(i));
+        }
+        assertEquals(5000, map.size());
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertEquals(0, map.size()));
+
+        map.stop();
+    }
+
+}
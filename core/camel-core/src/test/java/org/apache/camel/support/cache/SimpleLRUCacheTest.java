@@ -102,6 +102,26 @@ class SimpleLRUCacheTest {
         assertEquals(1, map.size());
     }
 
+    @Test
+    void statistics() {
+        assertEquals(3, map.getMaxCacheSize());
+        assertNull(map.get("1"));
+        assertEquals("One", map.computeIfAbsent("1", k -> "One"));
+        assertEquals("One", map.get("1"));
+        assertEquals("One", map.computeIfAbsent("1", k -> "One v2"));
+        assertEquals(2, map.getHits());
+        assertEquals(2, map.getMisses());
+        assertEquals(0, map.getEvicted());
+        map.put("2", "Two");
+        map.put("3", "Three");
+        map.put("4", "Four");
+        assertEquals(1, map.getEvicted());
+        map.resetStatistics();
+        assertEquals(0, map.getHits());
+        assertEquals(0, map.getMisses());
+        assertEquals(0, map.getEvicted());
+    }
+
     @Test
     void isEmpty() {
         assertTrue(map.isEmpty());
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.TestSupport;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.service.ServiceSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BloomFilterIdempotentRepositoryTest extends TestSupport {
+
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    @Test
+    public void testSkipLookupOfNewKeys() throws Exception {
+        BloomFilterIdempotentRepository repo = new BloomFilterIdempotentRepository(countingRepository(10000));
+        repo.setExpectedInsertions(100);
+        repo.start();
+
+        for (int i = 0; i < 1000; i++) {
+            assertFalse(repo.contains("key" + i));
+            assertTrue(repo.add("key" + i));
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(repo.contains("key" + i));
+            assertFalse(repo.add("key" + i));
+        }
+
+        // the filter has grown and only false positives are looked up
+        assertTrue(repo.getFilterCount() > 1);
+        assertEquals(1000 + repo.getFalsePositives(), lookups.get());
+        assertEquals(1000, repo.getFilterNegatives() + repo.getFalsePositives());
+        assertTrue(repo.getFalsePositiveRate() < 0.05, "False positive rate: " + repo.getFalsePositiveRate());
+
+        repo.clear();
+        assertFalse(repo.contains("key1"));
+        assertEquals(0, repo.getFilterSize());
+        repo.stop();
+    }
+
+    @Test
+    public void testRebuildOnStart() throws Exception {
+        IdempotentRepository memory = countingRepository(100);
+        memory.start();
+        memory.add("foo");
+        memory.add("bar");
+
+        BloomFilterIdempotentRepository repo = new BloomFilterIdempotentRepository(memory);
+        repo.start();
+        assertEquals(2, repo.getFilterSize());
+        assertTrue(repo.contains("foo"));
+        assertTrue(repo.contains("bar"));
+        assertFalse(repo.add("foo"));
+        repo.stop();
+    }
+
+    @Test
+    public void testRebuildFromFileStore() throws Exception {
+        // the cache only holds the latest keys, but all the keys are in the file store
+        IdempotentRepository file
+                = FileIdempotentRepository.fileIdempotentRepository(testFile("store.txt").toFile(), 2);
+        BloomFilterIdempotentRepository repo = new BloomFilterIdempotentRepository(file);
+        repo.start();
+        for (int i = 0; i < 10; i++) {
+            assertTrue(repo.add("key" + i));
+        }
+        repo.stop();
+
+        repo.start();
+        assertEquals(10, repo.getFilterSize());
+        for (int i = 0; i < 10; i++) {
+            assertTrue(repo.contains("key" + i));
+        }
+        repo.stop();
+    }
+
+    @Test
+    public void testNotStarted() throws Exception {
+        IdempotentRepository memory = countingRepository(100);
+        memory.start();
+        BloomFilterIdempotentRepository repo = new BloomFilterIdempotentRepository(memory);
+        repo.start();
+        repo.stop();
+
+        // without the filter then the keys are looked up in the wrapped repository
+        assertTrue(repo.add("foo"));
+        assertTrue(repo.contains("foo"));
+        assertEquals(0, repo.getFilterSize());
+
+        repo.start();
+        assertTrue(repo.contains("foo"));
+        repo.stop();
+    }
+
+    @Test
+    public void testKeysLoader() throws Exception {
+        RemoteIdempotentRepository remote = new RemoteIdempotentRepository();
+        remote.add("foo");
+
+        BloomFilterIdempotentRepository repo = new BloomFilterIdempotentRepository(remote);
+        assertThrows(IllegalArgumentException.class, repo::start);
+
+        repo = new BloomFilterIdempotentRepository(remote);
+        repo.setKeysLoader(() -> remote.keys);
+        repo.start();
+        assertTrue(repo.contains("foo"));
+        assertFalse(repo.contains("bar"));
+        repo.stop();
+    }
+
+    private IdempotentRepository countingRepository(int size) {
+        return new MemoryIdempotentRepository(new HashMap<>(size)) {
+            @Override
+            public boolean contains(String key) {
+                lookups.incrementAndGet();
+                return super.contains(key);
+            }
+        };
+    }
+
+    private static final class RemoteIdempotentRepository extends ServiceSupport implements IdempotentRepository {
+        private final Set<String> keys = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public boolean add(String key) {
+            return keys.add(key);
+        }
+
+        @Override
+        public boolean contains(String key) {
+            return keys.contains(key);
+        }
+
+        @Override
+        public boolean remove(String key) {
+            return keys.remove(key);
+        }
+
+        @Override
+        public boolean confirm(String key) {
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            keys.clear();
+        }
+    }
+}
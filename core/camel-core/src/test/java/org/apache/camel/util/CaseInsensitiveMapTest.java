@@ -658,6 +658,42 @@ public class CaseInsensitiveMapTest {
         assertEquals("beer", map.get("BAZ"));
     }
 
+    @Test
+    public void testCopyCaseInsensitiveMap() {
+        CaseInsensitiveMap map = new CaseInsensitiveMap();
+        for (int i = 0; i < 20; i++) {
+            map.put("Key" + i, i);
+        }
+        map.remove("KEY3");
+        map.remove("key7");
+
+        Map<String, Object> copy = new CaseInsensitiveMap(map);
+        assertEquals(18, copy.size());
+        assertEquals(map, copy);
+        assertEquals(5, copy.get("KEY5"));
+        assertNull(copy.get("Key3"));
+        // insertion order is kept
+        assertEquals(new ArrayList<>(map.keySet()), new ArrayList<>(copy.keySet()));
+
+        // the copy is independent of the original map
+        copy.put("key5", "five");
+        copy.remove("Key6");
+        copy.put("Key3", "three");
+        for (int i = 20; i < 50; i++) {
+            copy.put("Key" + i, i);
+        }
+        assertEquals(5, map.get("key5"));
+        assertEquals(6, map.get("key6"));
+        assertNull(map.get("key3"));
+        assertEquals(18, map.size());
+        assertEquals("five", copy.get("KEY5"));
+        assertEquals("three", copy.get("KEY3"));
+        assertEquals(48, copy.size());
+
+        map.put("Key0", "zero");
+        assertEquals(0, copy.get("key0"));
+    }
+
     @Test
     public void testKnownKeyDeduplication() {
         // Register known keys
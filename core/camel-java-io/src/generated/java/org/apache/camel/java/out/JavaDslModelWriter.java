@@ -1712,6 +1712,7 @@ public class JavaDslModelWriter extends JavaDslModelWriterSupport {
         doWriteAttribute(sb, "parallelProcessing", def.getParallelProcessing(), null);
         doWriteAttribute(sb, "optimisticLocking", def.getOptimisticLocking(), null);
         doWriteAttribute(sb, "optimisticLockingSyncRetry", def.getOptimisticLockingSyncRetry(), "false");
+        doWriteAttribute(sb, "lockStripeCount", def.getLockStripeCount(), null);
         doWriteAttribute(sb, "executorService", def.getExecutorService(), null);
         doWriteAttribute(sb, "timeoutCheckerExecutorService", def.getTimeoutCheckerExecutorService(), null);
         doWriteAttribute(sb, "aggregateController", def.getAggregateController(), null);
@@ -2083,6 +2084,8 @@ public class JavaDslModelWriter extends JavaDslModelWriterSupport {
         doWriteAttribute(sb, "executorService", def.getExecutorService(), null);
         doWriteAttribute(sb, "onPrepare", def.getOnPrepare(), null);
         doWriteAttribute(sb, "shareUnitOfWork", def.getShareUnitOfWork(), null);
+        doWriteAttribute(sb, "treeAggregation", def.getTreeAggregation(), null);
+        doWriteAttribute(sb, "maxOutstanding", def.getMaxOutstanding(), null);
         doWriteOutputs(sb, def.getOutputs(), this::doWriteProcessorDefinitionRef);
     }
     protected void doWriteOnCompletionDefinition(StringBuilder sb, OnCompletionDefinition def) {
@@ -2484,6 +2487,8 @@ public class JavaDslModelWriter extends JavaDslModelWriterSupport {
     protected void doWriteSortDefinition(StringBuilder sb, SortDefinition<?> def) {
         doWriteProcessorDefinitionAttributes(sb, def);
         doWriteAttribute(sb, "comparator", def.getComparator(), null);
+        doWriteAttribute(sb, "parallelThreshold", def.getParallelThreshold(), null);
+        doWriteAttribute(sb, "maxInMemorySize", def.getMaxInMemorySize(), null);
         doWriteExpressionNodeElements(sb, def);
     }
     protected void doWriteSplitDefinition(StringBuilder sb, SplitDefinition def) {
@@ -2501,6 +2506,8 @@ public class JavaDslModelWriter extends JavaDslModelWriterSupport {
         doWriteAttribute(sb, "executorService", def.getExecutorService(), null);
         doWriteAttribute(sb, "onPrepare", def.getOnPrepare(), null);
         doWriteAttribute(sb, "shareUnitOfWork", def.getShareUnitOfWork(), null);
+        doWriteAttribute(sb, "treeAggregation", def.getTreeAggregation(), null);
+        doWriteAttribute(sb, "maxOutstanding", def.getMaxOutstanding(), null);
         doWriteOutputExpressionNodeElements(sb, def);
     }
     protected void doWriteStepDefinition(StringBuilder sb, StepDefinition def) {
@@ -2558,6 +2565,7 @@ public class JavaDslModelWriter extends JavaDslModelWriterSupport {
         doWriteAttribute(sb, "callerRunsWhenRejected", def.getCallerRunsWhenRejected(), "true");
         doWriteAttribute(sb, "rejectExecution", def.getRejectExecution(), null);
         doWriteAttribute(sb, "timePeriodMillis", def.getTimePeriodMillis(), "1000");
+        doWriteAttribute(sb, "throttlingStateRepository", def.getThrottlingStateRepository(), null);
         doWriteExpressionNodeElements(sb, def);
         doWriteChildElement(sb, "correlationExpression", def.getCorrelationExpression(), this::doWriteExpressionSubElementDefinition);
     }
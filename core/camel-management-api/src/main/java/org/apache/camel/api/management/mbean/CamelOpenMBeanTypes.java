@@ -91,11 +91,15 @@ public final class CamelOpenMBeanTypes {
     public static CompositeType listExchangeFactoryCompositeType() throws OpenDataException {
         return new CompositeType(
                 "factories", "Factories",
-                new String[] { "url", "routeId", "capacity", "pooled", "created", "acquired", "released", "discarded" },
-                new String[] { "Url", "RouteId", "Capacity", "Pooled", "Created", "Acquired", "Released", "Discarded" },
+                new String[] {
+                        "url", "routeId", "capacity", "pooled", "created", "acquired", "released", "discarded", "inUse",
+                        "reuseRate" },
+                new String[] {
+                        "Url", "RouteId", "Capacity", "Pooled", "Created", "Acquired", "Released", "Discarded", "In Use",
+                        "Reuse Rate" },
                 new OpenType[] {
                         SimpleType.STRING, SimpleType.STRING, SimpleType.INTEGER, SimpleType.INTEGER, SimpleType.LONG,
-                        SimpleType.LONG, SimpleType.LONG, SimpleType.LONG });
+                        SimpleType.LONG, SimpleType.LONG, SimpleType.LONG, SimpleType.LONG, SimpleType.DOUBLE });
     }
 
     public static TabularType listRuntimeEndpointsTabularType() throws OpenDataException {
@@ -38,6 +38,15 @@ public interface ManagedEndpointRegistryMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Maximum cache size (capacity)")
     Integer getMaximumCacheSize();
 
+    @ManagedAttribute(description = "Number of lookups that found the endpoint in the dynamic cache")
+    Long getHits();
+
+    @ManagedAttribute(description = "Number of lookups that did not find the endpoint in the dynamic cache")
+    Long getMisses();
+
+    @ManagedAttribute(description = "Number of endpoints evicted from the dynamic cache")
+    Long getEvicted();
+
     @ManagedOperation(description = "Purges the cache")
     void purge();
 
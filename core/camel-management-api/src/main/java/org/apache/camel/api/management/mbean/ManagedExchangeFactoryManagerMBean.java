@@ -56,6 +56,12 @@ public interface ManagedExchangeFactoryManagerMBean extends ManagedServiceMBean
     @ManagedAttribute(description = "Total number of exchanges discarded (such as when capacity is full)")
     Long getTotalDiscarded();
 
+    @ManagedAttribute(description = "Total number of exchanges currently in use (created or acquired but not yet released)")
+    Long getTotalInUse();
+
+    @ManagedAttribute(description = "Percentage of exchanges reused from the pool instead of created new (if pooling is in use)")
+    Double getReuseRate();
+
     @ManagedOperation(description = "Lists all the statistics in tabular form")
     TabularData listStatistics();
 
@@ -38,4 +38,10 @@ public interface ManagedMulticastMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "The total timeout specified in millis, when using parallel processing.")
     Long getTimeout();
 
+    @ManagedAttribute(description = "The maximum number of exchanges per multicast, when using parallel processing, that have been sent but not yet aggregated (0 is unbounded).")
+    Integer getMaxOutstanding();
+
+    @ManagedAttribute(description = "Number of exchanges that have been sent but not yet aggregated, when using parallel processing.")
+    Integer getOutstandingExchanges();
+
 }
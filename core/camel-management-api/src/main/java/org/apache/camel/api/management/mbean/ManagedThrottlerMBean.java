@@ -44,4 +44,13 @@ public interface ManagedThrottlerMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "Whether or not throttler throws the ThrottlerRejectedExecutionException when the exchange exceeds the request limit")
     Boolean isRejectExecution();
 
+    @ManagedAttribute(description = "Number of exchanges that had to wait for a permit (only for TotalRequests mode)")
+    long getThrottledCounter();
+
+    @ManagedAttribute(description = "Total time in millis exchanges have been waiting for a permit (only for TotalRequests mode)")
+    long getThrottledTotalTime();
+
+    @ManagedAttribute(description = "Number of correlation keys the throttler currently holds state for (only for TotalRequests mode)")
+    int getThrottlingStateSize();
+
 }
@@ -79,6 +79,21 @@ public class ManagedEndpointRegistry extends ManagedService implements ManagedEn
         return endpointRegistry.getMaximumCacheSize();
     }
 
+    @Override
+    public Long getHits() {
+        return endpointRegistry.getHits();
+    }
+
+    @Override
+    public Long getMisses() {
+        return endpointRegistry.getMisses();
+    }
+
+    @Override
+    public Long getEvicted() {
+        return endpointRegistry.getEvicted();
+    }
+
     @Override
     public void purge() {
         endpointRegistry.purge();
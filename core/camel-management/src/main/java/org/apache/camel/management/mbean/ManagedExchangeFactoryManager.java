@@ -106,6 +106,16 @@ public class ManagedExchangeFactoryManager extends ManagedService implements Man
         return exchangeFactoryManager.getStatistics().getDiscardedCounter();
     }
 
+    @Override
+    public Long getTotalInUse() {
+        return exchangeFactoryManager.getStatistics().getInUseCounter();
+    }
+
+    @Override
+    public Double getReuseRate() {
+        return exchangeFactoryManager.getStatistics().getReuseRate();
+    }
+
     @Override
     public TabularData listStatistics() {
         try {
@@ -125,17 +135,24 @@ public class ManagedExchangeFactoryManager extends ManagedService implements Man
                 long acquired = 0;
                 long released = 0;
                 long discarded = 0;
+                long inUse = 0;
+                double reuseRate = 0;
                 if (ef.isStatisticsEnabled()) {
                     created = ef.getStatistics().getCreatedCounter();
                     acquired = ef.getStatistics().getAcquiredCounter();
                     released = ef.getStatistics().getReleasedCounter();
                     discarded = ef.getStatistics().getDiscardedCounter();
+                    inUse = ef.getStatistics().getInUseCounter();
+                    reuseRate = ef.getStatistics().getReuseRate();
                 }
 
                 CompositeData data = new CompositeDataSupport(
                         ct,
-                        new String[] { "url", "routeId", "capacity", "pooled", "created", "acquired", "released", "discarded" },
-                        new Object[] { url, routeId, capacity, size, created, acquired, released, discarded });
+                        new String[] {
+                                "url", "routeId", "capacity", "pooled", "created", "acquired", "released", "discarded",
+                                "inUse", "reuseRate" },
+                        new Object[] {
+                                url, routeId, capacity, size, created, acquired, released, discarded, inUse, reuseRate });
                 answer.put(data);
             }
             return answer;
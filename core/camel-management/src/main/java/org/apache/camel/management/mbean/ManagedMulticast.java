@@ -63,4 +63,14 @@ public class ManagedMulticast extends ManagedProcessor implements ManagedMultica
     public Long getTimeout() {
         return getProcessor().getTimeout();
     }
+
+    @Override
+    public Integer getMaxOutstanding() {
+        return getProcessor().getMaxOutstanding();
+    }
+
+    @Override
+    public Integer getOutstandingExchanges() {
+        return getProcessor().getOutstandingExchanges();
+    }
 }
@@ -83,4 +83,39 @@ public class ManagedThrottler extends ManagedProcessor implements ManagedThrottl
     public Boolean isRejectExecution() {
         return getProcessor().isRejectExecution();
     }
+
+    @Override
+    public long getThrottledCounter() {
+        if (getProcessor() instanceof TotalRequestsThrottler t) {
+            return t.getThrottledCounter();
+        }
+
+        return 0;
+    }
+
+    @Override
+    public long getThrottledTotalTime() {
+        if (getProcessor() instanceof TotalRequestsThrottler t) {
+            return t.getThrottledTotalTime();
+        }
+
+        return 0;
+    }
+
+    @Override
+    public int getThrottlingStateSize() {
+        if (getProcessor() instanceof TotalRequestsThrottler t) {
+            return t.getThrottlingStateSize();
+        }
+
+        return 0;
+    }
+
+    @Override
+    public void reset() {
+        if (getProcessor() instanceof TotalRequestsThrottler t) {
+            t.resetStatistics();
+        }
+        super.reset();
+    }
 }
@@ -23,11 +23,15 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
+import javax.management.ObjectName;
+
 import org.apache.camel.builder.RouteBuilder;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledOnOs;
 import org.junit.jupiter.api.condition.OS;
 
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_PROCESSOR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DisabledOnOs(OS.AIX)
@@ -39,6 +43,14 @@ public class ManagedAThrottlerTest extends AbstractManagedThrottlerTest {
 
         // 10 * delay (100) + tolerance (200)
         assertTrue(total > 1000, "Should be around 1 sec now: was " + total);
+
+        // the exchanges waiting for a permit after the throttle rate was decreased
+        ObjectName throttlerName = getCamelObjectName(TYPE_PROCESSOR, "mythrottler");
+        Long throttled = (Long) getMBeanServer().getAttribute(throttlerName, "ThrottledCounter");
+        assertTrue(throttled > 0, "Should have throttled exchanges: was " + throttled);
+        Long time = (Long) getMBeanServer().getAttribute(throttlerName, "ThrottledTotalTime");
+        assertTrue(time > 0, "Should have waited for permits: was " + time);
+        assertEquals(1, getMBeanServer().getAttribute(throttlerName, "ThrottlingStateSize"));
     }
 
     @Test
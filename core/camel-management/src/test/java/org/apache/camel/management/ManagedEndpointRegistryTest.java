@@ -44,8 +44,9 @@ public class ManagedEndpointRegistryTest extends ManagementTestSupport {
 
         assertMockEndpointsSatisfied();
 
-        // to create a dynamic endpoint
+        // to create a dynamic endpoint, and then lookup the dynamic endpoint
         template.sendBody("log:foo", "Hello World");
+        template.sendBody("log:foo", "Bye World");
 
         // get the stats for the route
         MBeanServer mbeanServer = getMBeanServer();
@@ -73,6 +74,13 @@ public class ManagedEndpointRegistryTest extends ManagementTestSupport {
         current = (Integer) mbeanServer.getAttribute(on, "DynamicSize");
         assertEquals(1, current.intValue());
 
+        Long hits = (Long) mbeanServer.getAttribute(on, "Hits");
+        assertTrue(hits > 0, "Should have hits, was " + hits);
+        Long misses = (Long) mbeanServer.getAttribute(on, "Misses");
+        assertTrue(misses > 0, "Should have misses, was " + misses);
+        Long evicted = (Long) mbeanServer.getAttribute(on, "Evicted");
+        assertEquals(0, evicted.longValue());
+
         String source = (String) mbeanServer.getAttribute(on, "Source");
         assertTrue(source.startsWith("EndpointRegistry"));
         assertTrue(source.endsWith("capacity: 1000]"));
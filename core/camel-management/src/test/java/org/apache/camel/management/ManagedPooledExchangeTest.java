@@ -101,6 +101,12 @@ public class ManagedPooledExchangeTest extends ManagementTestSupport {
 
             Integer num2 = (Integer) mbeanServer.getAttribute(on, "TotalPooled");
             assertEquals(1, num2.intValue());
+
+            num = (Long) mbeanServer.getAttribute(on, "TotalInUse");
+            assertEquals(0, num.intValue());
+
+            Double rate = (Double) mbeanServer.getAttribute(on, "ReuseRate");
+            assertEquals(66.6, rate, 0.1);
         });
 
     }
@@ -64,6 +64,12 @@ public class ManagedSplitterTest extends ManagementTestSupport {
         String exp = (String) mbeanServer.getAttribute(on, "Expression");
         assertEquals("${body}", exp);
 
+        Integer max = (Integer) mbeanServer.getAttribute(on, "MaxOutstanding");
+        assertEquals(0, max.intValue());
+
+        Integer outstanding = (Integer) mbeanServer.getAttribute(on, "OutstandingExchanges");
+        assertEquals(0, outstanding.intValue());
+
         String xml = (String) mbeanServer.invoke(on, "dumpProcessorAsXml", null, null);
         assertTrue(xml.contains("<split"));
         assertTrue(xml.contains("</split>"));
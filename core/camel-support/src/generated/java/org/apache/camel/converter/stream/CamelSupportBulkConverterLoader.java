@@ -41,7 +41,7 @@ public final class CamelSupportBulkConverterLoader implements TypeConverterLoade
 
     @Override
     public int size() {
-        return 21;
+        return 26;
     }
 
     @Override
@@ -67,7 +67,18 @@ public final class CamelSupportBulkConverterLoader implements TypeConverterLoade
             if (value instanceof org.apache.camel.StreamCache) {
                 return org.apache.camel.converter.stream.StreamCacheConverter.convertToByteArray((org.apache.camel.StreamCache) value, exchange);
             }
+        } else if (to == java.io.InputStream.class) {
+            if (value instanceof org.apache.camel.converter.stream.MappedFileRegion) {
+                return org.apache.camel.converter.stream.MappedFileRegionConverter.toInputStream((org.apache.camel.converter.stream.MappedFileRegion) value);
+            }
+        } else if (to == java.lang.CharSequence.class) {
+            if (value instanceof org.apache.camel.converter.stream.MappedFileRegion) {
+                return org.apache.camel.converter.stream.MappedFileRegionConverter.toCharSequence((org.apache.camel.converter.stream.MappedFileRegion) value, exchange);
+            }
         } else if (to == java.nio.ByteBuffer.class) {
+            if (value instanceof org.apache.camel.converter.stream.MappedFileRegion) {
+                return org.apache.camel.converter.stream.MappedFileRegionConverter.toByteBuffer((org.apache.camel.converter.stream.MappedFileRegion) value);
+            }
             if (value instanceof org.apache.camel.StreamCache) {
                 return org.apache.camel.converter.stream.StreamCacheConverter.convertToByteBuffer((org.apache.camel.StreamCache) value, exchange);
             }
@@ -84,6 +95,13 @@ public final class CamelSupportBulkConverterLoader implements TypeConverterLoade
             if (value instanceof java.io.Reader) {
                 return org.apache.camel.converter.stream.StreamCacheConverter.convertToStreamCache((java.io.Reader) value, exchange);
             }
+        } else if (to == org.apache.camel.converter.stream.MappedFileRegion.class) {
+            if (value instanceof java.io.File) {
+                return org.apache.camel.converter.stream.MappedFileRegionConverter.toMappedFileRegion((java.io.File) value);
+            }
+            if (value instanceof java.nio.file.Path) {
+                return org.apache.camel.converter.stream.MappedFileRegionConverter.toMappedFileRegion((java.nio.file.Path) value);
+            }
         } else if (to == org.apache.camel.util.json.JsonArray.class) {
             if (value instanceof java.lang.String) {
                 return org.apache.camel.converter.json.JsonConverter.convertToJsonArray((java.lang.String) value, exchange);
@@ -138,11 +156,16 @@ public final class CamelSupportBulkConverterLoader implements TypeConverterLoade
 
     private void doRegistration(TypeConverterRegistry registry) {
         registry.addConverter(new TypeConvertible<>(org.apache.camel.StreamCache.class, byte[].class), this);
+        registry.addConverter(new TypeConvertible<>(org.apache.camel.converter.stream.MappedFileRegion.class, java.io.InputStream.class), this);
+        registry.addConverter(new TypeConvertible<>(org.apache.camel.converter.stream.MappedFileRegion.class, java.lang.CharSequence.class), this);
+        registry.addConverter(new TypeConvertible<>(org.apache.camel.converter.stream.MappedFileRegion.class, java.nio.ByteBuffer.class), this);
         registry.addConverter(new TypeConvertible<>(org.apache.camel.StreamCache.class, java.nio.ByteBuffer.class), this);
         registry.addConverter(new TypeConvertible<>(java.io.ByteArrayInputStream.class, org.apache.camel.StreamCache.class), this);
         registry.addConverter(new TypeConvertible<>(java.io.InputStream.class, org.apache.camel.StreamCache.class), this);
         registry.addConverter(new TypeConvertible<>(org.apache.camel.converter.stream.CachedOutputStream.class, org.apache.camel.StreamCache.class), this);
         registry.addConverter(new TypeConvertible<>(java.io.Reader.class, org.apache.camel.StreamCache.class), this);
+        registry.addConverter(new TypeConvertible<>(java.io.File.class, org.apache.camel.converter.stream.MappedFileRegion.class), this);
+        registry.addConverter(new TypeConvertible<>(java.nio.file.Path.class, org.apache.camel.converter.stream.MappedFileRegion.class), this);
         registry.addConverter(new TypeConvertible<>(java.lang.String.class, org.apache.camel.util.json.JsonArray.class), this);
         registry.addConverter(new TypeConvertible<>(byte[].class, org.apache.camel.util.json.JsonArray.class), this);
         registry.addConverter(new TypeConvertible<>(java.io.InputStream.class, org.apache.camel.util.json.JsonArray.class), this);
@@ -165,7 +188,18 @@ public final class CamelSupportBulkConverterLoader implements TypeConverterLoade
             if (from == org.apache.camel.StreamCache.class) {
                 return this;
             }
+        } else if (to == java.io.InputStream.class) {
+            if (from == org.apache.camel.converter.stream.MappedFileRegion.class) {
+                return this;
+            }
+        } else if (to == java.lang.CharSequence.class) {
+            if (from == org.apache.camel.converter.stream.MappedFileRegion.class) {
+                return this;
+            }
         } else if (to == java.nio.ByteBuffer.class) {
+            if (from == org.apache.camel.converter.stream.MappedFileRegion.class) {
+                return this;
+            }
             if (from == org.apache.camel.StreamCache.class) {
                 return this;
             }
@@ -182,6 +216,13 @@ public final class CamelSupportBulkConverterLoader implements TypeConverterLoade
             if (from == java.io.Reader.class) {
                 return this;
             }
+        } else if (to == org.apache.camel.converter.stream.MappedFileRegion.class) {
+            if (from == java.io.File.class) {
+                return this;
+            }
+            if (from == java.nio.file.Path.class) {
+                return this;
+            }
         } else if (to == org.apache.camel.util.json.JsonArray.class) {
             if (from == java.lang.String.class) {
                 return this;
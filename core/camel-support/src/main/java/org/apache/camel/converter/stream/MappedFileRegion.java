@@ -0,0 +1,322 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * A message body which is a region of a file, which is read by mapping windows of the file into memory instead of
+ * copying the content into the heap. This allows processing very large files, such as splitting or unmarshalling a
+ * multi GB file, as only the mapped windows are paged into memory by the operating system.
+ * <p/>
+ * The region is immutable and can be read any number of times, such as by converting the body to an
+ * {@link InputStream}, a {@link ByteBuffer} or a {@link CharSequence}. A region can be split into chunks using
+ * {@link #chunks(long)}, which can be processed independently of each other.
+ * <p/>
+ * Notice that the mapped memory is released when the mapped buffers are garbage collected, and some platforms (such as
+ * Windows) do not allow deleting or moving the file while it is mapped.
+ */
+public final class MappedFileRegion {
+
+    /**
+     * The default size of the windows which are mapped when reading the region as a stream.
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 8 * 1024 * 1024;
+
+    private final Path file;
+    private final long position;
+    private final long length;
+    private final int windowSize;
+
+    /**
+     * Creates a region of the entire file.
+     */
+    public MappedFileRegion(Path file) throws IOException {
+        this(file, 0, Files.size(file), DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Creates a region of the file.
+     *
+     * @param file     the file
+     * @param position the position in the file where the region starts
+     * @param length   the length of the region
+     */
+    public MappedFileRegion(Path file, long position, long length) {
+        this(file, position, length, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Creates a region of the file.
+     *
+     * @param file       the file
+     * @param position   the position in the file where the region starts
+     * @param length     the length of the region
+     * @param windowSize the size of the windows which are mapped when reading the region as a stream
+     */
+    public MappedFileRegion(Path file, long position, long length, int windowSize) {
+        ObjectHelper.notNull(file, "file");
+        if (position < 0 || length < 0) {
+            throw new IllegalArgumentException("Position and length must be >= 0, was " + position + " and " + length);
+        }
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("WindowSize must be > 0, was " + windowSize);
+        }
+        this.file = file;
+        this.position = position;
+        this.length = length;
+        this.windowSize = windowSize;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * The position in the file where the region starts
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * The length of the region
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * The size of the windows which are mapped when reading the region as a stream
+     */
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    /**
+     * Creates a region which is a part of this region.
+     *
+     * @param  offset the offset within this region where the new region starts
+     * @param  length the length of the new region
+     * @return        the new region
+     */
+    public MappedFileRegion slice(long offset, long length) {
+        if (offset < 0 || length < 0 || offset + length > this.length) {
+            throw new IndexOutOfBoundsException(
+                    "Offset: " + offset + " and length: " + length + " is out of bounds of region length: " + this.length);
+        }
+        return new MappedFileRegion(file, position + offset, length, windowSize);
+    }
+
+    /**
+     * Splits this region into chunks of the given size, where the last chunk may be smaller.
+     *
+     * @param  chunkSize the size of the chunks
+     * @return           the chunks in order
+     */
+    public List<MappedFileRegion> chunks(long chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("ChunkSize must be > 0, was " + chunkSize);
+        }
+        List<MappedFileRegion> answer = new ArrayList<>();
+        for (long offset = 0; offset < length; offset += chunkSize) {
+            answer.add(slice(offset, Math.min(chunkSize, length - offset)));
+        }
+        return answer;
+    }
+
+    /**
+     * Maps the entire region into memory.
+     *
+     * @throws IOException is thrown if the region is larger than 2GB, which must be read in windows using
+     *                     {@link #map(long, int)} or as a stream using {@link #newInputStream()}.
+     */
+    public ByteBuffer map() throws IOException {
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException(
+                    "Cannot map region of file: " + file + " as the length is too large: " + length
+                                  + ". Use a stream or map windows of the region instead.");
+        }
+        return map(0, (int) length);
+    }
+
+    /**
+     * Maps a window of the region into memory.
+     *
+     * @param  offset the offset within this region where the window starts
+     * @param  size   the size of the window
+     * @return        the read only mapped window
+     */
+    public ByteBuffer map(long offset, int size) throws IOException {
+        if (offset < 0 || size < 0 || offset + size > length) {
+            throw new IndexOutOfBoundsException(
+                    "Offset: " + offset + " and size: " + size + " is out of bounds of region length: " + length);
+        }
+        // the mapping stays valid after the channel is closed
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, position + offset, size);
+        }
+    }
+
+    /**
+     * Creates a new {@link InputStream} which reads the region by mapping a window at a time.
+     */
+    public InputStream newInputStream() {
+        return new MappedInputStream();
+    }
+
+    /**
+     * Returns the content of the region as a {@link CharSequence}.
+     * <p/>
+     * Single byte charsets (ISO-8859-1 and US-ASCII) are read directly from the mapped region, without decoding the
+     * content into the heap. Other charsets requires decoding the content.
+     *
+     * @param charset the charset of the content
+     */
+    public CharSequence asCharSequence(Charset charset) throws IOException {
+        ByteBuffer buffer = map();
+        if (StandardCharsets.ISO_8859_1.equals(charset) || StandardCharsets.US_ASCII.equals(charset)) {
+            return new MappedCharSequence(buffer);
+        }
+        return charset.decode(buffer);
+    }
+
+    @Override
+    public String toString() {
+        return "MappedFileRegion[" + file + ", position=" + position + ", length=" + length + "]";
+    }
+
+    /**
+     * A {@link CharSequence} view of mapped bytes using a single byte charset.
+     */
+    private static final class MappedCharSequence implements CharSequence {
+
+        private final ByteBuffer buffer;
+
+        MappedCharSequence(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int length() {
+            return buffer.limit();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (buffer.get(index) & 0xff);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            if (start < 0 || end > length() || start > end) {
+                throw new IndexOutOfBoundsException("Start: " + start + " and end: " + end + " of length: " + length());
+            }
+            return new MappedCharSequence(buffer.duplicate().position(start).limit(end).slice());
+        }
+
+        @Override
+        public String toString() {
+            return StandardCharsets.ISO_8859_1.decode(buffer.duplicate()).toString();
+        }
+    }
+
+    /**
+     * An {@link InputStream} which maps the next window of the region when the current window has been read.
+     */
+    private final class MappedInputStream extends InputStream {
+
+        private ByteBuffer window;
+        private long offset;
+
+        @Override
+        public int read() throws IOException {
+            if (!nextWindow()) {
+                return -1;
+            }
+            return window.get() & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            ObjectHelper.notNull(b, "b");
+            if (len == 0) {
+                return 0;
+            }
+            if (!nextWindow()) {
+                return -1;
+            }
+            int n = Math.min(len, window.remaining());
+            window.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            if (n <= 0) {
+                return 0;
+            }
+            long remaining = (length - offset) + (window != null ? window.remaining() : 0);
+            long skipped = Math.min(n, remaining);
+            long inWindow = window != null ? window.remaining() : 0;
+            if (skipped <= inWindow) {
+                window.position(window.position() + (int) skipped);
+            } else {
+                // skip beyond the current window so the next window is mapped from the new offset
+                offset += skipped - inWindow;
+                window = null;
+            }
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return window != null ? window.remaining() : 0;
+        }
+
+        @Override
+        public void close() {
+            window = null;
+            offset = length;
+        }
+
+        private boolean nextWindow() throws IOException {
+            if (window != null && window.hasRemaining()) {
+                return true;
+            }
+            if (offset >= length) {
+                return false;
+            }
+            int size = (int) Math.min(windowSize, length - offset);
+            window = map(offset, size);
+            offset += size;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+import org.apache.camel.Converter;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.ExchangeHelper;
+
+/**
+ * A set of {@link Converter} methods for reading {@link MappedFileRegion} message bodies without copying the file
+ * content into the heap.
+ */
+@Converter(generateBulkLoader = true)
+public final class MappedFileRegionConverter {
+
+    /**
+     * Utility classes should not have a public constructor.
+     */
+    private MappedFileRegionConverter() {
+    }
+
+    @Converter(order = 1)
+    public static MappedFileRegion toMappedFileRegion(File file) throws IOException {
+        return new MappedFileRegion(file.toPath());
+    }
+
+    @Converter(order = 2)
+    public static MappedFileRegion toMappedFileRegion(Path file) throws IOException {
+        return new MappedFileRegion(file);
+    }
+
+    @Converter(order = 3)
+    public static InputStream toInputStream(MappedFileRegion region) {
+        return region.newInputStream();
+    }
+
+    @Converter(order = 4)
+    public static ByteBuffer toByteBuffer(MappedFileRegion region) throws IOException {
+        return region.map();
+    }
+
+    @Converter(order = 5)
+    public static CharSequence toCharSequence(MappedFileRegion region, Exchange exchange) throws IOException {
+        return region.asCharSequence(ExchangeHelper.getCharset(exchange));
+    }
+}
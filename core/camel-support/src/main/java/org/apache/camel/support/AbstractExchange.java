@@ -59,8 +59,12 @@ abstract class AbstractExchange implements Exchange, ExchangeExtension {
 
     protected final EnumMap<ExchangePropertyKey, Object> internalProperties;
     protected Map<String, Object> properties;
+    // whether the properties map is shared with a copy of this exchange (copy-on-write)
+    protected boolean propertiesShared;
     protected Map<String, SafeCopyProperty> safeCopyProperties;
     protected ExchangeVariableRepository variableRepository;
+    // whether the variables are shared with a copy of this exchange (copy-on-write)
+    protected boolean variablesShared;
     protected Message in;
     protected Message out;
     protected Exception exception;
@@ -143,14 +147,16 @@ abstract class AbstractExchange implements Exchange, ExchangeExtension {
         this.rollbackOnlyLast = parent.rollbackOnlyLast;
         this.routeStop = parent.routeStop;
 
+        // share properties and variables with the parent until either of them mutates
         if (parent.hasVariables()) {
-            if (this.variableRepository == null) {
-                this.variableRepository = new ExchangeVariableRepository(getContext());
-            }
-            this.variableRepository.copyFrom(parent.variableRepository);
+            this.variableRepository = parent.variableRepository;
+            this.variablesShared = true;
+            parent.variablesShared = true;
         }
         if (parent.hasProperties()) {
-            this.properties = safeCopyProperties(parent.properties);
+            this.properties = parent.properties;
+            this.propertiesShared = true;
+            parent.propertiesShared = true;
         }
         if (parent.hasSafeCopyProperties()) {
             this.safeCopyProperties = parent.copySafeCopyProperties();
@@ -283,13 +289,10 @@ abstract class AbstractExchange implements Exchange, ExchangeExtension {
             setProperty(key, value);
         } else if (value != null) {
             // avoid the NullPointException
-            if (properties == null) {
-                this.properties = new FlatMap<>(4);
-            }
-            properties.put(name, value);
+            writableProperties().put(name, value);
         } else if (properties != null) {
             // if the value is null, we just remove the key from the map
-            properties.remove(name);
+            writableProperties().remove(name);
         }
     }
 
@@ -302,7 +305,7 @@ abstract class AbstractExchange implements Exchange, ExchangeExtension {
         if (!hasProperties()) {
             return null;
         }
-        return properties.remove(name);
+        return writableProperties().remove(name);
     }
 
     @Override
@@ -314,9 +317,7 @@ abstract class AbstractExchange implements Exchange, ExchangeExtension {
     public boolean removeProperties(String pattern, String... excludePatterns) {
         // special optimized
         if (excludePatterns == null && "*".equals(pattern)) {
-            if (properties != null) {
-                properties.clear();
-            }
+            clearProperties();
             internalProperties.clear();
             return true;
         }
@@ -341,10 +342,11 @@ abstract class AbstractExchange implements Exchange, ExchangeExtension {
                 matches = true;
                 if (toBeRemoved.size() == properties.size()) {
                     // special optimization when all should be removed
-                    properties.clear();
+                    clearProperties();
                 } else {
+                    Map<String, Object> map = writableProperties();
                     for (String key : toBeRemoved) {
-                        properties.remove(key);
+                        map.remove(key);
                     }
                 }
             }
@@ -355,12 +357,35 @@ abstract class AbstractExchange implements Exchange, ExchangeExtension {
 
     @Override
     public Map<String, Object> getProperties() {
+        // the map can be changed by the caller
+        return writableProperties();
+    }
+
+    /**
+     * Gets the properties map for changing, which copies the map first if it is shared with a copy of this exchange.
+     */
+    private Map<String, Object> writableProperties() {
         if (properties == null) {
             this.properties = new FlatMap<>(4);
+        } else if (propertiesShared) {
+            this.properties = new FlatMap<>(properties);
+            this.propertiesShared = false;
         }
         return properties;
     }
 
+    /**
+     * Removes all the properties, without changing the map if it is shared with a copy of this exchange.
+     */
+    void clearProperties() {
+        if (propertiesShared) {
+            this.properties = null;
+            this.propertiesShared = false;
+        } else if (properties != null) {
+            properties.clear();
+        }
+    }
+
     private Map<String, SafeCopyProperty> copySafeCopyProperties() {
         Map<String, SafeCopyProperty> copy = new FlatMap<>(this.safeCopyProperties.size());
         for (Map.Entry<String, SafeCopyProperty> entry : this.safeCopyProperties.entrySet()) {
@@ -428,10 +453,7 @@ abstract class AbstractExchange implements Exchange, ExchangeExtension {
         if (repo != null) {
             repo.setVariable(name, value);
         } else {
-            if (variableRepository == null) {
-                variableRepository = new ExchangeVariableRepository(getContext());
-            }
-            variableRepository.setVariable(name, value);
+            writableVariables().setVariable(name, value);
         }
     }
 
@@ -447,21 +469,46 @@ abstract class AbstractExchange implements Exchange, ExchangeExtension {
             return repo.removeVariable(name);
         } else if (variableRepository != null) {
             if ("*".equals(name)) {
-                variableRepository.clear();
+                clearVariables();
                 return null;
             }
-            return variableRepository.removeVariable(name);
+            return writableVariables().removeVariable(name);
         }
         return null;
     }
 
     @Override
     public Map<String, Object> getVariables() {
+        // force creating variables, and the map can be changed by the caller
+        return writableVariables().getVariables();
+    }
+
+    /**
+     * Gets the variables for changing, which copies the variables first if they are shared with a copy of this
+     * exchange.
+     */
+    private ExchangeVariableRepository writableVariables() {
         if (variableRepository == null) {
-            // force creating variables
             variableRepository = new ExchangeVariableRepository(getContext());
+        } else if (variablesShared) {
+            ExchangeVariableRepository copy = new ExchangeVariableRepository(getContext());
+            copy.copyFrom(variableRepository);
+            variableRepository = copy;
+            variablesShared = false;
+        }
+        return variableRepository;
+    }
+
+    /**
+     * Removes all the variables, without changing the variables if they are shared with a copy of this exchange.
+     */
+    void clearVariables() {
+        if (variablesShared) {
+            variableRepository = null;
+            variablesShared = false;
+        } else if (variableRepository != null) {
+            variableRepository.clear();
         }
-        return variableRepository.getVariables();
     }
 
     @Override
@@ -999,12 +1046,8 @@ abstract class AbstractExchange implements Exchange, ExchangeExtension {
 
     @Override
     public void setProperties(Map<String, Object> properties) {
-        if (this.properties == null) {
-            this.properties = new FlatMap<>(4);
-        } else {
-            this.properties.clear();
-        }
-        this.properties.putAll(properties);
+        clearProperties();
+        writableProperties().putAll(properties);
     }
 
     @Override
@@ -1033,9 +1076,7 @@ abstract class AbstractExchange implements Exchange, ExchangeExtension {
         if (onCompletions != null) {
             onCompletions.clear();
         }
-        if (variableRepository != null) {
-            variableRepository.clear();
-        }
+        clearVariables();
         externalRedelivered = RedeliveryTraitPayload.UNDEFINED_REDELIVERY;
         historyNodeId = null;
         historyNodeLabel = null;
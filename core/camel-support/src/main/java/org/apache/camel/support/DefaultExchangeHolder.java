@@ -58,6 +58,9 @@ import org.slf4j.LoggerFactory;
  * skipped. Any message body object that is not serializable will be skipped and Camel will log this at <tt>WARN</tt>
  * level. And any message header values that is not a primitive value will be skipped and Camel will log this at
  * <tt>DEBUG</tt> level.
+ * <p/>
+ * The holder can be written with Java serialization, or with the more compact binary format of
+ * {@link DefaultExchangeHolderCodec}.
  */
 public class DefaultExchangeHolder implements Serializable {
 
@@ -226,6 +229,72 @@ public class DefaultExchangeHolder implements Serializable {
         payload.variables.put(key, variable);
     }
 
+    // accessors used by DefaultExchangeHolderCodec
+
+    String getExchangeId() {
+        return exchangeId;
+    }
+
+    void setExchangeId(String exchangeId) {
+        this.exchangeId = exchangeId;
+    }
+
+    Object getInBody() {
+        return inBody;
+    }
+
+    void setInBody(Object inBody) {
+        this.inBody = inBody;
+    }
+
+    Object getOutBody() {
+        return outBody;
+    }
+
+    void setOutBody(Object outBody) {
+        this.outBody = outBody;
+    }
+
+    Map<String, Object> getInHeaders() {
+        return inHeaders;
+    }
+
+    void setInHeaders(Map<String, Object> inHeaders) {
+        this.inHeaders = inHeaders;
+    }
+
+    Map<String, Object> getOutHeaders() {
+        return outHeaders;
+    }
+
+    void setOutHeaders(Map<String, Object> outHeaders) {
+        this.outHeaders = outHeaders;
+    }
+
+    Map<String, Object> getProperties() {
+        return properties;
+    }
+
+    void setProperties(Map<String, Object> properties) {
+        this.properties = properties;
+    }
+
+    Map<String, Object> getVariables() {
+        return variables;
+    }
+
+    void setVariables(Map<String, Object> variables) {
+        this.variables = variables;
+    }
+
+    Exception getException() {
+        return exception;
+    }
+
+    void setException(Exception exception) {
+        this.exception = exception;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("DefaultExchangeHolder[exchangeId=").append(exchangeId);
@@ -0,0 +1,597 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.camel.util.ClassLoadingAwareObjectInputStream;
+
+/**
+ * A compact binary format for {@link DefaultExchangeHolder}, which is faster and smaller than using Java serialization
+ * of the holder.
+ * <p/>
+ * Values of the common types (String, numbers, boolean, character, date and byte array) are written in a binary format,
+ * and any other values (such as exceptions) are written using Java serialization. Message bodies of other types can be
+ * written in a binary format by adding a {@link BodyCodec}.
+ * <p/>
+ * The format starts with a version number, so data written by older versions of this codec can still be read.
+ */
+public class DefaultExchangeHolderCodec {
+
+    /**
+     * The current version of the format.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * The default deserialization filter, which only allows the classes from the JDK and Camel.
+     */
+    public static final String DEFAULT_DESERIALIZATION_FILTER = "java.**;org.apache.camel.**;!*";
+
+    private static final int MAGIC = 0xCA;
+    private static final int NULL = 0;
+    private static final int STRING = 1;
+    private static final int INTEGER = 2;
+    private static final int LONG = 3;
+    private static final int SHORT = 4;
+    private static final int BYTE = 5;
+    private static final int DOUBLE = 6;
+    private static final int FLOAT = 7;
+    private static final int TRUE = 8;
+    private static final int FALSE = 9;
+    private static final int CHARACTER = 10;
+    private static final int DATE = 11;
+    private static final int BIG_INTEGER = 12;
+    private static final int BIG_DECIMAL = 13;
+    private static final int BYTES = 14;
+    private static final int BODY_CODEC = 15;
+    private static final int SERIALIZED = 16;
+
+    private final List<BodyCodec<?>> bodyCodecs = new CopyOnWriteArrayList<>();
+    private String deserializationFilter = DEFAULT_DESERIALIZATION_FILTER;
+    private boolean zeroCopy;
+
+    /**
+     * Writes and reads message bodies of a given type in a binary format.
+     *
+     * @param <T> the type of message body
+     */
+    public interface BodyCodec<T> {
+
+        /**
+         * The id of this codec which is written together with the message body, must be unique among the codecs added
+         * to the {@link DefaultExchangeHolderCodec}, and must not be changed once data has been written.
+         */
+        int getId();
+
+        /**
+         * The type of message bodies this codec writes, which includes sub types.
+         */
+        Class<T> getType();
+
+        /**
+         * Writes the message body
+         */
+        void write(T body, DataOutput out) throws IOException;
+
+        /**
+         * Reads the message body
+         */
+        T read(DataInput in) throws IOException;
+    }
+
+    /**
+     * Adds a codec for writing message bodies of a given type.
+     *
+     * @param codec the codec
+     */
+    public void addBodyCodec(BodyCodec<?> codec) {
+        for (BodyCodec<?> existing : bodyCodecs) {
+            if (existing.getId() == codec.getId()) {
+                throw new IllegalArgumentException(
+                        "BodyCodec with id " + codec.getId() + " already added for type: " + existing.getType().getName());
+            }
+        }
+        bodyCodecs.add(codec);
+    }
+
+    public List<BodyCodec<?>> getBodyCodecs() {
+        return bodyCodecs;
+    }
+
+    public String getDeserializationFilter() {
+        return deserializationFilter;
+    }
+
+    /**
+     * Sets a deserialization filter (see {@link ObjectInputFilter.Config#createFilter(String)}) to use when reading
+     * values which has been written using Java serialization. Is <tt>java.**;org.apache.camel.**;!*</tt> by default,
+     * and can be set to <tt>null</tt> to not use a filter.
+     */
+    public void setDeserializationFilter(String deserializationFilter) {
+        this.deserializationFilter = deserializationFilter;
+    }
+
+    public boolean isZeroCopy() {
+        return zeroCopy;
+    }
+
+    /**
+     * Whether message bodies of type byte array are read as a read-only {@link ByteBuffer} which refers to the data
+     * being read, instead of copying the bytes to a new byte array. The data must then not be changed afterwards.
+     */
+    public void setZeroCopy(boolean zeroCopy) {
+        this.zeroCopy = zeroCopy;
+    }
+
+    /**
+     * Writes the holder in the binary format.
+     *
+     * @param  holder      the holder
+     * @return             the written data
+     * @throws IOException is thrown if error writing a value
+     */
+    public byte[] encode(DefaultExchangeHolder holder) throws IOException {
+        Writer out = new Writer(256);
+        write(holder, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Writes the holder in the binary format to the stream.
+     *
+     * @param  holder      the holder
+     * @param  out         the stream to write to
+     * @throws IOException is thrown if error writing to the stream
+     */
+    public void encode(DefaultExchangeHolder holder, OutputStream out) throws IOException {
+        Writer writer = new Writer(256);
+        write(holder, writer);
+        out.write(writer.buf, 0, writer.count);
+    }
+
+    /**
+     * Reads the holder from data in the binary format.
+     *
+     * @param  data        the data
+     * @return             the holder
+     * @throws IOException is thrown if the data is not valid
+     */
+    public DefaultExchangeHolder decode(byte[] data) throws IOException {
+        return decode(data, 0, data.length);
+    }
+
+    /**
+     * Reads the holder from data in the binary format.
+     *
+     * @param  data        the data
+     * @param  offset      the offset of the holder in the data
+     * @param  length      the length of the holder in the data
+     * @return             the holder
+     * @throws IOException is thrown if the data is not valid
+     */
+    public DefaultExchangeHolder decode(byte[] data, int offset, int length) throws IOException {
+        return read(new Reader(data, offset, offset + length));
+    }
+
+    /**
+     * Reads the holder from a stream with data in the binary format, which reads the stream to the end.
+     *
+     * @param  in          the stream
+     * @return             the holder
+     * @throws IOException is thrown if error reading the stream, or the data is not valid
+     */
+    public DefaultExchangeHolder decode(InputStream in) throws IOException {
+        return decode(in.readAllBytes());
+    }
+
+    private void write(DefaultExchangeHolder holder, Writer out) throws IOException {
+        out.write(MAGIC);
+        out.write(VERSION);
+        out.writeString(holder.getExchangeId());
+        writeValue(out, holder.getInBody(), true);
+        writeValue(out, holder.getOutBody(), true);
+        writeMap(out, holder.getInHeaders());
+        writeMap(out, holder.getOutHeaders());
+        writeMap(out, holder.getProperties());
+        writeMap(out, holder.getVariables());
+        writeValue(out, holder.getException(), false);
+    }
+
+    private DefaultExchangeHolder read(Reader in) throws IOException {
+        if (in.read() != MAGIC) {
+            throw new StreamCorruptedException("Not data written by DefaultExchangeHolderCodec");
+        }
+        int version = in.read();
+        if (version > VERSION) {
+            throw new StreamCorruptedException("Unsupported DefaultExchangeHolderCodec version: " + version);
+        }
+        DefaultExchangeHolder holder = new DefaultExchangeHolder();
+        holder.setExchangeId(in.readString());
+        holder.setInBody(readValue(in, true));
+        holder.setOutBody(readValue(in, true));
+        holder.setInHeaders(readMap(in));
+        holder.setOutHeaders(readMap(in));
+        holder.setProperties(readMap(in));
+        holder.setVariables(readMap(in));
+        holder.setException((Exception) readValue(in, false));
+        return holder;
+    }
+
+    private void writeMap(Writer out, Map<String, Object> map) throws IOException {
+        if (map == null) {
+            out.writeVarLong(0);
+            return;
+        }
+        out.writeVarLong(map.size() + 1L);
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            out.writeString(entry.getKey());
+            writeValue(out, entry.getValue(), false);
+        }
+    }
+
+    private Map<String, Object> readMap(Reader in) throws IOException {
+        int size = (int) in.readVarLong() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, Object> answer = new LinkedHashMap<>(Math.max(16, (int) (size / 0.75f) + 1));
+        for (int i = 0; i < size; i++) {
+            answer.put(in.readString(), readValue(in, false));
+        }
+        return answer;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private void writeValue(Writer out, Object value, boolean body) throws IOException {
+        if (value == null) {
+            out.write(NULL);
+        } else if (value instanceof String s) {
+            out.write(STRING);
+            out.writeString(s);
+        } else if (value instanceof Integer i) {
+            out.write(INTEGER);
+            out.writeZigZag(i);
+        } else if (value instanceof Long l) {
+            out.write(LONG);
+            out.writeZigZag(l);
+        } else if (value instanceof Short s) {
+            out.write(SHORT);
+            out.writeZigZag(s);
+        } else if (value instanceof Byte b) {
+            out.write(BYTE);
+            out.write(b);
+        } else if (value instanceof Double d) {
+            out.write(DOUBLE);
+            out.writeFixedLong(Double.doubleToRawLongBits(d));
+        } else if (value instanceof Float f) {
+            out.write(FLOAT);
+            out.writeFixedInt(Float.floatToRawIntBits(f));
+        } else if (value instanceof Boolean b) {
+            out.write(b ? TRUE : FALSE);
+        } else if (value instanceof Character c) {
+            out.write(CHARACTER);
+            out.writeVarLong(c);
+        } else if (value.getClass() == Date.class) {
+            // sub classes such as java.sql.Timestamp are serialized to keep their type and precision
+            out.write(DATE);
+            out.writeZigZag(((Date) value).getTime());
+        } else if (value.getClass() == BigInteger.class) {
+            out.write(BIG_INTEGER);
+            out.writeBytes(((BigInteger) value).toByteArray());
+        } else if (value.getClass() == BigDecimal.class) {
+            BigDecimal bd = (BigDecimal) value;
+            out.write(BIG_DECIMAL);
+            out.writeZigZag(bd.scale());
+            out.writeBytes(bd.unscaledValue().toByteArray());
+        } else if (value instanceof byte[] bytes) {
+            out.write(BYTES);
+            out.writeBytes(bytes);
+        } else {
+            BodyCodec codec = body ? findBodyCodec(value) : null;
+            Writer data = new Writer(128);
+            if (codec != null) {
+                out.write(BODY_CODEC);
+                out.writeVarLong(codec.getId());
+                try (DataOutputStream dos = new DataOutputStream(data)) {
+                    codec.write(value, dos);
+                }
+            } else {
+                out.write(SERIALIZED);
+                try (ObjectOutputStream oos = new ObjectOutputStream(data)) {
+                    oos.writeObject(value);
+                }
+            }
+            out.writeBytes(data.buf, 0, data.count);
+        }
+    }
+
+    private Object readValue(Reader in, boolean body) throws IOException {
+        int type = in.read();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return in.readString();
+            case INTEGER:
+                return (int) in.readZigZag();
+            case LONG:
+                return in.readZigZag();
+            case SHORT:
+                return (short) in.readZigZag();
+            case BYTE:
+                return (byte) in.read();
+            case DOUBLE:
+                return Double.longBitsToDouble(in.readFixedLong());
+            case FLOAT:
+                return Float.intBitsToFloat(in.readFixedInt());
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case CHARACTER:
+                return (char) in.readVarLong();
+            case DATE:
+                return new Date(in.readZigZag());
+            case BIG_INTEGER:
+                return new BigInteger(in.readBytes());
+            case BIG_DECIMAL: {
+                int scale = (int) in.readZigZag();
+                return new BigDecimal(new BigInteger(in.readBytes()), scale);
+            }
+            case BYTES: {
+                int length = in.readLength();
+                if (body && zeroCopy) {
+                    ByteBuffer answer = ByteBuffer.wrap(in.data, in.pos, length).slice().asReadOnlyBuffer();
+                    in.pos += length;
+                    return answer;
+                }
+                byte[] answer = Arrays.copyOfRange(in.data, in.pos, in.pos + length);
+                in.pos += length;
+                return answer;
+            }
+            case BODY_CODEC: {
+                int id = (int) in.readVarLong();
+                BodyCodec<?> codec = null;
+                for (BodyCodec<?> candidate : bodyCodecs) {
+                    if (candidate.getId() == id) {
+                        codec = candidate;
+                        break;
+                    }
+                }
+                if (codec == null) {
+                    throw new StreamCorruptedException("No BodyCodec added with id: " + id);
+                }
+                int length = in.readLength();
+                try (DataInputStream dis = new DataInputStream(new ByteArrayInputStream(in.data, in.pos, length))) {
+                    in.pos += length;
+                    return codec.read(dis);
+                }
+            }
+            case SERIALIZED: {
+                int length = in.readLength();
+                try (ObjectInputStream ois
+                        = new ClassLoadingAwareObjectInputStream(new ByteArrayInputStream(in.data, in.pos, length))) {
+                    in.pos += length;
+                    if (deserializationFilter != null) {
+                        ois.setObjectInputFilter(ObjectInputFilter.Config.createFilter(deserializationFilter));
+                    }
+                    return ois.readObject();
+                } catch (ClassNotFoundException e) {
+                    throw new IOException("Cannot read serialized value due to " + e.getMessage(), e);
+                }
+            }
+            default:
+                throw new StreamCorruptedException("Unknown value type: " + type);
+        }
+    }
+
+    private BodyCodec<?> findBodyCodec(Object body) {
+        for (BodyCodec<?> codec : bodyCodecs) {
+            if (codec.getType().isInstance(body)) {
+                return codec;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Unsynchronized byte array output stream with variable length encoding of numbers.
+     */
+    private static final class Writer extends OutputStream {
+        private byte[] buf;
+        private int count;
+
+        Writer(int size) {
+            buf = new byte[size];
+        }
+
+        private void ensureCapacity(int extra) {
+            if (count + extra > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length << 1, count + extra));
+            }
+        }
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(1);
+            buf[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensureCapacity(len);
+            System.arraycopy(b, off, buf, count, len);
+            count += len;
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buf[count++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buf[count++] = (byte) value;
+        }
+
+        void writeZigZag(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        void writeFixedLong(long value) {
+            ensureCapacity(8);
+            for (int i = 56; i >= 0; i -= 8) {
+                buf[count++] = (byte) (value >>> i);
+            }
+        }
+
+        void writeFixedInt(int value) {
+            ensureCapacity(4);
+            for (int i = 24; i >= 0; i -= 8) {
+                buf[count++] = (byte) (value >>> i);
+            }
+        }
+
+        void writeBytes(byte[] bytes) {
+            writeBytes(bytes, 0, bytes.length);
+        }
+
+        void writeBytes(byte[] bytes, int off, int len) {
+            writeVarLong(len);
+            write(bytes, off, len);
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarLong(0);
+            } else {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeVarLong(bytes.length + 1L);
+                write(bytes, 0, bytes.length);
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, count);
+        }
+    }
+
+    /**
+     * Reads directly from the byte array with variable length encoding of numbers.
+     */
+    private static final class Reader {
+        private final byte[] data;
+        private final int limit;
+        private int pos;
+
+        Reader(byte[] data, int offset, int limit) {
+            this.data = data;
+            this.pos = offset;
+            this.limit = limit;
+        }
+
+        int read() throws EOFException {
+            if (pos >= limit) {
+                throw new EOFException();
+            }
+            return data[pos++] & 0xFF;
+        }
+
+        long readVarLong() throws IOException {
+            long answer = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = read();
+                answer |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return answer;
+                }
+            }
+            throw new StreamCorruptedException("Invalid variable length number");
+        }
+
+        long readZigZag() throws IOException {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        long readFixedLong() throws IOException {
+            long answer = 0;
+            for (int i = 0; i < 8; i++) {
+                answer = (answer << 8) | read();
+            }
+            return answer;
+        }
+
+        int readFixedInt() throws IOException {
+            int answer = 0;
+            for (int i = 0; i < 4; i++) {
+                answer = (answer << 8) | read();
+            }
+            return answer;
+        }
+
+        int readLength() throws IOException {
+            long length = readVarLong();
+            if (length < 0 || length > limit - pos) {
+                throw new EOFException();
+            }
+            return (int) length;
+        }
+
+        byte[] readBytes() throws IOException {
+            int length = readLength();
+            byte[] answer = Arrays.copyOfRange(data, pos, pos + length);
+            pos += length;
+            return answer;
+        }
+
+        String readString() throws IOException {
+            long length = readVarLong() - 1;
+            if (length < 0) {
+                return null;
+            }
+            if (length > limit - pos) {
+                throw new EOFException();
+            }
+            String answer = new String(data, pos, (int) length, StandardCharsets.UTF_8);
+            pos += (int) length;
+            return answer;
+        }
+    }
+}
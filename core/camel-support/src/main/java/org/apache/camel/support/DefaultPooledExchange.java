@@ -89,9 +89,10 @@ public final class DefaultPooledExchange extends AbstractExchange implements Poo
                 if (this.properties.size() > 50) {
                     // Too big, discard and recreate smaller map next time
                     this.properties = null;
+                    this.propertiesShared = false;
                 } else {
-                    // Small enough, just clear and reuse
-                    this.properties.clear();
+                    // Small enough, just clear and reuse (unless shared with a copy)
+                    clearProperties();
                 }
             }
             internalProperties.clear();
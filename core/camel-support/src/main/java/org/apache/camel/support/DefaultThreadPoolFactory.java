@@ -67,17 +67,25 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
     @Override
     public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory factory) {
         // Virtual threads: use the policy enum directly from the profile to avoid reverse-mapping
-        if (profile.getMaxQueueSize() > 0
-                && ThreadPoolFactoryType.from(factory, profile) == ThreadPoolFactoryType.VIRTUAL) {
-            ThreadPoolRejectedPolicy policy = profile.getRejectedPolicy();
-            if (policy == null) {
-                policy = ThreadPoolRejectedPolicy.CallerRuns;
+        if (ThreadPoolFactoryType.from(factory, profile) == ThreadPoolFactoryType.VIRTUAL) {
+            // the thread per task executor is unbounded, so bound it by the queue size, or when there is no
+            // queue (direct handover) then only by the max pool size when explicit enabled on the profile
+            int maxConcurrent = profile.getMaxQueueSize();
+            if (maxConcurrent <= 0 && Boolean.TRUE.equals(profile.getVirtualThreadsBoundedByMaxPoolSize())) {
+                validatePoolSize(profile.getPoolSize(), profile.getMaxPoolSize());
+                maxConcurrent = profile.getMaxPoolSize();
+            }
+            if (maxConcurrent > 0 && maxConcurrent < Integer.MAX_VALUE) {
+                ThreadPoolRejectedPolicy policy = profile.getRejectedPolicy();
+                if (policy == null) {
+                    policy = ThreadPoolRejectedPolicy.CallerRuns;
+                }
+                return new BoundedExecutorService(
+                        ThreadPoolFactoryType.newThreadPerTaskExecutor(factory),
+                        maxConcurrent,
+                        profile.getKeepAliveTime(), profile.getTimeUnit(),
+                        false, policy);
             }
-            return new BoundedExecutorService(
-                    ThreadPoolFactoryType.newThreadPerTaskExecutor(factory),
-                    profile.getMaxQueueSize(),
-                    profile.getKeepAliveTime(), profile.getTimeUnit(),
-                    false, policy);
         }
         // allow core thread timeout is default true if not configured
         boolean allow = profile.getAllowCoreThreadTimeOut() != null ? profile.getAllowCoreThreadTimeOut() : true;
@@ -96,6 +104,13 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
             boolean allowCoreThreadTimeOut,
             RejectedExecutionHandler rejectedExecutionHandler, ThreadFactory threadFactory)
             throws IllegalArgumentException {
+        validatePoolSize(corePoolSize, maxPoolSize);
+        return ThreadPoolFactoryType.from(threadFactory, corePoolSize, maxPoolSize, maxQueueSize).newThreadPool(
+                corePoolSize, maxPoolSize, keepAliveTime, timeUnit, maxQueueSize, allowCoreThreadTimeOut,
+                rejectedExecutionHandler, threadFactory);
+    }
+
+    private static void validatePoolSize(int corePoolSize, int maxPoolSize) {
         // the core pool size must be 0 or higher
         if (corePoolSize < 0) {
             throw new IllegalArgumentException("CorePoolSize must be >= 0, was " + corePoolSize);
@@ -106,9 +121,6 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
             throw new IllegalArgumentException(
                     "MaxPoolSize must be >= corePoolSize, was " + maxPoolSize + " >= " + corePoolSize);
         }
-        return ThreadPoolFactoryType.from(threadFactory, corePoolSize, maxPoolSize, maxQueueSize).newThreadPool(
-                corePoolSize, maxPoolSize, keepAliveTime, timeUnit, maxQueueSize, allowCoreThreadTimeOut,
-                rejectedExecutionHandler, threadFactory);
     }
 
     @Override
@@ -53,6 +53,7 @@ import org.apache.camel.StreamCache;
 import org.apache.camel.TypeConversionException;
 import org.apache.camel.VariableAware;
 import org.apache.camel.WrappedFile;
+import org.apache.camel.converter.stream.MappedFileRegion;
 import org.apache.camel.spi.NormalizedEndpointUri;
 import org.apache.camel.spi.UnitOfWork;
 import org.apache.camel.spi.VariableRepository;
@@ -1045,6 +1046,9 @@ public final class ExchangeHelper {
                 } catch (IOException e) {
                     throw new RuntimeCamelException(e);
                 }
+            } else if (value instanceof MappedFileRegion region) {
+                // read the region using mapped windows
+                scanner = new Scanner(region.newInputStream(), charset, delimiter);
             } else if (value instanceof InputStream inputStream) {
                 scanner = new Scanner(inputStream, charset, delimiter);
             } else if (value instanceof ReadableByteChannel readableByteChannel) {
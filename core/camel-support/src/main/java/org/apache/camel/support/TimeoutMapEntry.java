@@ -81,7 +81,7 @@ public class TimeoutMapEntry<K, V> implements Comparable<Object>, Map.Entry<K, V
     }
 
     public int compareTo(TimeoutMapEntry<K, V> that) {
-        long diff = this.expireTime - that.expireTime;
+        long diff = this.getExpireTime() - that.getExpireTime();
         if (diff > 0) {
             return 1;
         } else if (diff < 0) {
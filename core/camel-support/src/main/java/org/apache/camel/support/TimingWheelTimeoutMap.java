@@ -0,0 +1,392 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.TimeoutMap;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Comparator.comparing;
+import static org.apache.camel.TimeoutMap.Listener.Type.Evict;
+import static org.apache.camel.TimeoutMap.Listener.Type.Put;
+import static org.apache.camel.TimeoutMap.Listener.Type.Remove;
+
+/**
+ * A {@link TimeoutMap} that uses a hashed timing wheel to keep track of when the entries expire.
+ * <p/>
+ * The wheel is a ring of buckets where each bucket covers one tick (the purge poll time). An entry is placed in the
+ * bucket of the tick it expires in, and on every tick only the entries in the current bucket are inspected. Entries
+ * that expire in a later round of the wheel stay in the bucket until then. This means that put, get and remove are O(1)
+ * and does not require a global lock, and the cost of purging is proportional to the number of entries in the bucket,
+ * and not to the size of the map, as it is with {@link DefaultTimeoutMap}. This makes this implementation better suited
+ * for large correlation tables, such as for request/reply messaging with many pending replies.
+ * <p/>
+ * Entries are expired at the granularity of the tick, which means an entry may live up to one tick longer than its
+ * timeout.
+ * <p/>
+ * You must provide a {@link java.util.concurrent.ScheduledExecutorService} in the constructor which is used to schedule
+ * a background task which advances the wheel. You must also invoke {@link #start()} to startup the timeout map, before
+ * its ready to be used. And you must invoke {@link #stop()} to stop the map when no longer in use.
+ */
+public class TimingWheelTimeoutMap<K, V> extends ServiceSupport implements TimeoutMap<K, V> {
+
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    protected final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final ConcurrentMap<K, WheelEntry<K, V>> map = new ConcurrentHashMap<>();
+    private final Set<WheelEntry<K, V>>[] wheel;
+    private final int mask;
+    private final ScheduledExecutorService executor;
+    private volatile ScheduledFuture<?> future;
+    private final long purgePollTime;
+    // the last tick which has been (or is being) processed by the purge task
+    private volatile long lastTick;
+
+    private final List<Listener<K, V>> listeners = new ArrayList<>(2);
+
+    public TimingWheelTimeoutMap(ScheduledExecutorService executor) {
+        this(executor, 1000);
+    }
+
+    public TimingWheelTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
+        this(executor, requestMapPollTimeMillis, DEFAULT_WHEEL_SIZE);
+    }
+
+    @SuppressWarnings("unchecked")
+    public TimingWheelTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis, int wheelSize) {
+        ObjectHelper.notNull(executor, "ScheduledExecutorService");
+        if (requestMapPollTimeMillis <= 0) {
+            throw new IllegalArgumentException("RequestMapPollTimeMillis must be > 0, was " + requestMapPollTimeMillis);
+        }
+        if (wheelSize <= 0 || wheelSize > 1 << 30) {
+            throw new IllegalArgumentException("WheelSize must be between 1 and 2^30, was " + wheelSize);
+        }
+        this.executor = executor;
+        this.purgePollTime = requestMapPollTimeMillis;
+        // round up to power of two so the bucket can be found by masking the tick
+        int size = Integer.highestOneBit(wheelSize);
+        if (size < wheelSize) {
+            size <<= 1;
+        }
+        this.wheel = new Set[size];
+        for (int i = 0; i < size; i++) {
+            this.wheel[i] = ConcurrentHashMap.newKeySet();
+        }
+        this.mask = size - 1;
+    }
+
+    @Override
+    public V get(K key) {
+        WheelEntry<K, V> entry = map.get(key);
+        if (entry == null) {
+            return null;
+        }
+        updateExpireTime(entry);
+        schedule(entry);
+        return entry.getValue();
+    }
+
+    @Override
+    public V put(K key, V value, long timeoutMillis) {
+        WheelEntry<K, V> entry = new WheelEntry<>(key, value, timeoutMillis);
+        updateExpireTime(entry);
+        WheelEntry<K, V> result = map.put(key, entry);
+        try {
+            if (result != null) {
+                unschedule(result);
+            }
+            schedule(entry);
+            return unwrap(result);
+        } finally {
+            emitEvent(Put, key, value);
+        }
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value, long timeoutMillis) {
+        WheelEntry<K, V> entry = new WheelEntry<>(key, value, timeoutMillis);
+        updateExpireTime(entry);
+        WheelEntry<K, V> result = map.putIfAbsent(key, entry);
+        if (result != null) {
+            // the map was not changed
+            return result.getValue();
+        }
+        try {
+            schedule(entry);
+            return null;
+        } finally {
+            emitEvent(Put, key, value);
+        }
+    }
+
+    @Override
+    public V remove(K key) {
+        WheelEntry<K, V> entry = map.remove(key);
+        if (entry == null) {
+            return null;
+        }
+        try {
+            unschedule(entry);
+            return entry.getValue();
+        } finally {
+            emitEvent(Remove, key, entry.getValue());
+        }
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * The timer task which advances the wheel
+     */
+    private void purgeTask() {
+        // only purge if allowed
+        if (!isRunAllowed()) {
+            log.trace("Purge task not allowed to run");
+            return;
+        }
+
+        log.trace("Running purge task to see if any entries have been timed out");
+        try {
+            purge();
+        } catch (Exception t) {
+            // must catch and log exception otherwise the executor will now schedule next purgeTask
+            log.warn("Exception occurred during purge task. This exception will be ignored.", t);
+        }
+    }
+
+    /**
+     * Advances the wheel to the current time, and evicts the expired entries from the buckets of the ticks that have
+     * passed since last time.
+     */
+    protected void purge() {
+        log.trace("There are {} in the timeout map", map.size());
+
+        long now = currentTime();
+        long currentTick = now / purgePollTime;
+        long from = lastTick + 1;
+        if (currentTick - from >= wheel.length) {
+            // more than a full round has passed so all buckets must be visited, but only once
+            from = currentTick - wheel.length + 1;
+        }
+
+        List<WheelEntry<K, V>> expired = null;
+        for (long tick = from; tick <= currentTick; tick++) {
+            // must advance the tick before visiting the bucket, so concurrent scheduling goes to a later bucket
+            lastTick = tick;
+            int index = (int) (tick & mask);
+            Set<WheelEntry<K, V>> bucket = wheel[index];
+            if (bucket.isEmpty()) {
+                continue;
+            }
+            for (WheelEntry<K, V> entry : bucket) {
+                if (expire(entry, index, now)) {
+                    if (expired == null) {
+                        expired = new ArrayList<>();
+                    }
+                    log.debug("Evicting inactive entry ID: {}", entry);
+                    expired.add(entry);
+                }
+            }
+        }
+
+        if (expired != null) {
+            // sort according to the expired time so we got the first expired first
+            expired.sort(comparing(TimeoutMapEntry::getExpireTime));
+            for (WheelEntry<K, V> entry : expired) {
+                emitEvent(Evict, entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private boolean expire(WheelEntry<K, V> entry, int index, long now) {
+        synchronized (entry) {
+            if (entry.bucket != index) {
+                // the entry has been moved or removed meanwhile
+                return false;
+            }
+            if (map.get(entry.getKey()) != entry) {
+                // the entry was removed while its expire time was being updated
+                unschedule(entry);
+                return false;
+            }
+            if (entry.getExpireTime() < now) {
+                if (isValidForEviction(entry) && map.remove(entry.getKey(), entry)) {
+                    unschedule(entry);
+                    return true;
+                }
+            }
+            // not expired (yet) or expires in a later round of the wheel
+            schedule(entry);
+            return false;
+        }
+    }
+
+    /**
+     * Places the entry in the bucket of the tick it expires in.
+     */
+    private void schedule(WheelEntry<K, V> entry) {
+        synchronized (entry) {
+            long tick = (entry.getExpireTime() + purgePollTime - 1) / purgePollTime;
+            while (true) {
+                // cannot go back in time, as that bucket would not be visited until the next round
+                long last = lastTick;
+                if (tick <= last) {
+                    tick = last + 1;
+                }
+                int index = (int) (tick & mask);
+                if (entry.bucket != index) {
+                    if (entry.bucket >= 0) {
+                        wheel[entry.bucket].remove(entry);
+                    }
+                    entry.bucket = index;
+                    wheel[index].add(entry);
+                }
+                // if the purge task has advanced to the tick meanwhile it may have missed the entry, so try again
+                if (lastTick < tick) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void unschedule(WheelEntry<K, V> entry) {
+        synchronized (entry) {
+            if (entry.bucket >= 0) {
+                wheel[entry.bucket].remove(entry);
+                entry.bucket = -1;
+            }
+        }
+    }
+
+    // Properties
+    // -------------------------------------------------------------------------
+
+    public long getPurgePollTime() {
+        return purgePollTime;
+    }
+
+    public int getWheelSize() {
+        return wheel.length;
+    }
+
+    public ScheduledExecutorService getExecutor() {
+        return executor;
+    }
+
+    // Implementation methods
+    // -------------------------------------------------------------------------
+
+    private static <K, V> V unwrap(TimeoutMapEntry<K, V> entry) {
+        return entry == null ? null : entry.getValue();
+    }
+
+    @Override
+    public void addListener(Listener<K, V> listener) {
+        this.listeners.add(listener);
+    }
+
+    private void emitEvent(Listener.Type type, K key, V value) {
+        for (Listener<K, V> listener : listeners) {
+            try {
+                listener.timeoutMapEvent(type, key, value);
+            } catch (Exception t) {
+                // Ignore
+            }
+        }
+    }
+
+    protected void schedulePoll() {
+        future = executor.scheduleWithFixedDelay(this::purgeTask, 0, purgePollTime, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * A hook to allow derivations to avoid evicting the current entry
+     */
+    protected boolean isValidForEviction(TimeoutMapEntry<K, V> entry) {
+        return true;
+    }
+
+    protected void updateExpireTime(TimeoutMapEntry<K, V> entry) {
+        long now = currentTime();
+        entry.setExpireTime(entry.getTimeout() + now);
+    }
+
+    protected long currentTime() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (executor.isShutdown()) {
+            throw new IllegalStateException("The ScheduledExecutorService is shutdown");
+        }
+        schedulePoll();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (future != null) {
+            future.cancel(false);
+            future = null;
+        }
+        // clear map if we stop
+        map.clear();
+        for (Set<WheelEntry<K, V>> bucket : wheel) {
+            bucket.clear();
+        }
+    }
+
+    /**
+     * Entry which keeps track of the bucket it is scheduled in.
+     */
+    private static final class WheelEntry<K, V> extends TimeoutMapEntry<K, V> {
+
+        private volatile long expireTime;
+        // the bucket is guarded by the monitor of the entry
+        private int bucket = -1;
+
+        WheelEntry(K key, V value, long timeout) {
+            super(key, value, timeout);
+        }
+
+        @Override
+        public long getExpireTime() {
+            return expireTime;
+        }
+
+        @Override
+        public void setExpireTime(long expireTime) {
+            this.expireTime = expireTime;
+        }
+    }
+
+}
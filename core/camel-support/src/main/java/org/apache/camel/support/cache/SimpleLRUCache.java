@@ -18,7 +18,6 @@ package org.apache.camel.support.cache;
 
 import java.util.Collection;
 import java.util.Deque;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -27,23 +26,27 @@ import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.apache.camel.support.LRUCache;
+
 /**
  * {@code SimpleLRUCache} is a simple implementation of a Least Recently Used cache. The implementation doesn't accept
  * null values. Generally speaking, the parameters of all the public methods must have a value otherwise a
  * {@code NullPointerException} is thrown.
+ * <p/>
+ * The implementation is lock-free: reads only access the underlying {@link ConcurrentHashMap}, and writes record their
+ * change in a concurrent queue once the entry is visible in the map. A single thread at a time evicts the oldest
+ * changes when the cache is full, while the other threads continue reading and writing.
  *
  * @param <K> type of the key
  * @param <V> type of the value
  */
-public class SimpleLRUCache<K, V> implements Map<K, V> {
+public class SimpleLRUCache<K, V> implements LRUCache<K, V> {
 
     static final float DEFAULT_LOAD_FACTOR = 0.75f;
     /**
@@ -54,10 +57,6 @@ public class SimpleLRUCache<K, V> implements Map<K, V> {
      * The flag indicating that an eviction process is in progress.
      */
     private final AtomicBoolean eviction = new AtomicBoolean();
-    /**
-     * The lock to prevent the addition of changes during the swap of changes or the cache cleaning.
-     */
-    private final ReadWriteLock lock = new ReentrantReadWriteLock();
     /**
      * The maximum cache size.
      */
@@ -65,8 +64,7 @@ public class SimpleLRUCache<K, V> implements Map<K, V> {
     /**
      * The last changes recorded.
      */
-    private final AtomicReference<Deque<Entry<K, ValueHolder<V>>>> lastChanges
-            = new AtomicReference<>(new ConcurrentLinkedDeque<>());
+    private final Deque<Entry<K, ValueHolder<V>>> lastChanges = new ConcurrentLinkedDeque<>();
     /**
      * The total number of changes recorded.
      */
@@ -83,6 +81,12 @@ public class SimpleLRUCache<K, V> implements Map<K, V> {
      * The underlying map.
      */
     private final Map<K, ValueHolder<V>> delegate;
+    /**
+     * The usage statistics.
+     */
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
 
     public SimpleLRUCache(int initialCapacity, int maximumCacheSize, Consumer<V> evicted) {
         if (maximumCacheSize <= 0) {
@@ -94,7 +98,8 @@ public class SimpleLRUCache<K, V> implements Map<K, V> {
     }
 
     /**
-     * Adds a new change in case the mapping function doesn't return {@code null}.
+     * Adds a new change in case the mapping function doesn't return {@code null}. The change is only recorded when the
+     * operation completes, to ensure that the new value is visible in the map before it can be evicted.
      *
      * @param  context         the context of the write operation
      * @param  mappingFunction the mapping function to apply.
@@ -107,11 +112,18 @@ public class SimpleLRUCache<K, V> implements Map<K, V> {
             return null;
         }
         ValueHolder<V> holder = newValue(value);
-        lastChanges.get().add(Map.entry(key, holder));
-        totalChanges.incrementAndGet();
+        context.change = holder;
         return holder;
     }
 
+    /**
+     * Records the change made by a completed write operation.
+     */
+    private void recordChange(K key, ValueHolder<V> holder) {
+        lastChanges.add(Map.entry(key, holder));
+        totalChanges.incrementAndGet();
+    }
+
     @Override
     public int size() {
         return delegate.size();
@@ -138,7 +150,13 @@ public class SimpleLRUCache<K, V> implements Map<K, V> {
 
     @Override
     public V get(Object key) {
-        return extractValue(delegate.get(key));
+        ValueHolder<V> holder = delegate.get(key);
+        if (holder == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return extractValue(holder);
     }
 
     @SuppressWarnings("unchecked")
@@ -209,7 +227,13 @@ public class SimpleLRUCache<K, V> implements Map<K, V> {
             throw new NullPointerException();
         }
         try (OperationContext<K, V> context = new OperationContext<>(this, key)) {
-            return extractValue(delegate.computeIfAbsent(key, k -> addChange(context, mappingFunction)));
+            V answer = extractValue(delegate.computeIfAbsent(key, k -> addChange(context, mappingFunction)));
+            if (answer != null && context.change == null) {
+                hits.increment();
+            } else {
+                misses.increment();
+            }
+            return answer;
         }
     }
 
@@ -295,13 +319,10 @@ public class SimpleLRUCache<K, V> implements Map<K, V> {
 
     @Override
     public void clear() {
-        lock.writeLock().lock();
-        try {
-            lastChanges.getAndSet(new ConcurrentLinkedDeque<>());
-            totalChanges.set(0);
-            delegate.clear();
-        } finally {
-            lock.writeLock().unlock();
+        delegate.clear();
+        // the changes of concurrent writes may remain, and are discarded when they are found to be stale
+        while (lastChanges.poll() != null) {
+            totalChanges.decrementAndGet();
         }
     }
 
@@ -338,6 +359,38 @@ public class SimpleLRUCache<K, V> implements Map<K, V> {
                 .collect(Collectors.toUnmodifiableSet());
     }
 
+    @Override
+    public void cleanUp() {
+        callEvictionIfNeeded();
+    }
+
+    @Override
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evicted.reset();
+    }
+
+    @Override
+    public long getEvicted() {
+        return evicted.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public int getMaxCacheSize() {
+        return maximumCacheSize;
+    }
+
     /**
      * @return the size of the changes.
      */
@@ -374,63 +427,68 @@ public class SimpleLRUCache<K, V> implements Map<K, V> {
     }
 
     /**
-     * @return the oldest existing change.
+     * @return the oldest existing change or {@code null} if there are no changes.
      */
     private Entry<K, ValueHolder<V>> nextOldestChange() {
-        Entry<K, ValueHolder<V>> oldestChange = lastChanges.get().poll();
-        totalChanges.decrementAndGet();
+        Entry<K, ValueHolder<V>> oldestChange = lastChanges.poll();
+        if (oldestChange != null) {
+            totalChanges.decrementAndGet();
+        }
         return oldestChange;
     }
 
     /**
-     * Removes duplicates and entries that no longer exist from the queue of changes if the queue is full.
+     * Removes the changes that are stale, which are the duplicates and the entries that no longer exist, from the queue
+     * of changes if the queue is full. A change is stale if its value is not the current value of the key, as only the
+     * latest change of a key holds the current value.
      */
     private void compressChangesIfNeeded() {
         if (isQueueFull()) {
-            Deque<Entry<K, ValueHolder<V>>> newChanges = new ConcurrentLinkedDeque<>();
-            Deque<Entry<K, ValueHolder<V>>> currentChanges = lastChanges.getAndSet(newChanges);
-            Set<K> keys = new HashSet<>();
-            Entry<K, ValueHolder<V>> entry;
-            while ((entry = currentChanges.pollLast()) != null) {
-                K key = entry.getKey();
-                if (delegate.containsKey(key) && keys.add(key)) {
-                    newChanges.addFirst(entry);
+            lastChanges.removeIf(entry -> {
+                if (entry.getValue().equals(delegate.get(entry.getKey()))) {
+                    return false;
                 }
-            }
-            totalChanges.set(keys.size());
+                totalChanges.decrementAndGet();
+                return true;
+            });
         }
     }
 
     /**
      * Checks whether an eviction is needed and no eviction process is yet in progress, and if so, it calls the eviction
-     * process.
+     * process. The check is repeated after the eviction as changes recorded meanwhile by other threads may have failed
+     * to trigger an eviction while this one was in progress.
      */
     private void callEvictionIfNeeded() {
-        if (evictionNeeded() && eviction.compareAndSet(false, true)) {
+        while (evictionNeeded() && eviction.compareAndSet(false, true)) {
             try {
                 callEviction();
             } finally {
                 eviction.set(false);
             }
+            if (!isQueueFull() && (!isCacheFull() || lastChanges.isEmpty())) {
+                // nothing more can be evicted for now, the pending writes will call the eviction once their changes
+                // are recorded
+                return;
+            }
         }
     }
 
     /**
-     * Evicts the oldest entries from the cache until the cache is not full anymore. This process is blocking to ensure
-     * that no changes are added to the cache while the eviction is in progress, to prevent infinite eviction.
+     * Evicts the oldest entries from the cache until the cache is not full anymore or there are no more changes to
+     * process as they are not yet recorded by concurrent writes.
      */
     private void callEviction() {
-        lock.writeLock().lock();
-        try {
-            compressChangesIfNeeded();
-            while (isCacheFull()) {
-                Entry<K, ValueHolder<V>> oldest = nextOldestChange();
-                if (delegate.remove(oldest.getKey(), oldest.getValue())) {
-                    evict.accept(oldest.getValue().get());
-                }
+        compressChangesIfNeeded();
+        while (isCacheFull()) {
+            Entry<K, ValueHolder<V>> oldest = nextOldestChange();
+            if (oldest == null) {
+                break;
+            }
+            if (delegate.remove(oldest.getKey(), oldest.getValue())) {
+                evicted.increment();
+                evict.accept(oldest.getValue().get());
             }
-        } finally {
-            lock.writeLock().unlock();
         }
     }
 
@@ -450,6 +508,10 @@ public class SimpleLRUCache<K, V> implements Map<K, V> {
          * The result of the corresponding operation when applicable.
          */
         V result;
+        /**
+         * The new value added by the operation if any.
+         */
+        ValueHolder<V> change;
         /**
          * The key against which the operation is made.
          */
@@ -462,12 +524,13 @@ public class SimpleLRUCache<K, V> implements Map<K, V> {
         OperationContext(SimpleLRUCache<K, V> cache, K key) {
             this.cache = cache;
             this.key = key;
-            cache.lock.readLock().lock();
         }
 
         @Override
         public void close() {
-            cache.lock.readLock().unlock();
+            if (change != null) {
+                cache.recordChange(key, change);
+            }
             cache.callEvictionIfNeeded();
         }
     }
@@ -0,0 +1,408 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.Configurer;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.spi.Metadata;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * An {@link IdempotentRepository} which wraps another (usually remote) {@link IdempotentRepository} with an in-memory
+ * Bloom filter of the keys that has been added, so checking a key that has definitely not been seen before does not
+ * need a lookup in the wrapped repository.
+ * <p/>
+ * Adding keys is always done in the wrapped repository. The filter grows (as a scalable Bloom filter) when more keys
+ * than the expected insertions are added, while keeping the false positive probability. Removing keys does not remove
+ * them from the filter, which means they can cause false positives (that are looked up in the wrapped repository).
+ * <p/>
+ * On startup, the filter is rebuilt with the keys from the wrapped repository, which is supported out of the box for
+ * {@link MemoryIdempotentRepository} and {@link FileIdempotentRepository}. For other repositories then configure a
+ * {@link #setKeysLoader(Supplier) keys loader}, or turn off rebuilding if the wrapped repository is known to be empty.
+ * <p/>
+ * <b>Important:</b> All keys must be added through this repository, as keys added directly to the wrapped repository
+ * (such as by another node sharing the same database) are not known by the filter.
+ */
+@Metadata(label = "bean",
+          description = "An IdempotentRepository which uses a Bloom filter to avoid lookups in the wrapped repository"
+                        + " for keys that has not been added before.",
+          annotations = { "interfaceName=org.apache.camel.spi.IdempotentRepository" })
+@Configurer(metadataOnly = true)
+@ManagedResource(description = "Bloom filter idempotent repository")
+public class BloomFilterIdempotentRepository extends ServiceSupport implements IdempotentRepository {
+
+    @Metadata(description = "The wrapped idempotent repository.", required = true)
+    private IdempotentRepository repository;
+    @Metadata(description = "The expected number of keys, which is used for sizing the Bloom filter. If more keys are"
+                            + " added then the filter grows.",
+              defaultValue = "100000")
+    private int expectedInsertions = 100000;
+    @Metadata(description = "The desired false positive probability of the Bloom filter.", defaultValue = "0.01")
+    private double falsePositiveProbability = 0.01;
+    @Metadata(description = "Whether to rebuild the Bloom filter with the keys from the wrapped repository on startup.",
+              defaultValue = "true")
+    private boolean rebuildOnStart = true;
+    private Supplier<Iterable<String>> keysLoader;
+
+    private final Lock filterLock = new ReentrantLock();
+    // the filters are replaced as a whole (under the filter lock) so readers see a consistent snapshot
+    private volatile BloomFilter[] filters = new BloomFilter[0];
+    private final LongAdder negatives = new LongAdder();
+    private final LongAdder positives = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    public BloomFilterIdempotentRepository() {
+    }
+
+    public BloomFilterIdempotentRepository(IdempotentRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Creates a new Bloom filter fronted repository.
+     *
+     * @param repository         the wrapped repository
+     * @param expectedInsertions the expected number of keys
+     */
+    public static IdempotentRepository bloomFilterIdempotentRepository(
+            IdempotentRepository repository, int expectedInsertions) {
+        BloomFilterIdempotentRepository answer = new BloomFilterIdempotentRepository(repository);
+        answer.setExpectedInsertions(expectedInsertions);
+        return answer;
+    }
+
+    public IdempotentRepository getRepository() {
+        return repository;
+    }
+
+    public void setRepository(IdempotentRepository repository) {
+        this.repository = repository;
+    }
+
+    @ManagedAttribute(description = "The expected number of keys")
+    public int getExpectedInsertions() {
+        return expectedInsertions;
+    }
+
+    public void setExpectedInsertions(int expectedInsertions) {
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    @ManagedAttribute(description = "The desired false positive probability")
+    public double getFalsePositiveProbability() {
+        return falsePositiveProbability;
+    }
+
+    public void setFalsePositiveProbability(double falsePositiveProbability) {
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    public boolean isRebuildOnStart() {
+        return rebuildOnStart;
+    }
+
+    public void setRebuildOnStart(boolean rebuildOnStart) {
+        this.rebuildOnStart = rebuildOnStart;
+    }
+
+    public Supplier<Iterable<String>> getKeysLoader() {
+        return keysLoader;
+    }
+
+    /**
+     * To load the keys from the wrapped repository, which are added to the Bloom filter on startup.
+     */
+    public void setKeysLoader(Supplier<Iterable<String>> keysLoader) {
+        this.keysLoader = keysLoader;
+    }
+
+    @Override
+    public boolean add(String key) {
+        // put the key in the filter first, so a concurrent contains cannot skip the lookup of an added key
+        put(key);
+        return repository.add(key);
+    }
+
+    @Override
+    public boolean add(Exchange exchange, String key) {
+        put(key);
+        return repository.add(exchange, key);
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        if (!mightContain(key)) {
+            negatives.increment();
+            return false;
+        }
+        return onPositive(repository.contains(key));
+    }
+
+    @Override
+    public boolean contains(Exchange exchange, String key) {
+        if (!mightContain(key)) {
+            negatives.increment();
+            return false;
+        }
+        return onPositive(repository.contains(exchange, key));
+    }
+
+    @Override
+    public boolean remove(String key) {
+        return repository.remove(key);
+    }
+
+    @Override
+    public boolean remove(Exchange exchange, String key) {
+        return repository.remove(exchange, key);
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        return repository.confirm(key);
+    }
+
+    @Override
+    public boolean confirm(Exchange exchange, String key) {
+        return repository.confirm(exchange, key);
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store")
+    public void clear() {
+        repository.clear();
+        resetFilter();
+    }
+
+    @ManagedAttribute(description = "Number of lookups skipped as the key was not in the Bloom filter")
+    public long getFilterNegatives() {
+        return negatives.sum();
+    }
+
+    @ManagedAttribute(description = "Number of lookups done as the key might be in the Bloom filter")
+    public long getFilterPositives() {
+        return positives.sum();
+    }
+
+    @ManagedAttribute(description = "Number of lookups done where the key was not in the wrapped repository")
+    public long getFalsePositives() {
+        return falsePositives.sum();
+    }
+
+    @ManagedAttribute(description = "The observed false positive rate of the Bloom filter")
+    public double getFalsePositiveRate() {
+        long lookups = negatives.sum() + falsePositives.sum();
+        return lookups == 0 ? 0 : (double) falsePositives.sum() / lookups;
+    }
+
+    @ManagedAttribute(description = "Number of keys added to the Bloom filter")
+    public long getFilterSize() {
+        long answer = 0;
+        for (BloomFilter filter : filters) {
+            answer += filter.size.sum();
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Number of Bloom filters, which grows when more keys than expected are added")
+    public int getFilterCount() {
+        return filters.length;
+    }
+
+    @ManagedOperation(description = "Reset the statistics")
+    public void resetStatistics() {
+        negatives.reset();
+        positives.reset();
+        falsePositives.reset();
+    }
+
+    private boolean onPositive(boolean contains) {
+        positives.increment();
+        if (!contains) {
+            falsePositives.increment();
+        }
+        return contains;
+    }
+
+    private boolean mightContain(String key) {
+        BloomFilter[] snapshot = filters;
+        if (snapshot.length == 0) {
+            // not started so look up the key in the wrapped repository
+            return true;
+        }
+        long hash = hash(key);
+        for (BloomFilter filter : snapshot) {
+            if (filter.mightContain(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void put(String key) {
+        BloomFilter[] snapshot = filters;
+        if (snapshot.length == 0) {
+            // not started, and the filter is rebuilt from the wrapped repository when starting
+            return;
+        }
+        long hash = hash(key);
+        BloomFilter filter = snapshot[snapshot.length - 1];
+        if (filter.size.sum() >= filter.capacity) {
+            filterLock.lock();
+            try {
+                snapshot = filters;
+                if (snapshot.length == 0) {
+                    return;
+                }
+                filter = snapshot[snapshot.length - 1];
+                if (filter.size.sum() >= filter.capacity) {
+                    // grow with a filter of double capacity and half the false positive probability, which keeps the
+                    // overall false positive probability bounded
+                    filter = new BloomFilter(filter.capacity * 2, filter.probability / 2);
+                    snapshot = Arrays.copyOf(snapshot, snapshot.length + 1);
+                    snapshot[snapshot.length - 1] = filter;
+                    filters = snapshot;
+                }
+            } finally {
+                filterLock.unlock();
+            }
+        }
+        filter.put(hash);
+    }
+
+    private void resetFilter() {
+        filterLock.lock();
+        try {
+            // the first filter has half the probability as the probabilities of the growing filters adds up to double
+            filters = new BloomFilter[] { new BloomFilter(Math.max(1, expectedInsertions), falsePositiveProbability / 2) };
+        } finally {
+            filterLock.unlock();
+        }
+    }
+
+    private static long hash(String key) {
+        // 64-bit FNV-1a with a final mix, which gives the two hashes used for generating the bit positions
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(repository, "repository", this);
+        ServiceHelper.startService(repository);
+        resetFilter();
+
+        if (rebuildOnStart) {
+            Iterable<String> keys;
+            if (keysLoader != null) {
+                keys = keysLoader.get();
+            } else if (repository instanceof MemoryIdempotentRepository memory) {
+                keys = memory.getCache().keySet();
+            } else if (repository instanceof FileIdempotentRepository file) {
+                // the cache only holds the most recent keys, so read all the keys from the file store
+                file.readStore(this::put);
+                keys = List.of();
+            } else {
+                throw new IllegalArgumentException(
+                        "Cannot rebuild the Bloom filter from repository: " + repository
+                                                   + ". Configure a keysLoader, or set rebuildOnStart=false.");
+            }
+            for (String key : keys) {
+                put(key);
+            }
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ServiceHelper.stopService(repository);
+        filterLock.lock();
+        try {
+            filters = new BloomFilter[0];
+        } finally {
+            filterLock.unlock();
+        }
+    }
+
+    private static final class BloomFilter {
+        private final long capacity;
+        private final double probability;
+        private final AtomicLongArray bits;
+        private final long numBits;
+        private final int numHashes;
+        private final LongAdder size = new LongAdder();
+
+        BloomFilter(long capacity, double probability) {
+            this.capacity = capacity;
+            this.probability = probability;
+            long m = (long) Math.ceil(-capacity * Math.log(probability) / (Math.log(2) * Math.log(2)));
+            int words = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (m + 63) / 64));
+            this.bits = new AtomicLongArray(words);
+            this.numBits = words * 64L;
+            this.numHashes = (int) Math.max(1, Math.round((double) numBits / capacity * Math.log(2)));
+        }
+
+        boolean mightContain(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= numHashes; i++) {
+                long bit = index(h1 + i * h2);
+                if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void put(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= numHashes; i++) {
+                long bit = index(h1 + i * h2);
+                long mask = 1L << bit;
+                bits.getAndAccumulate((int) (bit >>> 6), mask, (a, b) -> a | b);
+            }
+            size.increment();
+        }
+
+        private long index(int combined) {
+            return (combined & Integer.MAX_VALUE) % numBits;
+        }
+    }
+}
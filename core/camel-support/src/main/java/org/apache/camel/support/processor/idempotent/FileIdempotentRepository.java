@@ -25,6 +25,7 @@ import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.api.management.ManagedAttribute;
@@ -343,6 +344,29 @@ public class FileIdempotentRepository extends ServiceSupport implements Idempote
         return false;
     }
 
+    /**
+     * Reads all the keys in the file store, which can be more than the keys in the 1st level cache
+     *
+     * @param consumer the consumer of the keys
+     */
+    void readStore(Consumer<String> consumer) {
+        cacheAndStoreLock.lock();
+        try {
+            if (fileStore == null || !fileStore.exists()) {
+                return;
+            }
+            try (Scanner scanner = new Scanner(fileStore, null, STORE_DELIMITER)) {
+                while (scanner.hasNext()) {
+                    consumer.accept(scanner.next());
+                }
+            } catch (IOException e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            }
+        } finally {
+            cacheAndStoreLock.unlock();
+        }
+    }
+
     /**
      * Appends the given key to the file store
      *
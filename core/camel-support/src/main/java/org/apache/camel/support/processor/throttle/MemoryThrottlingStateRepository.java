@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.throttle;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ThrottlingStateRepository;
+import org.apache.camel.support.service.ServiceSupport;
+
+/**
+ * A memory based implementation of {@link ThrottlingStateRepository}, which can be used to share the rate limit between
+ * throttlers in the same JVM, such as several routes or Camel contexts calling the same downstream service.
+ */
+@ManagedResource(description = "Memory based throttling state repository")
+public class MemoryThrottlingStateRepository extends ServiceSupport implements ThrottlingStateRepository {
+
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+    private volatile long nextPurge;
+
+    @Override
+    public int acquirePermits(String key, int maxRequests, long timePeriodMillis, int permits) {
+        long now = currentTimeMillis();
+        if (now >= nextPurge) {
+            // remove the windows of keys that have not been used for a while, such as dynamic correlation keys
+            nextPurge = now + timePeriodMillis;
+            purgeExpiredWindows(now);
+        }
+
+        long current = now / timePeriodMillis;
+        int[] granted = new int[1];
+        windows.compute(key, (k, w) -> {
+            if (w == null || w.window != current) {
+                w = new Window(current, (current + 1) * timePeriodMillis);
+            }
+            granted[0] = Math.max(0, Math.min(permits, maxRequests - w.used));
+            w.used += granted[0];
+            return w;
+        });
+        return granted[0];
+    }
+
+    private void purgeExpiredWindows(long now) {
+        for (String key : windows.keySet()) {
+            windows.computeIfPresent(key, (k, w) -> w.expires <= now ? null : w);
+        }
+    }
+
+    /**
+     * The current time used to find the time window the permits are counted in.
+     */
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    @ManagedAttribute(description = "Number of keys in the repository")
+    public int getSize() {
+        return windows.size();
+    }
+
+    @ManagedOperation(description = "Clear the repository")
+    public void clear() {
+        windows.clear();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        windows.clear();
+    }
+
+    private static final class Window {
+        private final long window;
+        // the time (millis) the window ends
+        private final long expires;
+        private int used;
+
+        private Window(long window, long expires) {
+            this.window = window;
+            this.expires = expires;
+        }
+    }
+}
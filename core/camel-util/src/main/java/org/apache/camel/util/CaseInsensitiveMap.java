@@ -36,7 +36,8 @@ import java.util.Set;
  * <p/>
  * The map uses a custom hash table with case-insensitive hashing and comparison, providing O(1) for {@code get},
  * {@code put}, {@code containsKey} and {@code remove} operations without allocating temporary strings. Entries are
- * stored in insertion order.
+ * stored in insertion order together with their pre-computed hash, so resizing, removing and copying from another
+ * {@link CaseInsensitiveMap} do not hash the keys again.
  * <p/>
  * This map is <b>not</b> designed to be thread safe as concurrent access to it is not supposed to be performed by the
  * Camel routing engine.
@@ -102,6 +103,7 @@ public class CaseInsensitiveMap extends AbstractMap<String, Object> implements S
     private transient int[] table;
     private transient String[] keys;
     private transient Object[] values;
+    private transient int[] hashes;
     private transient int[] chainNext;
 
     private transient int size;
@@ -113,8 +115,28 @@ public class CaseInsensitiveMap extends AbstractMap<String, Object> implements S
     }
 
     public CaseInsensitiveMap(Map<? extends String, ?> map) {
-        init(tableSizeFor(Math.max((int) (map.size() / LOAD_FACTOR) + 1, DEFAULT_CAPACITY)));
-        putAll(map);
+        if (map instanceof CaseInsensitiveMap other) {
+            copyFrom(other);
+        } else {
+            init(tableSizeFor(Math.max((int) (map.size() / LOAD_FACTOR) + 1, DEFAULT_CAPACITY)));
+            putAll(map);
+        }
+    }
+
+    private void copyFrom(CaseInsensitiveMap other) {
+        // the keys are already hashed and de-duplicated so copy the table as-is
+        table = other.table.clone();
+        keys = other.keys.clone();
+        values = other.values.clone();
+        hashes = other.hashes.clone();
+        chainNext = other.chainNext.clone();
+        size = other.size;
+        usedSlots = other.usedSlots;
+        threshold = other.threshold;
+        if (size < usedSlots) {
+            // compact the slots of removed entries
+            resize(table.length);
+        }
     }
 
     private void init(int tableCapacity) {
@@ -123,6 +145,7 @@ public class CaseInsensitiveMap extends AbstractMap<String, Object> implements S
         int entryCapacity = (int) (tableCapacity * LOAD_FACTOR) + 1;
         keys = new String[entryCapacity];
         values = new Object[entryCapacity];
+        hashes = new int[entryCapacity];
         chainNext = new int[entryCapacity];
         size = 0;
         usedSlots = 0;
@@ -155,20 +178,13 @@ public class CaseInsensitiveMap extends AbstractMap<String, Object> implements S
     }
 
     private int findIndex(String key) {
-        int idx = table[caseInsensitiveHash(key) & (table.length - 1)];
-        while (idx != EMPTY) {
-            if (keys[idx].equalsIgnoreCase(key)) {
-                return idx;
-            }
-            idx = chainNext[idx];
-        }
-        return EMPTY;
+        return findIndex(key, caseInsensitiveHash(key));
     }
 
     private int findIndex(String key, int hash) {
         int idx = table[hash & (table.length - 1)];
         while (idx != EMPTY) {
-            if (keys[idx].equalsIgnoreCase(key)) {
+            if (hashes[idx] == hash && keys[idx].equalsIgnoreCase(key)) {
                 return idx;
             }
             idx = chainNext[idx];
@@ -215,11 +231,13 @@ public class CaseInsensitiveMap extends AbstractMap<String, Object> implements S
             int newCap = keys.length + (keys.length >> 1);
             keys = Arrays.copyOf(keys, newCap);
             values = Arrays.copyOf(values, newCap);
+            hashes = Arrays.copyOf(hashes, newCap);
             chainNext = Arrays.copyOf(chainNext, newCap);
         }
         int slot = usedSlots++;
         keys[slot] = key;
         values[slot] = value;
+        hashes[slot] = hash;
         int b = hash & (table.length - 1);
         chainNext[slot] = table[b];
         table[b] = slot;
@@ -234,7 +252,7 @@ public class CaseInsensitiveMap extends AbstractMap<String, Object> implements S
         int prev = EMPTY;
         int cur = table[b];
         while (cur != EMPTY) {
-            if (keys[cur].equalsIgnoreCase((String) key)) {
+            if (hashes[cur] == hash && keys[cur].equalsIgnoreCase((String) key)) {
                 Object old = values[cur];
                 if (prev == EMPTY) {
                     table[b] = chainNext[cur];
@@ -253,8 +271,7 @@ public class CaseInsensitiveMap extends AbstractMap<String, Object> implements S
     }
 
     private void removeByIndex(int idx) {
-        String key = keys[idx];
-        int b = caseInsensitiveHash(key) & (table.length - 1);
+        int b = hashes[idx] & (table.length - 1);
         int prev = EMPTY;
         int cur = table[b];
         while (cur != EMPTY) {
@@ -280,6 +297,7 @@ public class CaseInsensitiveMap extends AbstractMap<String, Object> implements S
         int entryCap = Math.max((int) (newTableCapacity * LOAD_FACTOR) + 1, size + 1);
         String[] newKeys = new String[entryCap];
         Object[] newValues = new Object[entryCap];
+        int[] newHashes = new int[entryCap];
         int[] newChainNext = new int[entryCap];
 
         int newSlot = 0;
@@ -287,7 +305,8 @@ public class CaseInsensitiveMap extends AbstractMap<String, Object> implements S
             if (keys[i] != null) {
                 newKeys[newSlot] = keys[i];
                 newValues[newSlot] = values[i];
-                int b = caseInsensitiveHash(keys[i]) & (newTableCapacity - 1);
+                newHashes[newSlot] = hashes[i];
+                int b = hashes[i] & (newTableCapacity - 1);
                 newChainNext[newSlot] = newTable[b];
                 newTable[b] = newSlot;
                 newSlot++;
@@ -297,6 +316,7 @@ public class CaseInsensitiveMap extends AbstractMap<String, Object> implements S
         table = newTable;
         keys = newKeys;
         values = newValues;
+        hashes = newHashes;
         chainNext = newChainNext;
         usedSlots = newSlot;
         threshold = (int) (newTableCapacity * LOAD_FACTOR);
@@ -91,6 +91,7 @@ public class ModelParser extends BaseParser {
                 case "executorService": def.setExecutorService(val); yield true;
                 case "forceCompletionOnStop": def.setForceCompletionOnStop(val); yield true;
                 case "ignoreInvalidCorrelationKeys": def.setIgnoreInvalidCorrelationKeys(val); yield true;
+                case "lockStripeCount": def.setLockStripeCount(val); yield true;
                 case "optimisticLocking": def.setOptimisticLocking(val); yield true;
                 case "optimisticLockingSyncRetry": def.setOptimisticLockingSyncRetry(val); yield true;
                 case "parallelProcessing": def.setParallelProcessing(val); yield true;
@@ -557,6 +558,7 @@ public class ModelParser extends BaseParser {
                 case "aggregationStrategyMethodAllowNull": def.setAggregationStrategyMethodAllowNull(val); yield true;
                 case "aggregationStrategyMethodName": def.setAggregationStrategyMethodName(val); yield true;
                 case "executorService": def.setExecutorService(val); yield true;
+                case "maxOutstanding": def.setMaxOutstanding(val); yield true;
                 case "onPrepare": def.setOnPrepare(val); yield true;
                 case "parallelAggregate": def.setParallelAggregate(val); yield true;
                 case "parallelProcessing": def.setParallelProcessing(val); yield true;
@@ -565,6 +567,7 @@ public class ModelParser extends BaseParser {
                 case "streaming": def.setStreaming(val); yield true;
                 case "synchronous": def.setSynchronous(val); yield true;
                 case "timeout": def.setTimeout(val); yield true;
+                case "treeAggregation": def.setTreeAggregation(val); yield true;
                 default: yield processorDefinitionAttributeHandler().accept(def, key, val);
             }, outputDefinitionElementHandler(), noValueHandler());
     }
@@ -1122,6 +1125,8 @@ public class ModelParser extends BaseParser {
     protected SortDefinition doParseSortDefinition() throws IOException, XmlPullParserException {
         return doParse(new SortDefinition(), (def, key, val) -> switch (key) {
                 case "comparator": def.setComparator(val); yield true;
+                case "maxInMemorySize": def.setMaxInMemorySize(val); yield true;
+                case "parallelThreshold": def.setParallelThreshold(val); yield true;
                 default: yield processorDefinitionAttributeHandler().accept(def, key, val);
             }, expressionNodeElementHandler(), noValueHandler());
     }
@@ -1132,6 +1137,7 @@ public class ModelParser extends BaseParser {
                 case "aggregationStrategyMethodName": def.setAggregationStrategyMethodName(val); yield true;
                 case "delimiter": def.setDelimiter(val); yield true;
                 case "executorService": def.setExecutorService(val); yield true;
+                case "maxOutstanding": def.setMaxOutstanding(val); yield true;
                 case "onPrepare": def.setOnPrepare(val); yield true;
                 case "parallelAggregate": def.setParallelAggregate(val); yield true;
                 case "parallelProcessing": def.setParallelProcessing(val); yield true;
@@ -1140,6 +1146,7 @@ public class ModelParser extends BaseParser {
                 case "streaming": def.setStreaming(val); yield true;
                 case "synchronous": def.setSynchronous(val); yield true;
                 case "timeout": def.setTimeout(val); yield true;
+                case "treeAggregation": def.setTreeAggregation(val); yield true;
                 default: yield processorDefinitionAttributeHandler().accept(def, key, val);
             }, outputExpressionNodeElementHandler(), noValueHandler());
     }
@@ -1231,6 +1238,7 @@ public class ModelParser extends BaseParser {
                 case "executorService": def.setExecutorService(val); yield true;
                 case "mode": def.setMode(val); yield true;
                 case "rejectExecution": def.setRejectExecution(val); yield true;
+                case "throttlingStateRepository": def.setThrottlingStateRepository(val); yield true;
                 case "timePeriodMillis": def.setTimePeriodMillis(val); yield true;
                 default: yield processorDefinitionAttributeHandler().accept(def, key, val);
             }, (def, key) -> switch (key) {
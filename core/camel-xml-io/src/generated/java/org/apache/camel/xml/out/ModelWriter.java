@@ -775,6 +775,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("parallelProcessing", def.getParallelProcessing(), null);
         doWriteAttribute("optimisticLocking", def.getOptimisticLocking(), null);
         doWriteAttribute("optimisticLockingSyncRetry", def.getOptimisticLockingSyncRetry(), "false");
+        doWriteAttribute("lockStripeCount", def.getLockStripeCount(), null);
         doWriteAttribute("executorService", def.getExecutorService(), null);
         doWriteAttribute("timeoutCheckerExecutorService", def.getTimeoutCheckerExecutorService(), null);
         doWriteAttribute("aggregateController", def.getAggregateController(), null);
@@ -1222,6 +1223,8 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("executorService", def.getExecutorService(), null);
         doWriteAttribute("onPrepare", def.getOnPrepare(), null);
         doWriteAttribute("shareUnitOfWork", def.getShareUnitOfWork(), null);
+        doWriteAttribute("treeAggregation", def.getTreeAggregation(), null);
+        doWriteAttribute("maxOutstanding", def.getMaxOutstanding(), null);
         doWriteList(null, null, def.getOutputs(), this::doWriteProcessorDefinitionRef);
         endElement(name);
     }
@@ -1737,6 +1740,8 @@ public class ModelWriter extends BaseWriter {
         startElement(name);
         doWriteProcessorDefinitionAttributes(def);
         doWriteAttribute("comparator", def.getComparator(), null);
+        doWriteAttribute("parallelThreshold", def.getParallelThreshold(), null);
+        doWriteAttribute("maxInMemorySize", def.getMaxInMemorySize(), null);
         doWriteExpressionNodeElements(def);
         endElement(name);
     }
@@ -1756,6 +1761,8 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("executorService", def.getExecutorService(), null);
         doWriteAttribute("onPrepare", def.getOnPrepare(), null);
         doWriteAttribute("shareUnitOfWork", def.getShareUnitOfWork(), null);
+        doWriteAttribute("treeAggregation", def.getTreeAggregation(), null);
+        doWriteAttribute("maxOutstanding", def.getMaxOutstanding(), null);
         doWriteOutputExpressionNodeElements(def);
         endElement(name);
     }
@@ -1829,6 +1836,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("callerRunsWhenRejected", def.getCallerRunsWhenRejected(), "true");
         doWriteAttribute("rejectExecution", def.getRejectExecution(), null);
         doWriteAttribute("timePeriodMillis", def.getTimePeriodMillis(), "1000");
+        doWriteAttribute("throttlingStateRepository", def.getThrottlingStateRepository(), null);
         doWriteExpressionNodeElements(def);
         doWriteElement("correlationExpression", def.getCorrelationExpression(), this::doWriteExpressionSubElementDefinition);
         endElement(name);
@@ -768,6 +768,7 @@ public class YamlModelWriter extends YamlModelWriterSupport {
         doWriteAttribute(jo, "parallelProcessing", def.getParallelProcessing(), null);
         doWriteAttribute(jo, "optimisticLocking", def.getOptimisticLocking(), null);
         doWriteAttribute(jo, "optimisticLockingSyncRetry", def.getOptimisticLockingSyncRetry(), "false");
+        doWriteAttribute(jo, "lockStripeCount", def.getLockStripeCount(), null);
         doWriteAttribute(jo, "executorService", def.getExecutorService(), null);
         doWriteAttribute(jo, "timeoutCheckerExecutorService", def.getTimeoutCheckerExecutorService(), null);
         doWriteAttribute(jo, "aggregateController", def.getAggregateController(), null);
@@ -1217,6 +1218,8 @@ public class YamlModelWriter extends YamlModelWriterSupport {
         doWriteAttribute(jo, "executorService", def.getExecutorService(), null);
         doWriteAttribute(jo, "onPrepare", def.getOnPrepare(), null);
         doWriteAttribute(jo, "shareUnitOfWork", def.getShareUnitOfWork(), null);
+        doWriteAttribute(jo, "treeAggregation", def.getTreeAggregation(), null);
+        doWriteAttribute(jo, "maxOutstanding", def.getMaxOutstanding(), null);
         doWriteOutputs(jo, def.getOutputs(), this::doWriteProcessorDefinitionRef);
         return jo;
     }
@@ -1733,6 +1736,8 @@ public class YamlModelWriter extends YamlModelWriterSupport {
         JsonObject jo = new JsonObject();
         doWriteProcessorDefinitionAttributes(jo, def);
         doWriteAttribute(jo, "comparator", def.getComparator(), null);
+        doWriteAttribute(jo, "parallelThreshold", def.getParallelThreshold(), null);
+        doWriteAttribute(jo, "maxInMemorySize", def.getMaxInMemorySize(), null);
         doWriteExpressionNodeElements(jo, def);
         return jo;
     }
@@ -1752,6 +1757,8 @@ public class YamlModelWriter extends YamlModelWriterSupport {
         doWriteAttribute(jo, "executorService", def.getExecutorService(), null);
         doWriteAttribute(jo, "onPrepare", def.getOnPrepare(), null);
         doWriteAttribute(jo, "shareUnitOfWork", def.getShareUnitOfWork(), null);
+        doWriteAttribute(jo, "treeAggregation", def.getTreeAggregation(), null);
+        doWriteAttribute(jo, "maxOutstanding", def.getMaxOutstanding(), null);
         doWriteOutputExpressionNodeElements(jo, def);
         return jo;
     }
@@ -1825,6 +1832,7 @@ public class YamlModelWriter extends YamlModelWriterSupport {
         doWriteAttribute(jo, "callerRunsWhenRejected", def.getCallerRunsWhenRejected(), "true");
         doWriteAttribute(jo, "rejectExecution", def.getRejectExecution(), null);
         doWriteAttribute(jo, "timePeriodMillis", def.getTimePeriodMillis(), "1000");
+        doWriteAttribute(jo, "throttlingStateRepository", def.getThrottlingStateRepository(), null);
         doWriteExpressionNodeElements(jo, def);
         doWriteChildElement(jo, "correlationExpression", def.getCorrelationExpression(), this::doWriteExpressionSubElementDefinition);
         return jo;
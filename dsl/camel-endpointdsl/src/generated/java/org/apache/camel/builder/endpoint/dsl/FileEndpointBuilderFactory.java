@@ -2206,6 +2206,52 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("includeHiddenFiles", includeHiddenFiles);
             return this;
         }
+        /**
+         * Whether the consumer should remember the files that were not picked
+         * up when polling, such as files excluded by the filters or already
+         * consumed by an idempotent consumer, and skip them on the following
+         * polls as long as their last modified timestamp and length are
+         * unchanged. This reduces the overhead of polling directories with many
+         * files where only a few files changes between polls. Only use this
+         * when the filters do not depend on the time or other files. Is not in
+         * use with the doneFileName, fileName or filterFile options, or when
+         * polling with a dynamic file name such as from poll enrich.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param incrementalScan the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder incrementalScan(boolean incrementalScan) {
+            doSetProperty("incrementalScan", incrementalScan);
+            return this;
+        }
+        /**
+         * Whether the consumer should remember the files that were not picked
+         * up when polling, such as files excluded by the filters or already
+         * consumed by an idempotent consumer, and skip them on the following
+         * polls as long as their last modified timestamp and length are
+         * unchanged. This reduces the overhead of polling directories with many
+         * files where only a few files changes between polls. Only use this
+         * when the filters do not depend on the time or other files. Is not in
+         * use with the doneFileName, fileName or filterFile options, or when
+         * polling with a dynamic file name such as from poll enrich.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param incrementalScan the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder incrementalScan(String incrementalScan) {
+            doSetProperty("incrementalScan", incrementalScan);
+            return this;
+        }
         /**
          * A pluggable in-progress repository
          * org.apache.camel.spi.IdempotentRepository. The in-progress repository
@@ -2407,6 +2453,40 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("processStrategy", processStrategy);
             return this;
         }
+        /**
+         * The number of threads to use for listing the directories in parallel
+         * when polling recursively. The files are still validated and processed
+         * in the order of the directory tree by the consumer thread. Is by
+         * default 0, which lists the directories by the consumer thread.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param scanParallelism the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder scanParallelism(int scanParallelism) {
+            doSetProperty("scanParallelism", scanParallelism);
+            return this;
+        }
+        /**
+         * The number of threads to use for listing the directories in parallel
+         * when polling recursively. The files are still validated and processed
+         * in the order of the directory tree by the consumer thread. Is by
+         * default 0, which lists the directories by the consumer thread.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param scanParallelism the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder scanParallelism(String scanParallelism) {
+            doSetProperty("scanParallelism", scanParallelism);
+            return this;
+        }
         /**
          * Whether the starting directory must exist. Mind that the autoCreate
          * option is default enabled, which means the starting directory is
@@ -3159,6 +3239,50 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("chmodDirectory", chmodDirectory);
             return this;
         }
+        /**
+         * Whether to write the file as a hard link to the source file, when the
+         * message body is a file on the same file system, such as from a file
+         * consumer. This avoids copying the file content, but the written file
+         * shares the content with the source file, so any later changes to the
+         * source file are also seen in the written file. Falls back to copying
+         * the file if the hard link cannot be created, and is not used when
+         * chmod is configured, as changing the permissions would also change
+         * the source file.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param copyUsingHardLink the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointProducerBuilder copyUsingHardLink(boolean copyUsingHardLink) {
+            doSetProperty("copyUsingHardLink", copyUsingHardLink);
+            return this;
+        }
+        /**
+         * Whether to write the file as a hard link to the source file, when the
+         * message body is a file on the same file system, such as from a file
+         * consumer. This avoids copying the file content, but the written file
+         * shares the content with the source file, so any later changes to the
+         * source file are also seen in the written file. Falls back to copying
+         * the file if the hard link cannot be created, and is not used when
+         * chmod is configured, as changing the permissions would also change
+         * the source file.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param copyUsingHardLink the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointProducerBuilder copyUsingHardLink(String copyUsingHardLink) {
+            doSetProperty("copyUsingHardLink", copyUsingHardLink);
+            return this;
+        }
         /**
          * Whether or not to eagerly delete any existing target file. This
          * option only applies when you use fileExists=Override and the
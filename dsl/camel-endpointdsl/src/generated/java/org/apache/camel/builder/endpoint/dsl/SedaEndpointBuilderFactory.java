@@ -239,6 +239,44 @@ public interface SedaEndpointBuilderFactory {
             doSetProperty("exchangePattern", exchangePattern);
             return this;
         }
+        /**
+         * Whether to deliver the messages taken from the queue in the same poll
+         * as a single exchange, with the exchanges in a java.util.List as the
+         * message body. This requires maxMessagesPerPoll to be higher than 1,
+         * and should only be used for InOnly messages, as the caller does not
+         * receive a reply.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param groupExchanges the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder groupExchanges(boolean groupExchanges) {
+            doSetProperty("groupExchanges", groupExchanges);
+            return this;
+        }
+        /**
+         * Whether to deliver the messages taken from the queue in the same poll
+         * as a single exchange, with the exchanges in a java.util.List as the
+         * message body. This requires maxMessagesPerPoll to be higher than 1,
+         * and should only be used for InOnly messages, as the caller does not
+         * receive a reply.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param groupExchanges the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder groupExchanges(String groupExchanges) {
+            doSetProperty("groupExchanges", groupExchanges);
+            return this;
+        }
         /**
          * Whether to limit the number of concurrentConsumers to the maximum of
          * 500. By default, an exception will be thrown if an endpoint is
@@ -275,6 +313,46 @@ public interface SedaEndpointBuilderFactory {
             doSetProperty("limitConcurrentConsumers", limitConcurrentConsumers);
             return this;
         }
+        /**
+         * The maximum number of messages a consumer thread takes from the queue
+         * per poll. Setting a higher value allows the consumer thread to take
+         * the messages waiting on the queue in one go, which reduces the
+         * overhead of handing over messages between threads at high rates. The
+         * messages are marked with the batch index and size exchange
+         * properties. Is not in use when virtualThreadPerTask is enabled.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param maxMessagesPerPoll the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder maxMessagesPerPoll(int maxMessagesPerPoll) {
+            doSetProperty("maxMessagesPerPoll", maxMessagesPerPoll);
+            return this;
+        }
+        /**
+         * The maximum number of messages a consumer thread takes from the queue
+         * per poll. Setting a higher value allows the consumer thread to take
+         * the messages waiting on the queue in one go, which reduces the
+         * overhead of handing over messages between threads at high rates. The
+         * messages are marked with the batch index and size exchange
+         * properties. Is not in use when virtualThreadPerTask is enabled.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param maxMessagesPerPoll the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder maxMessagesPerPoll(String maxMessagesPerPoll) {
+            doSetProperty("maxMessagesPerPoll", maxMessagesPerPoll);
+            return this;
+        }
         /**
          * Specifies whether multiple consumers are allowed. If enabled, you can
          * use SEDA for Publish-Subscribe messaging. That is, you can send a
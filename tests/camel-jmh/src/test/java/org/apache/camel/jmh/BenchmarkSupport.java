@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Launches the JMH benchmarks of a given class with a fixed set of options, so the numbers from one release can be
+ * compared with the previous one.
+ * <p/>
+ * The GC profiler is always enabled to report the allocation rate per operation, and the results are stored as JSON in
+ * <tt>target/jmh</tt> so they can be loaded into a JMH visualizer.
+ */
+public final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    public static void launch(Class<?> benchmark) throws Exception {
+        File dir = new File("target/jmh");
+        dir.mkdirs();
+
+        Options opt = new OptionsBuilder()
+                .include(benchmark.getName() + ".*")
+                .forks(Integer.getInteger("camel.jmh.forks", 1))
+                .warmupIterations(Integer.getInteger("camel.jmh.warmupIterations", 3))
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(Integer.getInteger("camel.jmh.measurementIterations", 5))
+                .measurementTime(TimeValue.seconds(1))
+                .timeUnit(TimeUnit.MICROSECONDS)
+                .threads(1)
+                .addProfiler(GCProfiler.class)
+                .shouldFailOnError(true)
+                .shouldDoGC(true)
+                .resultFormat(ResultFormatType.JSON)
+                .result(new File(dir, benchmark.getSimpleName() + ".json").getPath())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
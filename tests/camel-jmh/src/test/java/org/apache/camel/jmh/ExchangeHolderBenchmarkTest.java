@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.DefaultExchangeHolder;
+import org.apache.camel.support.DefaultExchangeHolderCodec;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares writing and reading a {@link DefaultExchangeHolder} using Java serialization, as done by the persistent
+ * aggregation repositories, with the binary format of {@link DefaultExchangeHolderCodec}.
+ */
+public class ExchangeHolderBenchmarkTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkSupport.launch(ExchangeHolderBenchmarkTest.class);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        CamelContext camel;
+        DefaultExchangeHolderCodec codec;
+        DefaultExchangeHolder holder;
+        byte[] serialized;
+        byte[] encoded;
+
+        @Setup(Level.Trial)
+        public void initialize() throws IOException {
+            camel = new DefaultCamelContext();
+            camel.start();
+            codec = new DefaultExchangeHolderCodec();
+
+            Exchange exchange = new DefaultExchange(camel);
+            exchange.getIn().setBody(new byte[1024]);
+            exchange.getIn().setHeader("orderId", "ORD-123456");
+            exchange.getIn().setHeader("customer", "Camel Rider");
+            exchange.getIn().setHeader("amount", 12345L);
+            exchange.getIn().setHeader("priority", 5);
+            exchange.getIn().setHeader("express", true);
+            exchange.setProperty("region", "EMEA");
+            holder = DefaultExchangeHolder.marshal(exchange, true, true);
+
+            serialized = serialize(holder);
+            encoded = codec.encode(holder);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            camel.stop();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void serialize(BenchmarkState state, Blackhole bh) throws IOException {
+        bh.consume(serialize(state.holder));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void deserialize(BenchmarkState state, Blackhole bh) throws Exception {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(state.serialized))) {
+            bh.consume(ois.readObject());
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void encode(BenchmarkState state, Blackhole bh) throws IOException {
+        bh.consume(state.codec.encode(state.holder));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void decode(BenchmarkState state, Blackhole bh) throws IOException {
+        bh.consume(state.codec.decode(state.encoded));
+    }
+
+    private static byte[] serialize(DefaultExchangeHolder holder) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(holder);
+        }
+        return bos.toByteArray();
+    }
+}
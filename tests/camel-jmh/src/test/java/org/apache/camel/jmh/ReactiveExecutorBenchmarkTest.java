@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the scheduling overhead of the {@link org.apache.camel.impl.engine.DefaultReactiveExecutor} when a main task
+ * schedules a number of sub tasks, which is what happens when an exchange is routed through an asynchronous EIP.
+ */
+public class ReactiveExecutorBenchmarkTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkSupport.launch(ReactiveExecutorBenchmarkTest.class);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({ "1", "10" })
+        int tasks;
+
+        CamelContext camel;
+        ReactiveExecutor executor;
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            camel = new DefaultCamelContext();
+            camel.start();
+            executor = camel.getCamelContextExtension().getReactiveExecutor();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            camel.stop();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void scheduleMain(BenchmarkState state, Blackhole bh) {
+        final ReactiveExecutor executor = state.executor;
+        final int tasks = state.tasks;
+        executor.scheduleMain(() -> {
+            for (int i = 0; i < tasks; i++) {
+                executor.schedule(() -> bh.consume(executor));
+            }
+        });
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void scheduleSync(BenchmarkState state, Blackhole bh) {
+        final ReactiveExecutor executor = state.executor;
+        final int tasks = state.tasks;
+        executor.scheduleSync(() -> {
+            for (int i = 0; i < tasks; i++) {
+                executor.schedule(() -> bh.consume(executor));
+            }
+        });
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.Language;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures evaluating pre-parsed simple language expressions and predicates, as done by EIPs such as filter and choice,
+ * and creating a predicate from its text, as done by dynamic EIPs.
+ */
+public class SimpleLanguageBenchmarkTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkSupport.launch(SimpleLanguageBenchmarkTest.class);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        CamelContext camel;
+        Language simple;
+        Exchange exchange;
+        Expression header;
+        Expression template;
+        Predicate predicate;
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            camel = new DefaultCamelContext();
+            camel.start();
+
+            simple = camel.resolveLanguage("simple");
+            header = simple.createExpression("${header.foo}");
+            header.init(camel);
+            template = simple.createExpression("Hello ${body} from ${header.foo}");
+            template.init(camel);
+            predicate = simple.createPredicate("${header.foo} > 5 && ${body} contains 'foo'");
+            predicate.init(camel);
+
+            exchange = new DefaultExchange(camel);
+            exchange.getMessage().setHeader("foo", 123);
+            exchange.getMessage().setBody("Hello foo");
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            camel.stop();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void header(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.header.evaluate(state.exchange, Object.class));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void template(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.template.evaluate(state.exchange, String.class));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void predicate(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.predicate.matches(state.exchange));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void createPredicate(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.simple.createPredicate("${header.foo} > 5 && ${body} contains 'foo'"));
+    }
+}